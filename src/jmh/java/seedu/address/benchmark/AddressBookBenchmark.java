@@ -0,0 +1,109 @@
+package seedu.address.benchmark;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.attendance.Attendance;
+import seedu.address.model.student.Student;
+import seedu.address.model.submission.SubmissionStatus;
+import seedu.address.model.tutorial.Tutorial;
+
+/**
+ * Benchmarks the operations of {@link AddressBook} that commands run most
+ * often, on generated address books of different sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AddressBookBenchmark {
+
+    @Param({ "1000", "10000", "100000" })
+    public int studentCount;
+
+    private AddressBook addressBook;
+    private List<Student> students;
+    private Tutorial[] tutorialOf;
+    private Student newStudent;
+    private int next;
+
+    /**
+     * Generates the address book, and a student that is not in it
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        addressBook = DatasetGenerator.generate(studentCount, DatasetGenerator.DEFAULT_SEED);
+        addressBook.check();
+        students = List.copyOf(addressBook.getStudentList());
+        tutorialOf = students.stream().map(student -> student.getTutorials().iterator().next())
+                        .toArray(Tutorial[]::new);
+        newStudent = DatasetGenerator.student(studentCount, Set.of(tutorialOf[0]));
+    }
+
+    private int nextIndex() {
+        next = (next + 1) % students.size();
+        return next;
+    }
+
+    /**
+     * Adds a student and removes it again, so that the address book keeps its size
+     */
+    @Benchmark
+    public void addStudent() {
+        addressBook.addStudent(newStudent);
+        addressBook.removeStudent(newStudent);
+    }
+
+    @Benchmark
+    public void setSubmissionStatus() throws Exception {
+        int i = nextIndex();
+        var status = (i & 1) == 0 ? SubmissionStatus.SUBMITTED : SubmissionStatus.GRADED;
+        addressBook.setSubmissionStatus(tutorialOf[i].name(), DatasetGenerator.assignmentName(0),
+                        students.get(i).getName().fullName, status);
+    }
+
+    @Benchmark
+    public void markAttendance() throws Exception {
+        int i = nextIndex();
+        addressBook.markAttendance(tutorialOf[i], Attendance.FIRST_WEEK + i % Attendance.NUMBER_OF_WEEKS,
+                        students.get(i));
+    }
+
+    /**
+     * Checks the address book after a change, as is done after every command.
+     * Changes are only recorded to be checked when assertions are enabled.
+     */
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-ea")
+    public boolean checkAfterChange() throws Exception {
+        int i = nextIndex();
+        addressBook.unmarkAttendance(tutorialOf[i], Attendance.FIRST_WEEK, students.get(i));
+        return addressBook.check();
+    }
+
+    /**
+     * Checks every entity in the address book
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Object verify() {
+        return addressBook.verify();
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.student.Student;
+import seedu.address.storage.csv.CsvExporter;
+
+/**
+ * Benchmarks exporting generated students of different numbers to CSV with
+ * {@link CsvExporter}. The rows are written to a writer that discards them, so
+ * that only formatting them is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CsvExportBenchmark {
+
+    @Param({ "1000", "10000", "100000" })
+    public int studentCount;
+
+    private List<Student> students;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        students = List.copyOf(DatasetGenerator.generate(studentCount, DatasetGenerator.DEFAULT_SEED)
+                        .getStudentList());
+    }
+
+    @Benchmark
+    public long exportStudents() throws IOException {
+        return CsvExporter.STUDENTS.write(students, Writer.nullWriter());
+    }
+}
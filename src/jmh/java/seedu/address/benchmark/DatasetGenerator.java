@@ -0,0 +1,141 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.attendance.Attendance;
+import seedu.address.model.student.Email;
+import seedu.address.model.student.Name;
+import seedu.address.model.student.Phone;
+import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentID;
+import seedu.address.model.student.TelegramHandle;
+import seedu.address.model.tutorial.Assignment;
+import seedu.address.model.tutorial.Tutorial;
+import seedu.address.model.uniquelist.exceptions.DuplicateItemException;
+import seedu.address.model.uniquelist.exceptions.ItemNotFoundException;
+import seedu.address.storage.json.JsonAddressBookStorage;
+
+/**
+ * Generates address books of any size for benchmarks, with the same contents
+ * for the same size and seed.
+ * <p>
+ * There is a tutorial for every {@link #STUDENTS_PER_TUTORIAL} students, each
+ * with {@link #ASSIGNMENTS_PER_TUTORIAL} assignments. Every student is in one
+ * tutorial, and some are in a second, has a submission for every assignment of
+ * their tutorials, and was present on about {@link #ATTENDANCE_RATE} of the
+ * weeks.
+ */
+public class DatasetGenerator {
+
+    public static final long DEFAULT_SEED = 2103;
+    public static final int STUDENTS_PER_TUTORIAL = 40;
+    public static final int ASSIGNMENTS_PER_TUTORIAL = 4;
+    public static final double SECOND_TUTORIAL_RATE = 0.2;
+    public static final double ATTENDANCE_RATE = 0.8;
+
+    private static final String CHECKSUM_LETTERS = "ABEHJLMNRUWXY";
+
+    private DatasetGenerator() {
+    }
+
+    /**
+     * Returns an address book of {@code studentCount} students, generated from
+     * {@code seed}
+     */
+    public static AddressBook generate(int studentCount, long seed) {
+        var random = new Random(seed);
+        var addressBook = new AddressBook();
+
+        int tutorialCount = Math.max(1, studentCount / STUDENTS_PER_TUTORIAL);
+        var tutorials = new ArrayList<Tutorial>(tutorialCount);
+        for (int i = 0; i < tutorialCount; i++) {
+            var tutorial = new Tutorial(tutorialName(i));
+            addressBook.addTutorial(tutorial);
+            tutorials.add(tutorial);
+            for (int j = 0; j < ASSIGNMENTS_PER_TUTORIAL; j++) {
+                try {
+                    addressBook.addAssignment(new Assignment(assignmentName(j), tutorial));
+                } catch (ItemNotFoundException | DuplicateItemException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+
+        var students = new ArrayList<Student>(studentCount);
+        for (int i = 0; i < studentCount; i++) {
+            var studentTutorials = new HashSet<Tutorial>();
+            studentTutorials.add(tutorials.get(i % tutorialCount));
+            if (tutorialCount > 1 && random.nextDouble() < SECOND_TUTORIAL_RATE) {
+                studentTutorials.add(tutorials.get((i + 1 + random.nextInt(tutorialCount - 1)) % tutorialCount));
+            }
+            students.add(student(i, studentTutorials));
+        }
+        try {
+            addressBook.addStudents(students);
+        } catch (DuplicateItemException | ItemNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+        addressBook.populateSubmissions();
+
+        for (int week = Attendance.FIRST_WEEK; week <= Attendance.LAST_WEEK; week++) {
+            var present = addressBook.getAttendanceList().stream()
+                            .filter(attendance -> random.nextDouble() < ATTENDANCE_RATE).toList();
+            try {
+                addressBook.setAttendances(present, week, week, true);
+            } catch (ItemNotFoundException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        addressBook.markSaved();
+        return addressBook;
+    }
+
+    /**
+     * Returns the {@code index}-th generated student, in {@code tutorials}. The
+     * identity fields of students with different indices are all different.
+     */
+    public static Student student(int index, Set<Tutorial> tutorials) {
+        return new Student(new Name("Student " + index), new StudentID(studentId(index)),
+                        new Phone(String.valueOf(80_000_000L + index)), new Email("student" + index + "@example.com"),
+                        new TelegramHandle("@student_" + index), new HashSet<>(tutorials));
+    }
+
+    public static String tutorialName(int index) {
+        return "BM-T%05d".formatted(index);
+    }
+
+    public static String assignmentName(int index) {
+        return "Assignment " + (index + 1);
+    }
+
+    private static String studentId(int index) {
+        return "A%07d%c".formatted(index, CHECKSUM_LETTERS.charAt(index % CHECKSUM_LETTERS.length()));
+    }
+
+    /**
+     * Writes a generated address book to a data file.
+     * <p>
+     * Usage: {@code DatasetGenerator STUDENT_COUNT FILE [SEED]}
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: DatasetGenerator STUDENT_COUNT FILE [SEED]");
+            System.exit(1);
+        }
+
+        int studentCount = Integer.parseInt(args[0]);
+        var filePath = Path.of(args[1]);
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : DEFAULT_SEED;
+
+        new JsonAddressBookStorage(filePath).saveAddressBook(generate(studentCount, seed), filePath);
+        System.out.printf("Wrote %d students to %s%n", studentCount, filePath);
+    }
+}
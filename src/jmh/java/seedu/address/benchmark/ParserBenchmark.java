@@ -0,0 +1,41 @@
+package seedu.address.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.AddressBookParser;
+
+/**
+ * Benchmarks parsing commands of different kinds with {@link AddressBookParser}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserBenchmark {
+
+    @Param({ "add n/John Doe i/A0123456Z p/98765432 e/johnd@example.com h/@john_doe",
+        "find alex david", "attendance mark w/4 i/1", "submission set submitted t/CS2103-T1 a/Lab 1 s/Alice",
+        "export students CS2103-T1" })
+    public String userInput;
+
+    private final AddressBookParser parser = new AddressBookParser();
+
+    @Benchmark
+    public Command parseCommand() throws Exception {
+        return parser.parseCommand(userInput);
+    }
+}
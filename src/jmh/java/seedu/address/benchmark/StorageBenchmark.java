@@ -0,0 +1,79 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.json.JsonAddressBookStorage;
+
+/**
+ * Benchmarks reading and writing generated address books of different sizes
+ * with {@link JsonAddressBookStorage}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StorageBenchmark {
+
+    @Param({ "1000", "10000", "100000" })
+    public int studentCount;
+
+    private Path folder;
+    private Path readFile;
+    private Path writeFile;
+    private AddressBook addressBook;
+    private JsonAddressBookStorage storage;
+
+    /**
+     * Generates the address book, and writes it to the file that is read
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("storage-benchmark");
+        readFile = folder.resolve("read.json");
+        writeFile = folder.resolve("write.json");
+        addressBook = DatasetGenerator.generate(studentCount, DatasetGenerator.DEFAULT_SEED);
+        storage = new JsonAddressBookStorage(readFile);
+        storage.saveAddressBook(addressBook, readFile);
+    }
+
+    /**
+     * Deletes the files written
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(readFile);
+        Files.deleteIfExists(writeFile);
+        Files.deleteIfExists(folder);
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook readAddressBook() throws Exception {
+        return storage.readAddressBook(readFile).orElseThrow();
+    }
+
+    @Benchmark
+    public void writeAddressBook() throws IOException {
+        storage.saveAddressBook(addressBook, writeFile);
+    }
+}
@@ -0,0 +1,123 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.json.JsonAddressBookStorage;
+import seedu.address.storage.json.JsonJournalAddressBookStorage;
+import seedu.address.storage.json.JsonUserPrefsStorage;
+
+/**
+ * Creates the config, user preferences and storage that both the application
+ * and {@link BatchRunner} start from.
+ */
+public class AppFactory {
+
+    private static final Logger logger = LogsCenter.getLogger(AppFactory.class);
+
+    private AppFactory() {
+    }
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    public static Config readConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            if (!configOptional.isPresent()) {
+                logger.info("Creating new config file " + configFilePathUsed);
+            }
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataLoadingException e) {
+            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
+                            + " Using default config properties.");
+            initializedConfig = new Config();
+        }
+
+        // Update config file in case it was missing to begin with or there are
+        // new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns the storage of the user preferences configured by {@code config}
+     */
+    public static UserPrefsStorage createUserPrefsStorage(Config config) {
+        return new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs
+     * file path, or a new {@code UserPrefs} with default configuration if errors
+     * occur when reading from the file.
+     */
+    public static UserPrefs readPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using preference file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            if (!prefsOptional.isPresent()) {
+                logger.info("Creating new preference file " + prefsFilePath);
+            }
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataLoadingException e) {
+            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
+                            + " Using default preferences.");
+            initializedPrefs = new UserPrefs();
+        }
+
+        // Update prefs file in case it was missing to begin with or there are
+        // new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+
+    /**
+     * Returns the storage of the data file in {@code userPrefs}, which keeps a
+     * journal of changes if {@code config} enables it
+     */
+    public static Storage createStorage(Config config, UserPrefsStorage userPrefsStorage, UserPrefs userPrefs) {
+        AddressBookStorage addressBookStorage = config.isJournalEnabled()
+                        ? new JsonJournalAddressBookStorage(userPrefs.getAddressBookFilePath())
+                        : new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        return new StorageManager(addressBookStorage, userPrefsStorage);
+    }
+}
@@ -0,0 +1,225 @@
+package seedu.address;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.Storage;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * Runs the commands in a file one line at a time through {@link LogicManager},
+ * without starting the user interface. Blank lines and lines starting with
+ * {@value #COMMENT_PREFIX} are skipped.
+ * <p>
+ * Each command is saved before the next one runs, as in the application, unless
+ * saving is deferred, in which case all changes are saved once after the last
+ * command.
+ */
+public class BatchRunner {
+
+    public static final String BATCH_OPTION = "--batch=";
+    public static final String CONFIG_OPTION = "--config=";
+    public static final String DEFER_SAVE_OPTION = "--defer-save";
+    public static final String COMMENT_PREFIX = "#";
+
+    public static final String MESSAGE_USAGE = "Usage: java -jar taskbook.jar %sFILE [%sFILE] [%s]"
+                    .formatted(BATCH_OPTION, CONFIG_OPTION, DEFER_SAVE_OPTION);
+    public static final String MESSAGE_COMMAND_FAILED = "Line %d: %s: %s";
+    public static final String MESSAGE_SUMMARY = "Ran %d commands in %d ms (%.0f commands/s): %d succeeded, %d failed";
+    public static final String MESSAGE_RUN_FAILED = "Could not run the commands in %s: %s";
+    public static final String MESSAGE_LOAD_FAILED = "Could not load data file %s, so no commands were run";
+    public static final String MESSAGE_SAVE_FAILED = "Could not save data file %s: %s";
+
+    /** Exit status when every command succeeds */
+    public static final int EXIT_SUCCESS = 0;
+    /** Exit status when some commands fail */
+    public static final int EXIT_COMMAND_FAILED = 1;
+    /** Exit status when the commands cannot be run, or their changes cannot be saved */
+    public static final int EXIT_ERROR = 2;
+
+    /**
+     * The outcome of running the commands of a file, and whether their deferred
+     * changes were saved
+     */
+    public record Summary(int succeeded, int failed, long elapsedNanos, boolean isSaved) {
+        public int total() {
+            return succeeded + failed;
+        }
+
+        /**
+         * Returns the summary as shown after the commands are run
+         */
+        public String format() {
+            long elapsedMillis = elapsedNanos / 1_000_000;
+            double throughput = elapsedNanos == 0 ? 0 : total() * 1e9 / elapsedNanos;
+            return MESSAGE_SUMMARY.formatted(total(), elapsedMillis, throughput, succeeded, failed);
+        }
+    }
+
+    private final LogicManager logic;
+    private final PrintStream out;
+    private final PrintStream err;
+
+    /**
+     * Creates a {@code BatchRunner} that runs commands through {@code logic},
+     * printing the summary to {@code out} and failed commands to {@code err}
+     */
+    public BatchRunner(LogicManager logic, PrintStream out, PrintStream err) {
+        requireNonNull(logic);
+        requireNonNull(out);
+        requireNonNull(err);
+        this.logic = logic;
+        this.out = out;
+        this.err = err;
+    }
+
+    /**
+     * Runs the commands read from {@code commands} until there are no more lines
+     * or a command exits, then saves the changes that were deferred. A failure to
+     * save them is printed to the error stream, before the summary.
+     *
+     * @throws IOException
+     *             if {@code commands} cannot be read
+     */
+    public Summary run(BufferedReader commands) throws IOException {
+        requireNonNull(commands);
+
+        int succeeded = 0;
+        int failed = 0;
+        long start = System.nanoTime();
+
+        String line;
+        int lineNumber = 0;
+        while ((line = commands.readLine()) != null) {
+            lineNumber++;
+            var commandText = line.strip();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+
+            try {
+                var result = logic.execute(commandText);
+                succeeded++;
+                if (result.isExit()) {
+                    break;
+                }
+            } catch (CommandException | ParseException e) {
+                failed++;
+                err.println(MESSAGE_COMMAND_FAILED.formatted(lineNumber, commandText, e.getMessage()));
+            }
+        }
+
+        boolean isSaved = saveDeferredChanges();
+
+        var summary = new Summary(succeeded, failed, System.nanoTime() - start, isSaved);
+        out.println(summary.format());
+        return summary;
+    }
+
+    /**
+     * Saves the changes that were deferred, returning false if they could not be
+     * saved
+     */
+    private boolean saveDeferredChanges() {
+        try {
+            logic.saveDeferredChanges();
+            return true;
+        } catch (IOException e) {
+            err.println(MESSAGE_SAVE_FAILED.formatted(logic.getAddressBookFilePath(), e.getMessage()));
+            return false;
+        }
+    }
+
+    /**
+     * Returns true if {@code args} ask for commands to be run from a file rather
+     * than the user interface
+     */
+    public static boolean isBatch(String[] args) {
+        return List.of(args).stream().anyMatch(arg -> arg.startsWith(BATCH_OPTION));
+    }
+
+    /**
+     * Runs the commands in the file given by {@code args} against the data file of
+     * the configured user preferences.
+     *
+     * @return the exit status, one of {@link #EXIT_SUCCESS},
+     *         {@link #EXIT_COMMAND_FAILED} and {@link #EXIT_ERROR}
+     */
+    public static int run(String[] args) {
+        Path commandsPath = null;
+        Path configPath = Config.DEFAULT_CONFIG_FILE;
+        boolean isSaveDeferred = false;
+        for (var arg : args) {
+            if (arg.startsWith(BATCH_OPTION)) {
+                commandsPath = Path.of(arg.substring(BATCH_OPTION.length()));
+            } else if (arg.startsWith(CONFIG_OPTION)) {
+                configPath = Path.of(arg.substring(CONFIG_OPTION.length()));
+            } else if (arg.equals(DEFER_SAVE_OPTION)) {
+                isSaveDeferred = true;
+            } else {
+                System.err.println(MESSAGE_USAGE);
+                return EXIT_ERROR;
+            }
+        }
+        if (commandsPath == null || commandsPath.toString().isEmpty()) {
+            System.err.println(MESSAGE_USAGE);
+            return EXIT_ERROR;
+        }
+
+        Config config = AppFactory.readConfig(configPath);
+        LogsCenter.init(config);
+
+        UserPrefsStorage userPrefsStorage = AppFactory.createUserPrefsStorage(config);
+        UserPrefs userPrefs = AppFactory.readPrefs(userPrefsStorage);
+        Storage storage = AppFactory.createStorage(config, userPrefsStorage, userPrefs);
+
+        // Unlike the application, never start from empty data that would then be
+        // saved over a data file that could not be loaded
+        Model model;
+        try {
+            model = new ModelManager(storage.readAddressBook().orElseGet(AddressBook::new), userPrefs);
+        } catch (DataLoadingException e) {
+            System.err.println(MESSAGE_LOAD_FAILED.formatted(storage.getAddressBookFilePath()));
+            return EXIT_ERROR;
+        }
+
+        var logic = new LogicManager(model, storage);
+        logic.setSaveDeferred(isSaveDeferred);
+
+        Summary summary;
+        try (var commands = Files.newBufferedReader(commandsPath)) {
+            summary = new BatchRunner(logic, System.out, System.err).run(commands);
+        } catch (IOException e) {
+            System.err.println(MESSAGE_RUN_FAILED.formatted(commandsPath, e.getMessage()));
+            return EXIT_ERROR;
+        }
+        if (!summary.isSaved()) {
+            return EXIT_ERROR;
+        }
+
+        try {
+            storage.flushAddressBook(model.getAddressBook());
+        } catch (IOException e) {
+            System.err.println(MESSAGE_SAVE_FAILED.formatted(storage.getAddressBookFilePath(), e.getMessage()));
+            return EXIT_ERROR;
+        }
+
+        return summary.failed() == 0 ? EXIT_SUCCESS : EXIT_COMMAND_FAILED;
+    }
+}
@@ -26,6 +26,10 @@ public class Main {
     private static Logger logger = LogsCenter.getLogger(Main.class);
 
     public static void main(String[] args) {
+        // Commands run from a file do not need JavaFX at all
+        if (BatchRunner.isBatch(args)) {
+            System.exit(BatchRunner.run(args));
+        }
 
         // As per
         // https://github.com/openjdk/jfx/blob/master/doc-files/release-notes-16.md
@@ -1,33 +1,31 @@
 package seedu.address;
 
 import java.io.IOException;
-import java.nio.file.Path;
+import java.util.EnumSet;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
-import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
 import seedu.address.model.AddressBook;
+import seedu.address.model.ChangeTracker;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
-import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BackgroundSaver;
 import seedu.address.storage.Storage;
-import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
-import seedu.address.storage.json.JsonAddressBookStorage;
-import seedu.address.storage.json.JsonUserPrefsStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -43,6 +41,7 @@ public class MainApp extends Application {
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
+    protected BackgroundSaver saver;
     protected Model model;
     protected Config config;
 
@@ -52,17 +51,23 @@ public class MainApp extends Application {
         super.init();
 
         AppParameters appParameters = AppParameters.parse(getParameters());
-        config = initConfig(appParameters.getConfigPath());
+        config = AppFactory.readConfig(appParameters.getConfigPath());
         initLogging(config);
 
-        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
-        UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        UserPrefsStorage userPrefsStorage = AppFactory.createUserPrefsStorage(config);
+        UserPrefs userPrefs = AppFactory.readPrefs(userPrefsStorage);
+        storage = AppFactory.createStorage(config, userPrefsStorage, userPrefs);
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage);
+        // Writes are reported on the background thread, and shown on the application thread
+        saver = new BackgroundSaver((bytes, nanos) -> {
+            model.getCommandMetrics().recordWrite(bytes, nanos);
+            Platform.runLater((
+            ) -> logic.setSaveFailure(Optional.empty()));
+        }, e -> Platform.runLater((
+        ) -> logic.setSaveFailure(Optional.of(e))));
+        logic = new LogicManager(model, storage, saver);
 
         ui = new UiManager(logic);
     }
@@ -103,79 +108,6 @@ public class MainApp extends Application {
         LogsCenter.init(config);
     }
 
-    /**
-     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
-     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
-     * if {@code configFilePath} is null.
-     */
-    protected Config initConfig(Path configFilePath) {
-        Config initializedConfig;
-        Path configFilePathUsed;
-
-        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
-
-        if (configFilePath != null) {
-            logger.info("Custom Config file specified " + configFilePath);
-            configFilePathUsed = configFilePath;
-        }
-
-        logger.info("Using config file : " + configFilePathUsed);
-
-        try {
-            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
-            if (!configOptional.isPresent()) {
-                logger.info("Creating new config file " + configFilePathUsed);
-            }
-            initializedConfig = configOptional.orElse(new Config());
-        } catch (DataLoadingException e) {
-            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
-                            + " Using default config properties.");
-            initializedConfig = new Config();
-        }
-
-        // Update config file in case it was missing to begin with or there are
-        // new/unused fields
-        try {
-            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
-        }
-        return initializedConfig;
-    }
-
-    /**
-     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs
-     * file path, or a new {@code UserPrefs} with default configuration if errors
-     * occur when reading from the file.
-     */
-    protected UserPrefs initPrefs(UserPrefsStorage storage) {
-        Path prefsFilePath = storage.getUserPrefsFilePath();
-        logger.info("Using preference file : " + prefsFilePath);
-
-        UserPrefs initializedPrefs;
-        try {
-            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
-            if (!prefsOptional.isPresent()) {
-                logger.info("Creating new preference file " + prefsFilePath);
-            }
-            initializedPrefs = prefsOptional.orElse(new UserPrefs());
-        } catch (DataLoadingException e) {
-            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
-                            + " Using default preferences.");
-            initializedPrefs = new UserPrefs();
-        }
-
-        // Update prefs file in case it was missing to begin with or there are
-        // new/unused fields
-        try {
-            storage.saveUserPrefs(initializedPrefs);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
-        }
-
-        return initializedPrefs;
-    }
-
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
@@ -190,5 +122,31 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+
+        // Changes left unsaved, such as by a failed background save, are saved in full
+        // before the app exits
+        boolean isSaveNeeded;
+        try {
+            saver.shutdown();
+            isSaveNeeded = !model.getUnsavedChanges().isEmpty();
+        } catch (IOException e) {
+            logger.severe("Failed to save data file in the background " + StringUtil.getDetails(e));
+            isSaveNeeded = true;
+        }
+
+        if (isSaveNeeded) {
+            try {
+                storage.saveAddressBook(model.getAddressBook(), EnumSet.allOf(ChangeTracker.Entity.class));
+                model.markAddressBookSaved();
+            } catch (IOException e) {
+                logger.severe("Failed to save data file " + StringUtil.getDetails(e));
+            }
+        }
+
+        try {
+            storage.flushAddressBook(model.getAddressBook());
+        } catch (IOException e) {
+            logger.severe("Failed to save data file " + StringUtil.getDetails(e));
+        }
     }
 }
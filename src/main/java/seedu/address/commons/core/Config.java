@@ -17,6 +17,7 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean isJournalEnabled = false;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +35,18 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns true if changes to the address book are appended to a journal,
+     * instead of rewriting the data file on every change.
+     */
+    public boolean isJournalEnabled() {
+        return isJournalEnabled;
+    }
+
+    public void setJournalEnabled(boolean isJournalEnabled) {
+        this.isJournalEnabled = isJournalEnabled;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,18 +60,19 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                        && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                        && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                        && isJournalEnabled == otherConfig.isJournalEnabled;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, isJournalEnabled);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("logLevel", logLevel).add("userPrefsFilePath", userPrefsFilePath)
-                        .toString();
+                        .add("isJournalEnabled", isJournalEnabled).toString();
     }
 
 }
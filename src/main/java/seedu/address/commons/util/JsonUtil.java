@@ -11,6 +11,7 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -123,6 +124,27 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation
+     * on a single line
+     *
+     * @see #toJsonString(Object)
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Returns a parser reading the JSON data in {@code file} as it is needed, which
+     * can bind the values it reaches to instances of classes.
+     *
+     * @see JsonParser#readValueAs(Class)
+     */
+    public static JsonParser createParser(Path file) throws IOException {
+        requireNonNull(file);
+        return objectMapper.getFactory().createParser(file.toFile());
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -1,8 +1,11 @@
 package seedu.address.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Optional;
 
 import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ReadOnlyStringProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
@@ -62,6 +65,18 @@ public interface Logic {
      */
     ObjectProperty<Student> getSelectedStudent();
 
+    /**
+     * Returns the message of the latest failure to save the data in the
+     * background, or an empty string if the latest save succeeded.
+     */
+    ReadOnlyStringProperty getSaveFailure();
+
+    /**
+     * Sets the failure of the latest background save, or clears it if
+     * {@code failure} is empty. Must be called on the JavaFX application thread.
+     */
+    void setSaveFailure(Optional<IOException> failure);
+
     /**
      * Returns the user prefs' address book file path.
      */
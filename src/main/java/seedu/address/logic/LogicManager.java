@@ -1,19 +1,29 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.Optional;
+import java.util.Set;
 import java.util.logging.Logger;
 
 import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ReadOnlyStringProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.logic.metrics.CommandMetrics.Phase;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ChangeTracker;
 import seedu.address.model.Model;
 import seedu.address.model.NavigationMode;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -22,6 +32,7 @@ import seedu.address.model.student.Student;
 import seedu.address.model.submission.Submission;
 import seedu.address.model.tutorial.Tutorial;
 import seedu.address.model.tutorial.TutorialWithStudents;
+import seedu.address.storage.BackgroundSaver;
 import seedu.address.storage.Storage;
 
 /**
@@ -33,41 +44,138 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT = "Could not save data to file %s due to "
                     + "insufficient permissions to write to the file or the folder.";
 
+    public static final String BACKGROUND_SAVE_FAILED_FORMAT = "Could not save data due to the following error: %s. "
+                    + "All data will be saved again after the next command.";
+
+    // The model is only checked after each command when assertions are enabled
+    private static final boolean IS_MODEL_CHECKED = LogicManager.class.desiredAssertionStatus();
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
+    private final BackgroundSaver saver;
     private final AddressBookParser addressBookParser;
+    private final CommandMetrics metrics;
+    private final StringProperty saveFailure = new SimpleStringProperty("");
+    private boolean isSaveDeferred = false;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and
-     * {@code Storage}.
+     * {@code Storage}, which saves the address book before each command returns.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, null);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and
+     * {@code Storage}, which leaves writing the address book to {@code saver}
+     * if it is not null. Failures to write should then be passed to
+     * {@link #setSaveFailure(Optional)}, and the address book is saved again on
+     * the next command.
+     */
+    public LogicManager(Model model, Storage storage, BackgroundSaver saver) {
         this.model = model;
         this.storage = storage;
+        this.saver = saver;
         addressBookParser = new AddressBookParser();
+        metrics = model.getCommandMetrics();
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        CommandResult commandResult;
+        // Only commands that parse are timed, so that each is recorded under its kind
+        var sample = metrics.start();
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
-
-        assert model.check();
+        sample.lap(Phase.PARSE);
 
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            CommandResult commandResult = command.execute(model);
+            sample.lap(Phase.EXECUTE);
+
+            if (IS_MODEL_CHECKED) {
+                assert model.check();
+                sample.lap(Phase.CHECK);
+            }
+
+            // A failed background save leaves the whole address book unsaved, so that
+            // it is saved again even by commands that only read it
+            markUnsavedIfSaveFailed();
+
+            // Commands that only read the address book leave nothing to save, and
+            // deferred changes are saved together by saveDeferredChanges
+            var changes = model.getUnsavedChanges();
+            if (changes.isEmpty() || isSaveDeferred) {
+                return commandResult;
+            }
+
+            try {
+                save(changes);
+            } catch (AccessDeniedException e) {
+                throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            } catch (IOException ioe) {
+                throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            }
+            sample.lap(Phase.SAVE);
+
+            return commandResult;
+        } finally {
+            metrics.record(command.getClass().getSimpleName(), sample);
+        }
+    }
+
+    /**
+     * Sets whether commands leave their changes unsaved until
+     * {@link #saveDeferredChanges()} is called, so that the changes of many
+     * commands are saved at once.
+     */
+    public void setSaveDeferred(boolean isSaveDeferred) {
+        this.isSaveDeferred = isSaveDeferred;
+    }
+
+    /**
+     * Saves the changes that commands have left unsaved while saving was deferred.
+     */
+    public void saveDeferredChanges() throws IOException {
+        var changes = model.getUnsavedChanges();
+        if (!changes.isEmpty()) {
+            save(changes);
+        }
+    }
+
+    private void save(Set<ChangeTracker.Entity> changes) throws IOException {
+        if (saver == null) {
+            metrics.recordSave(storage.saveAddressBook(model.getAddressBook(), changes));
+            model.markAddressBookSaved();
+            return;
+        }
+
+        saver.submit(storage.prepareSave(model.getAddressBook(), changes));
+        model.markAddressBookSaved();
+    }
+
+    /**
+     * Marks the whole address book as unsaved if the background saver failed to
+     * write an earlier save
+     */
+    private void markUnsavedIfSaveFailed() {
+        if (saver != null && saver.takeFailure().isPresent()) {
+            model.markAddressBookUnsaved();
         }
+    }
 
-        return commandResult;
+    @Override
+    public void setSaveFailure(Optional<IOException> failure) {
+        requireNonNull(failure);
+        saveFailure.set(failure.map(e -> BACKGROUND_SAVE_FAILED_FORMAT.formatted(e.getMessage())).orElse(""));
+    }
+
+    @Override
+    public ReadOnlyStringProperty getSaveFailure() {
+        return saveFailure;
     }
 
     @Override
@@ -28,6 +28,7 @@ public class Messages {
     public static final String MESSAGE_TUTORIAL_INDEX_NOT_FOUND = "Tutorial index '%s' is not found";
     public static final String MESSAGE_ASSIGNMENT_NOT_FOUND = "Assignment '%s' is not found in Tutorial '%s'";
     public static final String MESSAGE_STUDENT_NOT_FOUND = "Student '%s' is not found";
+    public static final String MESSAGE_ATTENDANCE_NOT_FOUND = "Attendance of '%s' in Tutorial '%s' is not found";
 
     /**
      * Returns an error message indicating the duplicate prefixes.
@@ -37,7 +37,8 @@ public class AddCommand extends Command {
                     + "%sCS2103_T01 %sCS2106_T02".formatted(PREFIX_TUTORIAL_NAME, PREFIX_TUTORIAL_NAME);
 
     public static final String MESSAGE_SUCCESS = "New student added: %1$s";
-    public static final String MESSAGE_DUPLICATE_STUDENT = "This student already exists in the address book";
+    public static final String MESSAGE_DUPLICATE_STUDENT = "This student already exists in the address book.";
+    public static final String MESSAGE_DUPLICATE_STUDENT_CONFLICT = MESSAGE_DUPLICATE_STUDENT + "\n%1$s.";
     public static final String MESSAGE_TUTORIAL_NOT_FOUND = "One of the tutorial groups the student "
                     + "is added to does not exist: ";
 
@@ -55,8 +56,9 @@ public class AddCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        if (model.hasStudent(toAdd)) {
-            throw new CommandException(MESSAGE_DUPLICATE_STUDENT);
+        var conflict = model.findStudentConflict(toAdd);
+        if (conflict.isPresent()) {
+            throw new CommandException(MESSAGE_DUPLICATE_STUDENT_CONFLICT.formatted(conflict.get()));
         }
 
         String resultMessage = MESSAGE_SUCCESS;
@@ -56,6 +56,7 @@ public class EditCommand extends Command {
     public static final String MESSAGE_EDIT_STUDENT_SUCCESS = "Edited Student: %1$s";
     public static final String MESSAGE_NOT_EDITED = "At least one field to edit must be provided.";
     public static final String MESSAGE_DUPLICATE_STUDENT = "This student already exists in the address book.";
+    public static final String MESSAGE_DUPLICATE_STUDENT_CONFLICT = MESSAGE_DUPLICATE_STUDENT + "\n%1$s.";
     public static final String MESSAGE_TUTORIAL_NOT_FOUND = "One of the tutorial groups the student "
                     + "is edited into does not exist: ";
 
@@ -99,7 +100,10 @@ public class EditCommand extends Command {
         try {
             model.setStudent(studentToEdit, editedStudent);
         } catch (DuplicateItemException e) {
-            throw new CommandException(MESSAGE_DUPLICATE_STUDENT);
+            // The exception describes which student and field the edit collides with
+            throw new CommandException(e.getMessage() == null
+                            ? MESSAGE_DUPLICATE_STUDENT
+                            : MESSAGE_DUPLICATE_STUDENT_CONFLICT.formatted(e.getMessage()));
         } catch (ItemNotFoundException e) {
             // Student is guaranteed to exist
             throw new IllegalStateException(Messages.MESSAGE_UNKNOWN_ERROR);
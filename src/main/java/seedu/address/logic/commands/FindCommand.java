@@ -1,14 +1,19 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SEARCH;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TUTORIAL_NAME;
 
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.student.NameContainsKeywordsPredicate;
+import seedu.address.model.student.Student;
 import seedu.address.model.tutorial.StudentContainsTutorialKeywordsPredicate;
 
 /**
@@ -23,12 +28,17 @@ public class FindCommand extends Command {
                     + "the specified keywords (case-insensitive) or who are in the specified tutorial group(s), "
                     + "and displays them as a list with index numbers.\n" + "Parameters: [" + PREFIX_TUTORIAL_NAME
                     + "TUTORIAL]...\n" + "Example: " + COMMAND_WORD + " alice bob \n\t\t find " + PREFIX_TUTORIAL_NAME
-                    + "CS2103_T01 ";
+                    + "CS2103_T01 \n"
+                    + "With " + PREFIX_SEARCH + ", finds students whose name, student ID, email or Telegram handle "
+                    + "starts with or nearly matches the keywords, best matches first.\n" + "Example: " + COMMAND_WORD
+                    + " " + PREFIX_SEARCH + "alcie a0743";
 
     private final NameContainsKeywordsPredicate namePredicate;
 
     private final StudentContainsTutorialKeywordsPredicate tutorialPredicate;
 
+    private final List<String> searchKeywords;
+
     /**
      * Constructs a {@code FindCommand} with the specified
      * {@code NameContainsKeywordsPredicate} and
@@ -41,18 +51,51 @@ public class FindCommand extends Command {
      */
     public FindCommand(NameContainsKeywordsPredicate namePredicate,
                     StudentContainsTutorialKeywordsPredicate tutorialPredicate) {
+        this(namePredicate, tutorialPredicate, null);
+    }
+
+    /**
+     * Constructs a {@code FindCommand} that also searches for students by
+     * {@code searchKeywords}, ranking them by how well they match.
+     *
+     * @param searchKeywords
+     *            Keywords to match against the start of, or nearly match, the
+     *            names, student IDs, emails and Telegram handles of students.
+     *            Takes the place of {@code namePredicate} if not null.
+     */
+    public FindCommand(NameContainsKeywordsPredicate namePredicate,
+                    StudentContainsTutorialKeywordsPredicate tutorialPredicate, List<String> searchKeywords) {
         this.namePredicate = namePredicate;
         this.tutorialPredicate = tutorialPredicate;
+        this.searchKeywords = searchKeywords == null ? null : List.copyOf(searchKeywords);
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
+        if (searchKeywords != null) {
+            List<Student> rankedStudents = model.searchStudents(searchKeywords);
+            if (tutorialPredicate != null) {
+                rankedStudents = rankedStudents.stream()
+                                .filter(student -> student.getTutorials().stream().anyMatch(tutorialPredicate))
+                                .toList();
+            }
+            model.updateFilteredStudentListByRank(rankedStudents);
+            assert model.check();
+            return new CommandResult(String.format(Messages.MESSAGE_STUDENTS_LISTED_OVERVIEW,
+                            model.getFilteredStudentList().size()));
+        }
+
+        // Students matching the names are looked up in an index rather than by
+        // testing every student against every keyword
+        Set<Student> studentsWithName = namePredicate == null ? Set.of()
+                        : model.findStudentsByName(namePredicate.getKeywords());
+        Predicate<Student> hasName = studentsWithName::contains;
         if (namePredicate != null && tutorialPredicate != null) {
             model.updateFilteredStudentList(
-                            namePredicate.and(student -> student.getTutorials().stream().anyMatch(tutorialPredicate)));
+                            hasName.and(student -> student.getTutorials().stream().anyMatch(tutorialPredicate)));
         } else if (namePredicate != null) {
-            model.updateFilteredStudentList(namePredicate);
+            model.updateFilteredStudentList(hasName);
         } else if (tutorialPredicate != null) {
             model.updateFilteredStudentsByTutorialList(tutorialPredicate);
         }
@@ -75,12 +118,13 @@ public class FindCommand extends Command {
 
         FindCommand otherFindCommand = (FindCommand) other;
         return Objects.equals(namePredicate, otherFindCommand.namePredicate)
-                        && Objects.equals(tutorialPredicate, otherFindCommand.tutorialPredicate);
+                        && Objects.equals(tutorialPredicate, otherFindCommand.tutorialPredicate)
+                        && Objects.equals(searchKeywords, otherFindCommand.searchKeywords);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("namePredicate", namePredicate).add("tutorialPredicate", tutorialPredicate)
-                        .toString();
+                        .add("searchKeywords", searchKeywords).toString();
     }
 }
@@ -0,0 +1,194 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentIdentityIndex;
+import seedu.address.model.tutorial.Tutorial;
+import seedu.address.model.uniquelist.UniqueList;
+import seedu.address.model.uniquelist.exceptions.DuplicateItemException;
+import seedu.address.model.uniquelist.exceptions.ItemNotFoundException;
+import seedu.address.storage.csv.CsvStudentReader;
+
+/**
+ * Imports students from a CSV file, creating the tutorials they are in if these
+ * do not exist yet.
+ * <p>
+ * The file is streamed through a pipeline: rows are read one at a time and
+ * validated in parallel, then rows sharing an identity field with an existing
+ * student or an earlier row are left out, and the remaining students are added
+ * all at once. Rows that are left out are reported with their row numbers.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = """
+                    Usage: %s f/FILE
+                    FILE is a CSV file with the columns name, id, phone, email, handle and optionally tutorials, \
+                    separated by semicolons. Relative paths are from the folder of the data file."""
+                    .formatted(COMMAND_WORD);
+
+    public static final String MESSAGE_SUCCESS = "Imported %d of %d students from %s";
+    public static final String MESSAGE_TUTORIALS_CREATED = "Created tutorials: %s";
+    public static final String MESSAGE_ROW_ERROR = "Row %d: %s";
+    public static final String MESSAGE_DUPLICATE_ROW = "'%s' on row %d has the same %s";
+    public static final String MESSAGE_MORE_ERRORS = "...and %d more rows left out";
+    public static final String MESSAGE_FILE_ERROR = "Could not import %s: %s";
+
+    public static final int MAX_ERRORS_SHOWN = 20;
+
+    private static final Logger logger = LogsCenter.getLogger(ImportCommand.class);
+
+    private final Path filePath;
+
+    /**
+     * A row of the file after validation, holding either a student or the reason
+     * the row is invalid
+     */
+    private record ValidatedRow(long number, Student student, String error) {
+    }
+
+    /**
+     * Creates an {@link ImportCommand} to import the students in the CSV file at
+     * {@code filePath}
+     */
+    public ImportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        Path path = model.getAddressBookFilePath().resolveSibling(filePath);
+        List<ValidatedRow> rows;
+        try (var reader = CsvStudentReader.open(path)) {
+            rows = reader.rows().parallel().map(ImportCommand::validate).toList();
+        } catch (IOException e) {
+            logger.info("Could not import (" + path + "): " + e.getMessage());
+            throw new CommandException(MESSAGE_FILE_ERROR.formatted(filePath, e.getMessage()));
+        } catch (UncheckedIOException e) {
+            logger.info("Could not import (" + path + "): " + e.getCause().getMessage());
+            throw new CommandException(MESSAGE_FILE_ERROR.formatted(filePath, e.getCause().getMessage()));
+        }
+
+        var errors = new ArrayList<String>();
+        var toAdd = removeDuplicates(model, rows, errors);
+
+        var newTutorials = toAdd.stream().flatMap(s -> s.getTutorials().stream()).filter(t -> !model.hasTutorial(t))
+                        .collect(Collectors.toCollection(LinkedHashSet::new));
+        newTutorials.forEach(model::addTutorial);
+        try {
+            model.addStudents(toAdd);
+        } catch (DuplicateItemException | ItemNotFoundException e) {
+            // Duplicate rows were left out and missing tutorials were just created
+            throw new IllegalStateException(Messages.MESSAGE_UNKNOWN_ERROR);
+        }
+
+        assert model.check();
+        return new CommandResult(formatResult(rows.size(), toAdd.size(), newTutorials, errors));
+    }
+
+    private static ValidatedRow validate(CsvStudentReader.Row row) {
+        try {
+            return new ValidatedRow(row.number(), row.student().toModelType(), null);
+        } catch (IllegalValueException e) {
+            return new ValidatedRow(row.number(), null, e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the students of the valid rows that do not share an identity field
+     * with an existing student or a student of an earlier row, in the order of
+     * their rows. Rows that are left out are described in {@code errors}.
+     */
+    private static List<Student> removeDuplicates(Model model, List<ValidatedRow> rows, List<String> errors) {
+        var students = new UniqueList<Student>();
+        var imported = new StudentIdentityIndex(students);
+        Map<Student, Long> rowNumbers = new IdentityHashMap<>();
+
+        for (var row : rows) {
+            if (row.student() == null) {
+                errors.add(MESSAGE_ROW_ERROR.formatted(row.number(), row.error()));
+                continue;
+            }
+
+            var student = row.student();
+            var existingConflict = model.findStudentConflict(student);
+            if (existingConflict.isPresent()) {
+                errors.add(MESSAGE_ROW_ERROR.formatted(row.number(), existingConflict.get()));
+                continue;
+            }
+
+            var rowConflict = imported.findConflict(student);
+            if (rowConflict.isPresent()) {
+                var earlierStudent = rowConflict.get().existingStudent();
+                errors.add(MESSAGE_ROW_ERROR.formatted(row.number(), MESSAGE_DUPLICATE_ROW.formatted(
+                                earlierStudent.getName(), rowNumbers.get(earlierStudent), rowConflict.get().field())));
+                continue;
+            }
+
+            rowNumbers.put(student, row.number());
+            students.add(student);
+        }
+
+        return students;
+    }
+
+    private String formatResult(int rowCount, int importedCount, Collection<Tutorial> newTutorials,
+                    List<String> errors) {
+        var lines = new ArrayList<String>();
+        lines.add(MESSAGE_SUCCESS.formatted(importedCount, rowCount, filePath));
+
+        if (!newTutorials.isEmpty()) {
+            lines.add(MESSAGE_TUTORIALS_CREATED.formatted(
+                            newTutorials.stream().map(Tutorial::name).collect(Collectors.joining(", "))));
+        }
+
+        errors.stream().limit(MAX_ERRORS_SHOWN).forEach(lines::add);
+        if (errors.size() > MAX_ERRORS_SHOWN) {
+            lines.add(MESSAGE_MORE_ERRORS.formatted(errors.size() - MAX_ERRORS_SHOWN));
+        }
+
+        return String.join("\n", lines);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand otherImportCommand)) {
+            return false;
+        }
+
+        return filePath.equals(otherImportCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("filePath", filePath).toString();
+    }
+}
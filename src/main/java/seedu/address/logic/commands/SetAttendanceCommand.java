@@ -0,0 +1,141 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.NavigationMode;
+import seedu.address.model.attendance.Attendance;
+import seedu.address.model.tutorial.Tutorial;
+import seedu.address.model.uniquelist.exceptions.ItemNotFoundException;
+
+/**
+ * Marks or unmarks the attendance of students over a range of weeks. The
+ * attendance records are picked by their indices in the shown attendance list,
+ * or by the tutorials they are in, and are all changed at once.
+ */
+public abstract class SetAttendanceCommand extends Command {
+
+    public static final String MESSAGE_TUTORIAL_NOT_FOUND = "Tutorial not found";
+
+    public static final String MESSAGE_INVALID_WEEK = "Weeks are from 3 to 13.\nIf you are making up for tutorials, "
+                    + "enter the week that is being accounted for.";
+
+    public static final String MESSAGE_ATTENDANCE_NOT_FOUND = "Attendance at index %d is out of bounds\n";
+
+    public static final String MESSSAGE_SWITCHED_TO_ATTENDANCE = "Unable to mark attendance "
+                    + "due to being in wrong view!\nListing all attendances";
+
+    public static final int START_WEEK = Attendance.FIRST_WEEK;
+    public static final int END_WEEK = Attendance.LAST_WEEK;
+
+    private final int fromWeek;
+    private final int toWeek;
+    private final List<Index> indices;
+    private final List<Tutorial> tutorials;
+    private final boolean isPresent;
+
+    /**
+     * Creates a {@link SetAttendanceCommand} for the attendance records at
+     * {@code indices} and the records of {@code tutorials}, from week
+     * {@code fromWeek} to {@code toWeek}, inclusive
+     */
+    protected SetAttendanceCommand(int fromWeek, int toWeek, List<Index> indices, List<Tutorial> tutorials,
+                    boolean isPresent) {
+        requireNonNull(indices);
+        requireNonNull(tutorials);
+        this.fromWeek = fromWeek;
+        this.toWeek = toWeek;
+        this.indices = List.copyOf(indices);
+        this.tutorials = List.copyOf(tutorials);
+        this.isPresent = isPresent;
+    }
+
+    /**
+     * Returns the message shown when every attendance record was found
+     */
+    protected abstract String getSuccessMessage();
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        assert fromWeek >= START_WEEK;
+        assert toWeek <= END_WEEK;
+        assert fromWeek <= toWeek;
+
+        if (model.getNavigationMode() != NavigationMode.ATTENDANCE) {
+            model.updateFilteredAttendanceList(Model.PREDICATE_SHOW_ALL_ATTENDANCES);
+            return new CommandResult(MESSSAGE_SWITCHED_TO_ATTENDANCE, NavigationMode.ATTENDANCE);
+        }
+
+        List<Attendance> shownAttendances = model.getFilteredAttendanceList();
+        var errMsg = new StringBuilder();
+
+        // Attendance records are compared by reference, as they are edited in place
+        Set<Attendance> picked = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<Attendance> attendancesToEdit = new ArrayList<>();
+        for (Index index : indices) {
+            if (index.getZeroBased() >= shownAttendances.size()) {
+                errMsg.append(MESSAGE_ATTENDANCE_NOT_FOUND.formatted(index.getOneBased()));
+                continue;
+            }
+
+            Attendance attendance = shownAttendances.get(index.getZeroBased());
+            if (picked.add(attendance)) {
+                attendancesToEdit.add(attendance);
+            }
+        }
+        for (Tutorial tutorial : tutorials) {
+            try {
+                model.getAttendancesInTutorial(tutorial).stream().filter(picked::add)
+                                .forEach(attendancesToEdit::add);
+            } catch (ItemNotFoundException e) {
+                errMsg.append("%s: %s\n".formatted(MESSAGE_TUTORIAL_NOT_FOUND, tutorial.name()));
+            }
+        }
+
+        try {
+            model.setAttendances(attendancesToEdit, fromWeek, toWeek, isPresent);
+        } catch (ItemNotFoundException e) {
+            // This should not be possible
+            throw new IllegalStateException(Messages.MESSAGE_UNKNOWN_ERROR);
+        }
+
+        String msg = (errMsg.isEmpty()) ? getSuccessMessage() : "Warning: %s".formatted(errMsg.toString());
+
+        assert model.check();
+        return new CommandResult(msg, NavigationMode.ATTENDANCE);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // Marking and unmarking the same attendances are different commands
+        if (other == null || other.getClass() != getClass()) {
+            return false;
+        }
+
+        SetAttendanceCommand otherCommand = (SetAttendanceCommand) other;
+        return fromWeek == otherCommand.fromWeek && toWeek == otherCommand.toWeek
+                        && indices.equals(otherCommand.indices) && tutorials.equals(otherCommand.tutorials);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("fromWeek", fromWeek).add("toWeek", toWeek).add("indices", indices)
+                        .add("tutorials", tutorials).toString();
+    }
+}
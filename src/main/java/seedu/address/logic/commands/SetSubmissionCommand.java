@@ -2,10 +2,11 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -15,13 +16,18 @@ import seedu.address.model.submission.SubmissionStatus;
 import seedu.address.model.uniquelist.exceptions.ItemNotFoundException;
 
 /**
- * Creates a new submission
+ * Sets the submission status of students for an assignment, creating their
+ * submissions if needed. The submissions of all the students are set at once.
  */
 public class SetSubmissionCommand extends Command {
 
     public static final String COMMAND_WORD = "set";
 
     public static final String MESSAGE_SUCCESS = "Submission successfully set";
+    public static final String MESSAGE_SUCCESS_ALL = "Successfully set submission status for %d students in '%s'";
+
+    /** Student name standing for every student in the tutorial */
+    public static final String ALL_STUDENTS = "*";
     private static final String MESSAGE_STUDENT_NOT_FOUND = "Cannot find student";
 
     private final String tutorialName;
@@ -48,30 +54,42 @@ public class SetSubmissionCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        var result = new ArrayList<String>();
-        var hasError = false;
-        for (var studentName : new LinkedHashSet<>(studentList)) {
-            try {
-                model.setSubmissionStatus(tutorialName, assignmentName, studentName, status);
-            } catch (ItemNotFoundException | CommandException e) {
-                result.add(e.getMessage());
-                hasError = true;
-                continue;
-            }
-
-            result.add("Successfully set submission status for '%s'".formatted(studentName));
+        if (studentList.contains(ALL_STUDENTS)) {
+            return setForAllStudents(model);
+        }
+
+        var studentNames = new LinkedHashSet<>(studentList);
+        Map<String, String> errors;
+        try {
+            errors = model.setSubmissionStatuses(tutorialName, assignmentName, studentNames, status);
+        } catch (ItemNotFoundException e) {
+            throw new CommandException(e.getMessage());
         }
 
         assert model.check();
 
-        var msg = String.join("\n", result);
-        if (hasError) {
+        var msg = studentNames.stream().map(studentName -> errors.getOrDefault(studentName,
+                        "Successfully set submission status for '%s'".formatted(studentName)))
+                        .collect(Collectors.joining("\n"));
+        if (!errors.isEmpty()) {
             throw new CommandException(msg);
         }
 
         return new CommandResult(msg, NavigationMode.UNCHANGED);
     }
 
+    private CommandResult setForAllStudents(Model model) throws CommandException {
+        int count;
+        try {
+            count = model.setSubmissionStatuses(tutorialName, assignmentName, status);
+        } catch (ItemNotFoundException e) {
+            throw new CommandException(e.getMessage());
+        }
+
+        assert model.check();
+        return new CommandResult(MESSAGE_SUCCESS_ALL.formatted(count, tutorialName), NavigationMode.UNCHANGED);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,94 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Reports the latency of each phase of the commands run so far, the memory
+ * they allocated and the bytes written per save, optionally also writing them
+ * to a JSON file.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = """
+                    Usage: %s [f/FILE]
+                    FILE is a JSON file to also write the metrics to, relative to the folder of the data file"""
+                    .formatted(COMMAND_WORD);
+
+    public static final String MESSAGE_EXPORTED = "Metrics written to %s";
+    public static final String MESSAGE_FILE_ERROR = "Could not write metrics to %s: %s";
+
+    private static final Logger logger = LogsCenter.getLogger(StatsCommand.class);
+
+    private final Optional<Path> destination;
+
+    /**
+     * Creates a {@link StatsCommand} that only reports the metrics
+     */
+    public StatsCommand() {
+        this(Optional.empty());
+    }
+
+    /**
+     * Creates a {@link StatsCommand} that also writes the metrics to
+     * {@code destination} if it is present
+     */
+    public StatsCommand(Optional<Path> destination) {
+        requireNonNull(destination);
+        this.destination = destination;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        var metrics = model.getCommandMetrics();
+        var report = metrics.format();
+        if (destination.isEmpty()) {
+            return new CommandResult(report);
+        }
+
+        var path = model.getAddressBookFilePath().resolveSibling(destination.get());
+        try {
+            FileUtil.createIfMissing(path);
+            JsonUtil.saveJsonFile(metrics.toJsonMap(), path);
+        } catch (IOException e) {
+            logger.info("Could not write metrics (" + path + "): " + e.getMessage());
+            throw new CommandException(MESSAGE_FILE_ERROR.formatted(destination.get(), e.getMessage()), e);
+        }
+
+        return new CommandResult(report + "\n" + MESSAGE_EXPORTED.formatted(destination.get()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StatsCommand otherStatsCommand)) {
+            return false;
+        }
+
+        return destination.equals(otherStatsCommand.destination);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("destination", destination).toString();
+    }
+}
@@ -0,0 +1,30 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Checks that every entity in the address book is consistent, reporting how
+ * long the check took.
+ */
+public class VerifyCommand extends Command {
+
+    public static final String COMMAND_WORD = "verify";
+
+    public static final String MESSAGE_SUCCESS = "Address book is consistent (checked in %d ms)";
+    public static final String MESSAGE_INCONSISTENT = "Address book is inconsistent: %s";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        try {
+            var duration = model.verify();
+            return new CommandResult(MESSAGE_SUCCESS.formatted(duration.toMillis()));
+        } catch (IllegalStateException e) {
+            throw new CommandException(MESSAGE_INCONSISTENT.formatted(e.getMessage()), e);
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package seedu.address.logic.commands.export;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.attendance.Attendance;
+import seedu.address.model.student.Student;
+import seedu.address.model.submission.SubmissionStatus;
+import seedu.address.model.tutorial.Assignment;
+import seedu.address.storage.csv.CsvExporter;
+
+/**
+ * Exports the students, attendance and submissions of every tutorial, each to
+ * its own file.
+ * <p>
+ * The rows of every file are copied out of the model in a single pass first,
+ * so that the files can then be written in parallel by a bounded pool of
+ * workers without touching the model. Each file succeeds or fails on its own,
+ * and progress is logged as files are written.
+ */
+public class ExportAllCommand extends Command {
+
+    public static final String COMMAND_WORD = "all";
+
+    public static final String MESSAGE_USAGE = """
+                    Usage: export all [f/FOLDER]
+                    Writes the students, attendance and submissions of every tutorial to FOLDER, which is \
+                    relative to the folder of the data file""";
+
+    public static final String MESSAGE_SUCCESS = "Exported %d of %d files to %s";
+    public static final String MESSAGE_THROUGHPUT = "%d rows in %d ms (%.0f rows/s)";
+    public static final String MESSAGE_FILE_FAILED = "Could not export %s: %s";
+    public static final String MESSAGE_PROGRESS = "Exported %d of %d files";
+    public static final String MESSAGE_NO_TUTORIALS = "There are no tutorials to export";
+    public static final String MESSAGE_INTERRUPTED = "Export was interrupted";
+
+    public static final Path DEFAULT_FOLDER = Path.of("export");
+    public static final String ATTENDANCE_CSV_FILE = "attendance-%s.csv";
+    public static final String SUBMISSIONS_CSV_FILE = "submissions-%s.csv";
+
+    public static final int MAX_WORKERS = 4;
+
+    private static final Logger logger = LogsCenter.getLogger(ExportAllCommand.class);
+
+    private static final CsvExporter<AttendanceRow> ATTENDANCE = createAttendanceExporter();
+
+    private final Path folder;
+
+    /**
+     * The attendance of a student in a tutorial, with the weeks held as in
+     * {@link Attendance#weeks()}
+     */
+    private record AttendanceRow(String name, String id, int weeks) {
+    }
+
+    /**
+     * The status of each submission of a student in a tutorial, in the order of
+     * the assignments of the tutorial
+     */
+    private record SubmissionRow(String name, String id, List<String> statuses) {
+    }
+
+    /**
+     * A file to be written, and the task writing it, which returns the number of
+     * rows written
+     */
+    private record ExportFile(String fileName, Callable<Long> task) {
+    }
+
+    /**
+     * Creates an {@link ExportAllCommand} to export to {@link #DEFAULT_FOLDER}
+     */
+    public ExportAllCommand() {
+        this(DEFAULT_FOLDER);
+    }
+
+    /**
+     * Creates an {@link ExportAllCommand} to export to {@code folder}, resolved
+     * against the folder of the data file
+     */
+    public ExportAllCommand(Path folder) {
+        requireNonNull(folder);
+        this.folder = folder;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        var path = model.getAddressBookFilePath().resolveSibling(folder);
+        var files = snapshot(model, path);
+        if (files.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_TUTORIALS);
+        }
+
+        long start = System.nanoTime();
+        long rowCount = 0;
+        int exportedCount = 0;
+        var failures = new ArrayList<String>();
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(files.size(), workerCount()), runnable -> {
+            var thread = new Thread(runnable, "export-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            CompletionService<Long> completionService = new ExecutorCompletionService<>(executor);
+            Map<Future<Long>, ExportFile> pending = new HashMap<>();
+            for (var file : files) {
+                pending.put(completionService.submit(file.task()), file);
+            }
+
+            for (int i = 1; i <= files.size(); i++) {
+                var future = completionService.take();
+                var file = pending.get(future);
+                try {
+                    rowCount += future.get();
+                    exportedCount++;
+                } catch (ExecutionException e) {
+                    logger.warning("Could not export (" + file.fileName() + "): " + e.getCause());
+                    failures.add(MESSAGE_FILE_FAILED.formatted(file.fileName(), e.getCause().getMessage()));
+                }
+                logger.info(MESSAGE_PROGRESS.formatted(i, files.size()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CommandException(MESSAGE_INTERRUPTED);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long elapsedNanos = Math.max(System.nanoTime() - start, 1);
+        var lines = new ArrayList<String>();
+        lines.add(MESSAGE_SUCCESS.formatted(exportedCount, files.size(), folder));
+        lines.add(MESSAGE_THROUGHPUT.formatted(rowCount, TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                        rowCount * 1e9 / elapsedNanos));
+        lines.addAll(failures);
+        return new CommandResult(String.join("\n", lines));
+    }
+
+    /**
+     * Copies the rows of every file out of {@code model}, and returns the tasks
+     * writing them to {@code path}. The tasks only read the copied rows.
+     */
+    private static List<ExportFile> snapshot(Model model, Path path) {
+        ReadOnlyAddressBook addressBook = model.getAddressBook();
+
+        // Tutorial name -> student ID -> weeks present
+        Map<String, Map<String, Integer>> weeks = new HashMap<>();
+        for (var attendance : addressBook.getAttendanceList()) {
+            weeks.computeIfAbsent(attendance.tutorial().name(), k -> new HashMap<>())
+                            .put(attendance.student().getStudentId().id, attendance.weeks());
+        }
+
+        // [tutorial name, assignment name] -> student ID -> submission status
+        Map<List<String>, Map<String, String>> statuses = new HashMap<>();
+        for (var submission : addressBook.getSubmissionList()) {
+            var assignment = submission.assignment();
+            statuses.computeIfAbsent(List.of(assignment.tutorial().name(), assignment.name()), k -> new HashMap<>())
+                            .put(submission.student().getStudentId().id, format(submission.status()));
+        }
+
+        var files = new ArrayList<ExportFile>();
+        for (var tutorial : addressBook.getTutorialList()) {
+            var name = tutorial.name();
+            var students = model.getStudentsInTutorial(tutorial).stream().map(Student::clone).toList();
+            var assignmentNames = tutorial.assignments().stream().map(Assignment::name).toList();
+
+            var tutorialWeeks = weeks.getOrDefault(name, Map.of());
+            var attendanceRows = students.stream().map(student -> {
+                var id = student.getStudentId().id;
+                return new AttendanceRow(student.getName().fullName, id, tutorialWeeks.getOrDefault(id, 0));
+            }).toList();
+
+            var submissionRows = students.stream().map(student -> {
+                var id = student.getStudentId().id;
+                var studentStatuses = assignmentNames.stream()
+                                .map(assignmentName -> statuses.getOrDefault(List.of(name, assignmentName), Map.of())
+                                                .getOrDefault(id, ""))
+                                .toList();
+                return new SubmissionRow(student.getName().fullName, id, studentStatuses);
+            }).toList();
+            var submissionExporter = createSubmissionExporter(assignmentNames);
+
+            files.add(exportFile(path, ExportStudentsCommand.STUDENT_BELONGING_TO_CSV_FILE.formatted(name),
+                            CsvExporter.STUDENTS, students));
+            files.add(exportFile(path, ATTENDANCE_CSV_FILE.formatted(name), ATTENDANCE, attendanceRows));
+            files.add(exportFile(path, SUBMISSIONS_CSV_FILE.formatted(name), submissionExporter, submissionRows));
+        }
+
+        return files;
+    }
+
+    private static <T> ExportFile exportFile(Path path, String fileName, CsvExporter<T> exporter, List<T> rows) {
+        return new ExportFile(fileName, () -> exporter.write(rows, path.resolve(fileName)));
+    }
+
+    private static int workerCount() {
+        return Math.max(1, Math.min(MAX_WORKERS, Runtime.getRuntime().availableProcessors()));
+    }
+
+    /**
+     * Returns {@code status} as it is written in commands
+     */
+    private static String format(SubmissionStatus status) {
+        return status.name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+
+    private static CsvExporter<AttendanceRow> createAttendanceExporter() {
+        var columns = new ArrayList<CsvExporter.Column<AttendanceRow>>();
+        columns.add(new CsvExporter.Column<>("NAME", AttendanceRow::name));
+        columns.add(new CsvExporter.Column<>("ID", AttendanceRow::id));
+        for (int week = Attendance.FIRST_WEEK; week <= Attendance.LAST_WEEK; week++) {
+            int bit = 1 << (week - Attendance.FIRST_WEEK);
+            columns.add(new CsvExporter.Column<>("W" + week, row -> (row.weeks() & bit) != 0 ? "1" : "0"));
+        }
+        columns.add(new CsvExporter.Column<>("PRESENT", row -> String.valueOf(Integer.bitCount(row.weeks()))));
+        return new CsvExporter<>(columns);
+    }
+
+    private static CsvExporter<SubmissionRow> createSubmissionExporter(List<String> assignmentNames) {
+        var columns = new ArrayList<CsvExporter.Column<SubmissionRow>>();
+        columns.add(new CsvExporter.Column<>("NAME", SubmissionRow::name));
+        columns.add(new CsvExporter.Column<>("ID", SubmissionRow::id));
+        for (int i = 0; i < assignmentNames.size(); i++) {
+            int index = i;
+            columns.add(new CsvExporter.Column<>(assignmentNames.get(i), row -> row.statuses().get(index)));
+        }
+        return new CsvExporter<>(columns);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExportAllCommand otherCommand)) {
+            return false;
+        }
+
+        return folder.equals(otherCommand.folder);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("folder", folder).toString();
+    }
+}
@@ -9,9 +9,7 @@ import java.nio.file.Path;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.model.Model;
-import seedu.address.model.student.Student;
-import seedu.address.model.tutorial.Tutorial;
-import seedu.address.storage.csv.CsvListStorage;
+import seedu.address.storage.csv.CsvExporter;
 
 /**
  * Exports the address book.
@@ -26,29 +24,40 @@ public class ExportCommand extends Command {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT = "Could not export data to file %s due to "
                     + "insufficient permissions to write to the file or the folder.";
 
+    /** Destination that stands for the standard output */
+    public static final Path STANDARD_OUTPUT = Path.of("-");
+
     /**
      * Creates an {@link ExportCommand} to export the specified list
      */
     public ExportCommand() {
     }
 
+    /**
+     * Writes {@code items} with {@code exporter} to {@code destination}, which is
+     * resolved against the folder of the data file, or to the standard output if
+     * it is {@link #STANDARD_OUTPUT}.
+     *
+     * @return the number of rows written for {@code items}
+     */
+    static <T> long export(Model model, CsvExporter<T> exporter, Iterable<? extends T> items, Path destination)
+                    throws IOException {
+        if (destination.equals(STANDARD_OUTPUT)) {
+            return exporter.writeToStandardOutput(items);
+        }
+
+        return exporter.write(items, model.getAddressBookFilePath().resolveSibling(destination));
+    }
+
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
 
-        Path addressBookFilePath = model.getAddressBookFilePath();
-
-        Path exportStudentFilePath = addressBookFilePath.resolveSibling(ExportStudentsCommand.STUDENT_CSV_FILE);
-        CsvListStorage<Student> exportStudentStorage = new CsvListStorage<Student>(exportStudentFilePath);
-
-        Path exportTutorialFilePath = addressBookFilePath.resolveSibling(ExportTutorialsCommand.TUTORIAL_CSV_FILE);
-        CsvListStorage<Tutorial> exportTutorialStorage = new CsvListStorage<Tutorial>(exportTutorialFilePath);
-
         try {
-
-            exportStudentStorage.saveCsvList(model.getFilteredStudentList());
-            exportTutorialStorage.saveCsvList(model.getFilteredTutorialList());
-
+            export(model, CsvExporter.STUDENTS, model.getFilteredStudentList(),
+                            Path.of(ExportStudentsCommand.STUDENT_CSV_FILE));
+            export(model, CsvExporter.TUTORIALS, model.getFilteredTutorialList(),
+                            Path.of(ExportTutorialsCommand.TUTORIAL_CSV_FILE));
         } catch (AccessDeniedException e) {
             return new CommandResult(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()));
         } catch (IOException ioe) {
@@ -5,19 +5,18 @@ import static java.util.Objects.requireNonNull;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.model.Model;
 import seedu.address.model.student.Student;
 import seedu.address.model.tutorial.Tutorial;
-import seedu.address.storage.csv.CsvListStorage;
-import seedu.address.storage.json.JsonAddressBookStorage;
+import seedu.address.storage.csv.CsvExporter;
 
 /**
  * Exports student lists.
@@ -26,7 +25,9 @@ public class ExportStudentsCommand extends Command {
 
     public static final String COMMAND_WORD = "students";
 
-    public static final String MESSAGE_USAGE = "Usage: export students [TUTORIAL_NAME]";
+    public static final String MESSAGE_USAGE = """
+                    Usage: export students [TUTORIAL_NAME] [f/FILE]
+                    FILE is relative to the folder of the data file, and - writes to the standard output""";
 
     public static final String MESSAGE_SUCCESS = "Students (%s) exported successfully!";
     public static final String MESSAGE_TUTORIAL_DOES_NOT_EXIST = "%1$s doesn't exist";
@@ -34,16 +35,16 @@ public class ExportStudentsCommand extends Command {
     public static final String STUDENT_CSV_FILE = "students.csv";
     public static final String STUDENT_BELONGING_TO_CSV_FILE = "students-%s.csv";
 
-    private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
+    private static final Logger logger = LogsCenter.getLogger(ExportStudentsCommand.class);
 
     private final Optional<Tutorial> tutorial;
-    private List<Student> toExport;
+    private final Optional<Path> destination;
 
     /**
      * Creates a {@link ExportStudentsCommand} to export all students
      */
     public ExportStudentsCommand() {
-        this.tutorial = Optional.empty();
+        this(Optional.empty(), Optional.empty());
     }
 
     /**
@@ -51,39 +52,45 @@ public class ExportStudentsCommand extends Command {
      * {@code Tutorial}
      */
     public ExportStudentsCommand(Tutorial tutorial) {
+        this(Optional.of(tutorial), Optional.empty());
+    }
+
+    /**
+     * Creates a {@link ExportStudentsCommand} to export the students of
+     * {@code tutorial}, or all students if it is empty, to {@code destination}, or
+     * to the default file if it is empty
+     */
+    public ExportStudentsCommand(Optional<Tutorial> tutorial, Optional<Path> destination) {
         requireNonNull(tutorial);
-        this.tutorial = Optional.of(tutorial);
+        requireNonNull(destination);
+        this.tutorial = tutorial;
+        this.destination = destination;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
 
-        Path addressBookFilePath = model.getAddressBookFilePath();
-
         Path exportStudentFilePath;
-        List<Student> studentList = new ArrayList<>();
-
-        String message = "";
+        List<Student> studentList;
+        String message;
 
         if (tutorial.isPresent()) {
-            exportStudentFilePath = addressBookFilePath
-                            .resolveSibling(String.format(STUDENT_BELONGING_TO_CSV_FILE, tutorial.get().name()));
-            if (model.hasTutorial(tutorial.get())) {
-                studentList.addAll(model.getStudentsInTutorial(tutorial.get()));
-            } else {
+            if (!model.hasTutorial(tutorial.get())) {
                 return new CommandResult(String.format(MESSAGE_TUTORIAL_DOES_NOT_EXIST, tutorial.get().name()));
             }
+            exportStudentFilePath = destination
+                            .orElse(Path.of(String.format(STUDENT_BELONGING_TO_CSV_FILE, tutorial.get().name())));
+            studentList = model.getStudentsInTutorial(tutorial.get());
             message = String.format(MESSAGE_SUCCESS, tutorial.get().name());
         } else {
-            exportStudentFilePath = addressBookFilePath.resolveSibling(STUDENT_CSV_FILE);
-            studentList.addAll(model.getFilteredStudentList());
+            exportStudentFilePath = destination.orElse(Path.of(STUDENT_CSV_FILE));
+            studentList = model.getFilteredStudentList();
             message = String.format(MESSAGE_SUCCESS, "all tutorials");
         }
 
-        CsvListStorage<Student> exportStudentStorage = new CsvListStorage<Student>(exportStudentFilePath);
         try {
-            exportStudentStorage.saveCsvList(studentList);
+            ExportCommand.export(model, CsvExporter.STUDENTS, studentList, exportStudentFilePath);
         } catch (AccessDeniedException e) {
             logger.info("Access Denied Error (" + exportStudentFilePath + "): " + e.getMessage());
             return new CommandResult(String.format(ExportCommand.FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()));
@@ -93,7 +100,24 @@ public class ExportStudentsCommand extends Command {
         }
 
         return new CommandResult(message);
+    }
 
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExportStudentsCommand otherCommand)) {
+            return false;
+        }
+
+        return tutorial.equals(otherCommand.tutorial) && destination.equals(otherCommand.destination);
     }
 
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("tutorial", tutorial).add("destination", destination).toString();
+    }
 }
@@ -5,13 +5,11 @@ import static java.util.Objects.requireNonNull;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
-import java.util.List;
 
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.model.Model;
-import seedu.address.model.tutorial.Tutorial;
-import seedu.address.storage.csv.CsvListStorage;
+import seedu.address.storage.csv.CsvExporter;
 
 /**
  * Exports the tutorial list.
@@ -26,10 +24,8 @@ public class ExportTutorialsCommand extends Command {
 
     public static final String TUTORIAL_CSV_FILE = "tutorials.csv";
 
-    private List<Tutorial> toExport;
-
     /**
-     * Creates a {@link ExportStudentsCommand} to export all students
+     * Creates a {@link ExportTutorialsCommand} to export all tutorials
      */
     public ExportTutorialsCommand() {
     }
@@ -38,12 +34,9 @@ public class ExportTutorialsCommand extends Command {
     public CommandResult execute(Model model) {
         requireNonNull(model);
 
-        Path addressBookFilePath = model.getAddressBookFilePath();
-        Path exportTutorialFilePath = addressBookFilePath.resolveSibling(TUTORIAL_CSV_FILE);
-        CsvListStorage<Tutorial> exportTutorialStorage = new CsvListStorage<Tutorial>(exportTutorialFilePath);
-
         try {
-            exportTutorialStorage.saveCsvList(model.getFilteredTutorialList());
+            ExportCommand.export(model, CsvExporter.TUTORIALS, model.getFilteredTutorialList(),
+                            Path.of(TUTORIAL_CSV_FILE));
         } catch (AccessDeniedException e) {
             return new CommandResult(String.format(ExportCommand.FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()));
         } catch (IOException ioe) {
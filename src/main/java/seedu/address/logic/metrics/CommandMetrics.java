@@ -0,0 +1,253 @@
+package seedu.address.logic.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Keeps a {@link Histogram} of how long each {@link Phase} of commands took
+ * for each kind of command, together with the memory allocated by commands and
+ * the bytes written by each save.
+ * <p>
+ * A command is timed with a {@link Sample}, which only reads the clock at the
+ * end of each phase. Saves may be written in the background, in which case the
+ * {@link Phase#SAVE} of a command only covers preparing its save, and the time
+ * taken to write it is recorded separately with
+ * {@link #recordWrite(long, long)}. The methods of this class can therefore be
+ * called from any thread.
+ */
+public class CommandMetrics {
+
+    public static final String MESSAGE_NO_COMMANDS = "No commands have been run yet";
+    public static final String MESSAGE_HEADER = "Latency in ms (p50 / p95 / p99) of %d commands:";
+    public static final String MESSAGE_COMMAND = "%s (%d): %s; allocated %s per command";
+    public static final String MESSAGE_PHASE = "%s %s / %s / %s";
+    public static final String MESSAGE_SAVES = "Bytes written per save (%d saves): p50 %s, p95 %s, p99 %s, max %s";
+    public static final String MESSAGE_WRITES = "Background writes in ms (%d writes): %s / %s / %s";
+    public static final String MESSAGE_NO_ALLOCATIONS = "unknown";
+
+    private static final double[] PERCENTILES = { 50, 95, 99 };
+    private static final double NANOS_PER_MILLI = 1e6;
+
+    // Null if the JVM does not count the memory allocated by each thread
+    private static final com.sun.management.ThreadMXBean ALLOCATIONS = allocationsBean();
+
+    /**
+     * A phase of running a command
+     */
+    public enum Phase {
+        PARSE, EXECUTE, CHECK, SAVE, TOTAL;
+
+        @Override
+        public String toString() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /**
+     * The metrics of commands of the same kind
+     */
+    private static class CommandStats {
+        private final Map<Phase, Histogram> phases = new EnumMap<>(Phase.class);
+        private final Histogram allocatedBytes = new Histogram();
+    }
+
+    /**
+     * The time taken by the phases of a command, from when the sample was started
+     * on the thread running the command
+     */
+    public static class Sample {
+        private final long startNanos;
+        private final long allocatedAtStart;
+        private final long[] phaseNanos = new long[Phase.values().length];
+        private long lapNanos;
+
+        private Sample() {
+            Arrays.fill(phaseNanos, -1);
+            allocatedAtStart = allocatedBytes();
+            startNanos = System.nanoTime();
+            lapNanos = startNanos;
+        }
+
+        /**
+         * Ends {@code phase}, which started when the previous phase ended or when
+         * the sample was started
+         */
+        public void lap(Phase phase) {
+            long now = System.nanoTime();
+            phaseNanos[phase.ordinal()] = now - lapNanos;
+            lapNanos = now;
+        }
+    }
+
+    // Guarded by this
+    private final Map<String, CommandStats> commands = new TreeMap<>();
+    private final Histogram saveBytes = new Histogram();
+    private final Histogram writeNanos = new Histogram();
+
+    /**
+     * Starts timing a command on the current thread
+     */
+    public Sample start() {
+        return new Sample();
+    }
+
+    /**
+     * Records the phases of {@code sample} that have ended for commands named
+     * {@code commandName}, and ends its {@link Phase#TOTAL}
+     */
+    public void record(String commandName, Sample sample) {
+        requireNonNull(commandName);
+        requireNonNull(sample);
+
+        long totalNanos = System.nanoTime() - sample.startNanos;
+        long allocated = sample.allocatedAtStart < 0 ? -1 : allocatedBytes() - sample.allocatedAtStart;
+        sample.phaseNanos[Phase.TOTAL.ordinal()] = totalNanos;
+
+        synchronized (this) {
+            var stats = commands.computeIfAbsent(commandName, k -> new CommandStats());
+            for (var phase : Phase.values()) {
+                long nanos = sample.phaseNanos[phase.ordinal()];
+                if (nanos >= 0) {
+                    stats.phases.computeIfAbsent(phase, k -> new Histogram()).record(nanos);
+                }
+            }
+            if (allocated >= 0) {
+                stats.allocatedBytes.record(allocated);
+            }
+        }
+    }
+
+    /**
+     * Records a save that wrote {@code bytes} bytes
+     */
+    public synchronized void recordSave(long bytes) {
+        saveBytes.record(bytes);
+    }
+
+    /**
+     * Records a save written in the background, which wrote {@code bytes} bytes
+     * in {@code nanos} nanoseconds
+     */
+    public synchronized void recordWrite(long bytes, long nanos) {
+        saveBytes.record(bytes);
+        writeNanos.record(nanos);
+    }
+
+    /**
+     * Returns the percentiles of each phase of each kind of command, of the bytes
+     * written per save and of the time taken by background writes, one kind of
+     * command per line
+     */
+    public synchronized String format() {
+        if (commands.isEmpty()) {
+            return MESSAGE_NO_COMMANDS;
+        }
+
+        long commandCount = commands.values().stream().mapToLong(stats -> stats.phases.get(Phase.TOTAL).getCount())
+                        .sum();
+        var lines = new ArrayList<String>();
+        lines.add(MESSAGE_HEADER.formatted(commandCount));
+
+        commands.forEach((commandName, stats) -> {
+            var phases = new ArrayList<String>();
+            stats.phases.forEach((phase, histogram) -> phases.add(MESSAGE_PHASE.formatted(phase,
+                            formatMillis(histogram.getPercentile(PERCENTILES[0])),
+                            formatMillis(histogram.getPercentile(PERCENTILES[1])),
+                            formatMillis(histogram.getPercentile(PERCENTILES[2])))));
+            var allocated = stats.allocatedBytes.getCount() == 0 ? MESSAGE_NO_ALLOCATIONS
+                            : formatBytes((long) stats.allocatedBytes.getMean());
+            lines.add(MESSAGE_COMMAND.formatted(commandName, stats.phases.get(Phase.TOTAL).getCount(),
+                            String.join(", ", phases), allocated));
+        });
+
+        if (saveBytes.getCount() > 0) {
+            lines.add(MESSAGE_SAVES.formatted(saveBytes.getCount(), formatBytes(saveBytes.getPercentile(50)),
+                            formatBytes(saveBytes.getPercentile(95)), formatBytes(saveBytes.getPercentile(99)),
+                            formatBytes(saveBytes.getMax())));
+        }
+        if (writeNanos.getCount() > 0) {
+            lines.add(MESSAGE_WRITES.formatted(writeNanos.getCount(),
+                            formatMillis(writeNanos.getPercentile(PERCENTILES[0])),
+                            formatMillis(writeNanos.getPercentile(PERCENTILES[1])),
+                            formatMillis(writeNanos.getPercentile(PERCENTILES[2]))));
+        }
+
+        return String.join("\n", lines);
+    }
+
+    /**
+     * Returns the metrics as maps, lists and numbers that can be written as JSON
+     */
+    public synchronized Map<String, Object> toJsonMap() {
+        var commandMaps = new LinkedHashMap<String, Object>();
+        commands.forEach((commandName, stats) -> {
+            var phaseMaps = new LinkedHashMap<String, Object>();
+            stats.phases.forEach((phase, histogram) -> phaseMaps.put(phase.toString(), summaryOf(histogram)));
+
+            var commandMap = new LinkedHashMap<String, Object>();
+            commandMap.put("latencyNanos", phaseMaps);
+            commandMap.put("allocatedBytes", summaryOf(stats.allocatedBytes));
+            commandMaps.put(commandName, commandMap);
+        });
+
+        var metrics = new LinkedHashMap<String, Object>();
+        metrics.put("commands", commandMaps);
+        metrics.put("saveBytes", summaryOf(saveBytes));
+        metrics.put("backgroundWriteNanos", summaryOf(writeNanos));
+        return metrics;
+    }
+
+    private static Map<String, Object> summaryOf(Histogram histogram) {
+        var summary = new LinkedHashMap<String, Object>();
+        summary.put("count", histogram.getCount());
+        summary.put("mean", histogram.getMean());
+        for (var percentile : PERCENTILES) {
+            summary.put("p%.0f".formatted(percentile), histogram.getPercentile(percentile));
+        }
+        summary.put("max", histogram.getMax());
+        return summary;
+    }
+
+    private static String formatMillis(long nanos) {
+        return String.format("%.2f", nanos / NANOS_PER_MILLI);
+    }
+
+    private static String formatBytes(long bytes) {
+        if (bytes < 1024) {
+            return bytes + " B";
+        }
+        if (bytes < 1024 * 1024) {
+            return String.format("%.1f KB", bytes / 1024.0);
+        }
+        return String.format("%.1f MB", bytes / (1024.0 * 1024));
+    }
+
+    /**
+     * Returns the bytes allocated by the current thread so far, or -1 if unknown
+     */
+    private static long allocatedBytes() {
+        return ALLOCATIONS == null ? -1 : ALLOCATIONS.getCurrentThreadAllocatedBytes();
+    }
+
+    private static com.sun.management.ThreadMXBean allocationsBean() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean)
+                        || !bean.isThreadAllocatedMemorySupported()) {
+            return null;
+        }
+
+        try {
+            bean.setThreadAllocatedMemoryEnabled(true);
+        } catch (UnsupportedOperationException | SecurityException e) {
+            return null;
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,102 @@
+package seedu.address.logic.metrics;
+
+/**
+ * Counts non-negative values in buckets whose width grows with their values,
+ * so that percentiles can be read to within about 3% of each value in constant
+ * memory, as in HdrHistogram.
+ * <p>
+ * Values below {@code 2^SIGNIFICANT_BITS} are counted exactly. Larger values
+ * share a bucket with the values that have the same highest
+ * {@link #SIGNIFICANT_BITS} bits. Values of {@link #MAX_VALUE} and above are
+ * counted as {@link #MAX_VALUE}.
+ */
+public class Histogram {
+
+    public static final int SIGNIFICANT_BITS = 6;
+    public static final long MAX_VALUE = (1L << 40) - 1;
+
+    private static final int HALF_BUCKET_COUNT = 1 << (SIGNIFICANT_BITS - 1);
+    private static final int EXACT_COUNT = 1 << SIGNIFICANT_BITS;
+
+    private final long[] counts = new long[indexOf(MAX_VALUE) + 1];
+    private long count;
+    private long total;
+    private long max;
+
+    /**
+     * Counts {@code value}
+     *
+     * @throws IllegalArgumentException
+     *             if {@code value} is negative
+     */
+    public void record(long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Value is negative: " + value);
+        }
+
+        long clamped = Math.min(value, MAX_VALUE);
+        counts[indexOf(clamped)]++;
+        count++;
+        total += clamped;
+        max = Math.max(max, clamped);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Returns the mean of the values counted, or 0 if there are none
+     */
+    public double getMean() {
+        return count == 0 ? 0 : (double) total / count;
+    }
+
+    /**
+     * Returns the highest value that could have been counted in the same bucket as
+     * the value that {@code percentile} percent of the values counted are at or
+     * below, or 0 if there are none
+     */
+    public long getPercentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(count * Math.min(percentile, 100) / 100));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(highestValueOf(i), max);
+            }
+        }
+        return max;
+    }
+
+    private static int indexOf(long value) {
+        if (value < EXACT_COUNT) {
+            return (int) value;
+        }
+
+        int shift = 63 - Long.numberOfLeadingZeros(value) - (SIGNIFICANT_BITS - 1);
+        return shift * HALF_BUCKET_COUNT + (int) (value >>> shift);
+    }
+
+    private static long highestValueOf(int index) {
+        if (index < EXACT_COUNT) {
+            return index;
+        }
+
+        int shift = index / HALF_BUCKET_COUNT - 1;
+        long lowest = (long) (index - shift * HALF_BUCKET_COUNT) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+}
@@ -22,4 +22,6 @@ public class CliSyntax {
     public static final Prefix PREFIX_WEEK = new Prefix("w/");
     public static final Prefix PREFIX_DETAILS = new Prefix("desc/");
     public static final Prefix PREFIX_DATE = new Prefix("d/");
+    public static final Prefix PREFIX_SEARCH = new Prefix("q/");
+    public static final Prefix PREFIX_FILE = new Prefix("f/");
 }
@@ -1,6 +1,7 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SEARCH;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TUTORIAL_NAME;
 
 import java.util.ArrayList;
@@ -25,7 +26,7 @@ public class FindCommandParser implements Parser<FindCommand> {
      *             if the user input does not conform the expected format
      */
     public FindCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TUTORIAL_NAME);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TUTORIAL_NAME, PREFIX_SEARCH);
         String trimmedPreamble = argMultimap.getPreamble().trim();
         ArrayList<String> nameKeywords = trimmedPreamble.isEmpty()
                         ? new ArrayList<>()
@@ -44,6 +45,26 @@ public class FindCommandParser implements Parser<FindCommand> {
             }
         }
 
+        StudentContainsTutorialKeywordsPredicate tutorialPredicate = tutorialKeywords.isEmpty()
+                        ? null
+                        : new StudentContainsTutorialKeywordsPredicate(tutorialKeywords);
+
+        if (argMultimap.getValue(PREFIX_SEARCH).isPresent()) {
+            // Every other keyword is searched for as well
+            List<String> searchKeywords = new ArrayList<>();
+            for (String value : argMultimap.getAllValues(PREFIX_SEARCH)) {
+                if (!value.isBlank()) {
+                    searchKeywords.addAll(Arrays.asList(value.trim().split("\\s+")));
+                }
+            }
+            searchKeywords.addAll(nameKeywords);
+
+            if (searchKeywords.isEmpty()) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+            }
+            return new FindCommand(null, tutorialPredicate, searchKeywords);
+        }
+
         if (nameKeywords.isEmpty() && tutorialKeywords.isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
@@ -52,10 +73,6 @@ public class FindCommandParser implements Parser<FindCommand> {
                         ? null
                         : new NameContainsKeywordsPredicate(nameKeywords);
 
-        StudentContainsTutorialKeywordsPredicate tutorialPredicate = tutorialKeywords.isEmpty()
-                        ? null
-                        : new StudentContainsTutorialKeywordsPredicate(tutorialKeywords);
-
         return new FindCommand(namePredicate, tutorialPredicate);
     }
 
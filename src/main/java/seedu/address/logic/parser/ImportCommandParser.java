@@ -0,0 +1,42 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.Objects;
+
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new {@link ImportCommand} object
+ */
+public class ImportCommandParser implements Parser<ImportCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the
+     * {@link ImportCommand} and returns an {@link ImportCommand} object for
+     * execution.
+     *
+     * @throws ParseException
+     *             if the user input does not conform the expected format
+     */
+    public ImportCommand parse(String args) throws ParseException {
+        Objects.requireNonNull(args);
+
+        var argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FILE);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_FILE);
+        var fileName = argMultimap.getValue(PREFIX_FILE);
+        if (!argMultimap.getPreamble().isEmpty() || fileName.isEmpty() || fileName.get().isEmpty()) {
+            throw new ParseException(MESSAGE_INVALID_COMMAND_FORMAT.formatted(ImportCommand.MESSAGE_USAGE));
+        }
+
+        try {
+            return new ImportCommand(Path.of(fileName.get()));
+        } catch (InvalidPathException e) {
+            throw new ParseException(MESSAGE_INVALID_COMMAND_FORMAT.formatted(ImportCommand.MESSAGE_USAGE), e);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.logic.parser;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ATTENDANCE_INDEX;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TUTORIAL_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_WEEK;
 
 import java.util.ArrayList;
@@ -11,6 +12,7 @@ import java.util.List;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.MarkAttendanceCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.tutorial.Tutorial;
 
 /**
  * Parses input arguments and creates a new MarkAttendanceCommand object
@@ -27,9 +29,11 @@ public class MarkAttendanceCommandParser implements Parser<MarkAttendanceCommand
      */
     public MarkAttendanceCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" " + args, PREFIX_WEEK, PREFIX_ATTENDANCE_INDEX);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" " + args, PREFIX_WEEK, PREFIX_ATTENDANCE_INDEX,
+                        PREFIX_TUTORIAL_NAME);
 
-        if (!argMultimap.allPresent(PREFIX_WEEK, PREFIX_ATTENDANCE_INDEX)) {
+        if (!argMultimap.allPresent(PREFIX_WEEK) || !argMultimap.allPresent(PREFIX_ATTENDANCE_INDEX)
+                        && !argMultimap.allPresent(PREFIX_TUTORIAL_NAME)) {
             throw new ParseException(
                             String.format(MESSAGE_INVALID_COMMAND_FORMAT, MarkAttendanceCommand.MESSAGE_USAGE));
         }
@@ -41,17 +45,24 @@ public class MarkAttendanceCommandParser implements Parser<MarkAttendanceCommand
 
         argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_WEEK);
 
-        int week = ParserUtil.parseWeek(argMultimap.getValue(PREFIX_WEEK).get()).getOneBased();
+        List<Index> weeks = ParserUtil.parseWeekRange(argMultimap.getValue(PREFIX_WEEK).get());
+        int fromWeek = weeks.get(0).getOneBased();
+        int toWeek = weeks.get(1).getOneBased();
 
-        if (week < MarkAttendanceCommand.START_WEEK || week > MarkAttendanceCommand.END_WEEK) {
+        if (fromWeek < MarkAttendanceCommand.START_WEEK || toWeek > MarkAttendanceCommand.END_WEEK) {
             throw new ParseException(String.format(MarkAttendanceCommand.MESSAGE_INVALID_WEEK));
         }
 
         List<Index> indices = new ArrayList<>();
         for (String index : argMultimap.getAllValues(PREFIX_ATTENDANCE_INDEX)) {
-            indices.add(ParserUtil.parseIndex(index));
+            indices.addAll(ParserUtil.parseIndices(index));
         }
 
-        return new MarkAttendanceCommand(week, indices);
+        List<Tutorial> tutorials = new ArrayList<>();
+        for (String tutorial : argMultimap.getAllValues(PREFIX_TUTORIAL_NAME)) {
+            tutorials.add(ParserUtil.parseTutorial(tutorial));
+        }
+
+        return new MarkAttendanceCommand(fromWeek, toWeek, indices, tutorials);
     }
 }
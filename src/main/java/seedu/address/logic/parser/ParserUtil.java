@@ -6,6 +6,7 @@ import java.time.DateTimeException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.ResolverStyle;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
@@ -31,6 +32,10 @@ public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
     public static final String MESSAGE_INVALID_WEEK = "Week is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_RANGE = "Range %s ends before it starts.";
+    public static final String MESSAGE_TOO_MANY_INDICES = "At most %d indices can be given at once.";
+
+    public static final int MAX_INDICES = 100_000;
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading
@@ -207,4 +212,65 @@ public class ParserUtil {
         }
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
+
+    /**
+     * Parses {@code oneBasedIndices}, a comma-separated list of indices and ranges
+     * of indices such as {@code 1-3,5}, into every index it covers, in the order
+     * given. Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException
+     *             if any index is invalid, a range ends before it starts, or more
+     *             than {@link #MAX_INDICES} indices are covered.
+     */
+    public static List<Index> parseIndices(String oneBasedIndices) throws ParseException {
+        requireNonNull(oneBasedIndices);
+
+        List<Index> indices = new ArrayList<>();
+        for (String part : oneBasedIndices.split(",")) {
+            var range = parseRange(part, ParserUtil::parseIndex);
+            int from = range.get(0).getOneBased();
+            int to = range.get(1).getOneBased();
+            // In long, as a range as wide as the largest index would overflow an int
+            if ((long) to - from + 1 + indices.size() > MAX_INDICES) {
+                throw new ParseException(MESSAGE_TOO_MANY_INDICES.formatted(MAX_INDICES));
+            }
+
+            for (int index = from; index <= to; index++) {
+                indices.add(Index.fromOneBased(index));
+            }
+        }
+        return indices;
+    }
+
+    /**
+     * Parses {@code weeks}, a week or a range of weeks such as {@code 3-5}, into
+     * the first and last week it covers. Leading and trailing whitespaces will be
+     * trimmed.
+     *
+     * @throws ParseException
+     *             if either week is invalid or the range ends before it starts.
+     */
+    public static List<Index> parseWeekRange(String weeks) throws ParseException {
+        requireNonNull(weeks);
+        return parseRange(weeks, ParserUtil::parseWeek);
+    }
+
+    /**
+     * Parses {@code range}, either a single value or two values separated by
+     * {@code -}, into its first and last value
+     */
+    private static List<Index> parseRange(String range, IndexParser parser) throws ParseException {
+        String[] ends = range.trim().split("-", 2);
+        Index from = parser.parse(ends[0]);
+        Index to = ends.length == 1 ? from : parser.parse(ends[1]);
+        if (to.getZeroBased() < from.getZeroBased()) {
+            throw new ParseException(MESSAGE_INVALID_RANGE.formatted(range.trim()));
+        }
+        return List.of(from, to);
+    }
+
+    @FunctionalInterface
+    private interface IndexParser {
+        Index parse(String oneBasedIndex) throws ParseException;
+    }
 }
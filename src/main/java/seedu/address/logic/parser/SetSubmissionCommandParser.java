@@ -17,9 +17,11 @@ import seedu.address.model.submission.SubmissionStatus;
  */
 public class SetSubmissionCommandParser implements Parser<SetSubmissionCommand> {
 
-    public static final String MESSAGE_USAGE = "Usage: %s %s STATE %sTUTORIAL_NAME %sASSIGNMENT_NAME %sSTUDENT_NAME..."
+    public static final String MESSAGE_USAGE = ("Usage: %s %s STATE %sTUTORIAL_NAME %sASSIGNMENT_NAME %sSTUDENT_NAME..."
+                    + "\nUse %s%s to set it for every student in the tutorial")
                     .formatted(SubmissionParser.COMMAND_WORD, SetSubmissionCommand.COMMAND_WORD, PREFIX_TUTORIAL_NAME,
-                                    PREFIX_ASSIGNMENT, PREFIX_STUDENT_NAME);
+                                    PREFIX_ASSIGNMENT, PREFIX_STUDENT_NAME, PREFIX_STUDENT_NAME,
+                                    SetSubmissionCommand.ALL_STUDENTS);
 
     /**
      * Parses the given {@link String} of arguments in the context of the
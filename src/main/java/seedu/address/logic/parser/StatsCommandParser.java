@@ -0,0 +1,50 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new {@link StatsCommand} object
+ */
+public class StatsCommandParser implements Parser<StatsCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the
+     * {@link StatsCommand} and returns a {@link StatsCommand} object for
+     * execution.
+     *
+     * @throws ParseException
+     *             if the user input does not conform the expected format
+     */
+    public StatsCommand parse(String args) throws ParseException {
+        Objects.requireNonNull(args);
+
+        var argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FILE);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_FILE);
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(MESSAGE_INVALID_COMMAND_FORMAT.formatted(StatsCommand.MESSAGE_USAGE));
+        }
+
+        var fileName = argMultimap.getValue(PREFIX_FILE);
+        if (fileName.isEmpty()) {
+            return new StatsCommand();
+        }
+        if (fileName.get().isEmpty()) {
+            throw new ParseException(MESSAGE_INVALID_COMMAND_FORMAT.formatted(StatsCommand.MESSAGE_USAGE));
+        }
+
+        try {
+            return new StatsCommand(Optional.of(Path.of(fileName.get())));
+        } catch (InvalidPathException e) {
+            throw new ParseException(MESSAGE_INVALID_COMMAND_FORMAT.formatted(StatsCommand.MESSAGE_USAGE), e);
+        }
+    }
+}
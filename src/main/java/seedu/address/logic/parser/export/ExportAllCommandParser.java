@@ -0,0 +1,54 @@
+package seedu.address.logic.parser.export;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.Objects;
+
+import seedu.address.logic.commands.export.ExportAllCommand;
+import seedu.address.logic.commands.export.ExportCommand;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new {@link ExportAllCommand} object
+ */
+public class ExportAllCommandParser implements Parser<ExportAllCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the
+     * ExportAllCommand and returns an ExportAllCommand object for execution.
+     *
+     * @throws ParseException
+     *             if the user input does not conform the expected format
+     */
+    public ExportAllCommand parse(String args) throws ParseException {
+        Objects.requireNonNull(args);
+
+        var argMultimap = ArgumentTokenizer.tokenize(" " + args, PREFIX_FILE);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_FILE);
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(MESSAGE_INVALID_COMMAND_FORMAT.formatted(ExportAllCommand.MESSAGE_USAGE));
+        }
+
+        var folder = argMultimap.getValue(PREFIX_FILE);
+        if (folder.isEmpty()) {
+            return new ExportAllCommand();
+        }
+
+        try {
+            var path = Path.of(folder.get());
+            // A folder cannot be written to the standard output
+            if (folder.get().isEmpty() || path.equals(ExportCommand.STANDARD_OUTPUT)) {
+                throw new ParseException(MESSAGE_INVALID_COMMAND_FORMAT.formatted(ExportAllCommand.MESSAGE_USAGE));
+            }
+            return new ExportAllCommand(path);
+        } catch (InvalidPathException e) {
+            throw new ParseException(MESSAGE_INVALID_COMMAND_FORMAT.formatted(ExportAllCommand.MESSAGE_USAGE), e);
+        }
+    }
+
+}
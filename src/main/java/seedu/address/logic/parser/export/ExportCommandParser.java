@@ -7,6 +7,7 @@ import java.util.stream.Collectors;
 
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.export.ExportAllCommand;
 import seedu.address.logic.commands.export.ExportCommand;
 import seedu.address.logic.commands.export.ExportStudentsCommand;
 import seedu.address.logic.commands.export.ExportTutorialsCommand;
@@ -31,6 +32,8 @@ public class ExportCommandParser implements Parser<Command> {
         // All Student Lists || List of Students belonging to a Tutorial
         subcmds.put(ExportStudentsCommand.COMMAND_WORD, new ExportStudentsCommandParser());
         subcmds.put(ExportTutorialsCommand.COMMAND_WORD, null); // temporary
+        // Students, attendance and submissions of every tutorial
+        subcmds.put(ExportAllCommand.COMMAND_WORD, new ExportAllCommandParser());
 
         usage = """
                         Usage: export COMMAND
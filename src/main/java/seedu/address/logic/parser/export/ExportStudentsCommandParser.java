@@ -1,11 +1,16 @@
 package seedu.address.logic.parser.export;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE;
 
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
 import java.util.Objects;
+import java.util.Optional;
 
 import seedu.address.logic.commands.DeleteTutorialCommand;
 import seedu.address.logic.commands.export.ExportStudentsCommand;
+import seedu.address.logic.parser.ArgumentTokenizer;
 import seedu.address.logic.parser.Parser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.tutorial.Tutorial;
@@ -23,11 +28,25 @@ public class ExportStudentsCommandParser implements Parser<ExportStudentsCommand
      * @throws ParseException
      *             if the user input does not conform the expected format
      */
-    public ExportStudentsCommand parse(String tutorialName) throws ParseException {
-        Objects.requireNonNull(tutorialName);
+    public ExportStudentsCommand parse(String args) throws ParseException {
+        Objects.requireNonNull(args);
 
+        var argMultimap = ArgumentTokenizer.tokenize(" " + args, PREFIX_FILE);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_FILE);
+
+        Optional<Path> destination;
+        try {
+            destination = argMultimap.getValue(PREFIX_FILE).map(Path::of);
+        } catch (InvalidPathException e) {
+            throw new ParseException(MESSAGE_INVALID_COMMAND_FORMAT.formatted(ExportStudentsCommand.MESSAGE_USAGE), e);
+        }
+        if (destination.filter(path -> path.toString().isEmpty()).isPresent()) {
+            throw new ParseException(MESSAGE_INVALID_COMMAND_FORMAT.formatted(ExportStudentsCommand.MESSAGE_USAGE));
+        }
+
+        var tutorialName = argMultimap.getPreamble();
         if (tutorialName.isEmpty()) {
-            return new ExportStudentsCommand();
+            return new ExportStudentsCommand(Optional.empty(), destination);
         }
 
         if (!Tutorial.isValidName(tutorialName)) {
@@ -35,7 +54,7 @@ public class ExportStudentsCommandParser implements Parser<ExportStudentsCommand
                             MESSAGE_INVALID_COMMAND_FORMAT.formatted(DeleteTutorialCommand.MESSAGE_INVALID_NAME));
         }
 
-        return new ExportStudentsCommand(new Tutorial(tutorialName));
+        return new ExportStudentsCommand(Optional.of(new Tutorial(tutorialName)), destination);
     }
 
 }
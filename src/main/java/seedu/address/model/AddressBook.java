@@ -2,14 +2,22 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_ASSIGNMENT_NOT_FOUND;
+import static seedu.address.logic.Messages.MESSAGE_ATTENDANCE_NOT_FOUND;
 import static seedu.address.logic.Messages.MESSAGE_STUDENT_NOT_FOUND;
 import static seedu.address.logic.Messages.MESSAGE_TUTORIAL_NOT_FOUND;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_ERROR;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -18,11 +26,19 @@ import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.attendance.Attendance;
+import seedu.address.model.attendance.AttendanceIndex;
+import seedu.address.model.student.Name;
 import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentID;
+import seedu.address.model.student.StudentIdentityIndex;
+import seedu.address.model.student.StudentNameIndex;
+import seedu.address.model.student.StudentSearchIndex;
 import seedu.address.model.submission.Submission;
+import seedu.address.model.submission.SubmissionIndex;
 import seedu.address.model.submission.SubmissionStatus;
 import seedu.address.model.tutorial.Assignment;
 import seedu.address.model.tutorial.Tutorial;
+import seedu.address.model.tutorial.TutorialEnrolmentIndex;
 import seedu.address.model.tutorial.TutorialWithStudents;
 import seedu.address.model.uniquelist.UniqueList;
 import seedu.address.model.uniquelist.exceptions.DuplicateItemException;
@@ -38,6 +54,16 @@ public class AddressBook implements ReadOnlyAddressBook {
     private final UniqueList<Attendance> attendances;
     private final UniqueList<Submission> submissions;
 
+    private final StudentIdentityIndex studentIdentityIndex;
+    private final StudentNameIndex studentNameIndex;
+    private final StudentSearchIndex studentSearchIndex;
+    private final AttendanceIndex attendanceIndex;
+    private final SubmissionIndex submissionIndex;
+    private final TutorialEnrolmentIndex tutorialEnrolmentIndex;
+
+    private final ChangeTracker changeTracker;
+    private final IntegrityChecker integrityChecker;
+
     /*
      * The 'unusual' code block below is a non-static initialization block,
      * sometimes used to avoid duplication between constructors. See
@@ -51,6 +77,26 @@ public class AddressBook implements ReadOnlyAddressBook {
         tutorials = new UniqueList<>();
         attendances = new UniqueList<>();
         submissions = new UniqueList<>();
+
+        studentIdentityIndex = new StudentIdentityIndex(students);
+        studentNameIndex = new StudentNameIndex();
+        students.asUnmodifiableObservableList().addListener(studentNameIndex);
+        studentSearchIndex = new StudentSearchIndex();
+        students.asUnmodifiableObservableList().addListener(studentSearchIndex);
+        attendanceIndex = new AttendanceIndex();
+        attendances.asUnmodifiableObservableList().addListener(attendanceIndex);
+        submissionIndex = new SubmissionIndex();
+        submissions.asUnmodifiableObservableList().addListener(submissionIndex);
+        tutorialEnrolmentIndex = new TutorialEnrolmentIndex(students);
+        students.asUnmodifiableObservableList().addListener(tutorialEnrolmentIndex);
+
+        changeTracker = new ChangeTracker();
+        changeTracker.watch(students.asUnmodifiableObservableList(), ChangeTracker.Entity.STUDENT);
+        changeTracker.watch(tutorials.asUnmodifiableObservableList(), ChangeTracker.Entity.TUTORIAL);
+        changeTracker.watch(attendances.asUnmodifiableObservableList(), ChangeTracker.Entity.ATTENDANCE);
+        changeTracker.watch(submissions.asUnmodifiableObservableList(), ChangeTracker.Entity.SUBMISSION);
+
+        integrityChecker = new IntegrityChecker(students, tutorials, attendances, submissions);
     }
 
     public AddressBook() {
@@ -64,6 +110,38 @@ public class AddressBook implements ReadOnlyAddressBook {
         resetData(toBeCopied);
     }
 
+    //// batching
+
+    /**
+     * Starts a batch of modifications to the lists of this address book.
+     * Listeners of each list are told about all modifications made to it until
+     * the matching {@link #commit()} in a single change. Batches may be nested, in
+     * which case listeners are told when the outermost batch is committed.
+     * <p>
+     * The indexes of this address book are kept up to date by listening to its
+     * lists, so modifications made in a batch must not depend on an index
+     * reflecting earlier modifications of the same batch.
+     */
+    public void beginBatch() {
+        students.beginBatch();
+        tutorials.beginBatch();
+        attendances.beginBatch();
+        submissions.beginBatch();
+    }
+
+    /**
+     * Ends the batch started by the matching {@link #beginBatch()}, telling the
+     * listeners of each list about its modifications if it is the outermost batch
+     */
+    public void commit() {
+        // Students first, so that listeners of the other lists see the indexes of
+        // students, such as the enrolment of each tutorial, up to date
+        students.commit();
+        tutorials.commit();
+        attendances.commit();
+        submissions.commit();
+    }
+
     //// list overwrite operations
 
     /**
@@ -80,6 +158,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
+        beginBatch();
         try {
             setStudents(newData.getStudentList());
             setTutorials(newData.getTutorialList());
@@ -88,6 +167,8 @@ public class AddressBook implements ReadOnlyAddressBook {
         } catch (DuplicateItemException e) {
             // Since it's coming from an address book, these errors shouldn't be thrown
             throw new IllegalStateException(MESSAGE_UNKNOWN_ERROR);
+        } finally {
+            commit();
         }
     }
 
@@ -99,7 +180,24 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public boolean hasStudent(Student student) {
         requireNonNull(student);
-        return students.containsIdentity(student);
+        return studentIdentityIndex.findConflict(student).isPresent();
+    }
+
+    /**
+     * Returns the existing student, other than {@code ignore}, that has the same
+     * identity as {@code student}, along with the identity field that collides.
+     */
+    public Optional<StudentIdentityIndex.Conflict> findStudentConflict(Student student, Student ignore) {
+        requireNonNull(student);
+        return studentIdentityIndex.findConflict(student, ignore);
+    }
+
+    /**
+     * Returns the student with the given {@code studentId}, if there is one.
+     */
+    public Optional<Student> findStudent(StudentID studentId) {
+        requireNonNull(studentId);
+        return studentIdentityIndex.find(StudentIdentityIndex.Field.STUDENT_ID, studentId);
     }
 
     /**
@@ -134,6 +232,61 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     }
 
+    /**
+     * Adds {@code toAdd} to the address book, together with their attendance
+     * records in the tutorials they are in. Unlike adding each student with
+     * {@link #addStudent(Student)}, the students and attendance records are each
+     * reported to listeners in a single change. Nothing is added if any of the
+     * students cannot be.
+     *
+     * @throws DuplicateItemException
+     *             if a student already exists in the address book or shares
+     *             identity fields with another of {@code toAdd}
+     * @throws ItemNotFoundException
+     *             if a tutorial of a student does not exist
+     */
+    public void addStudents(Collection<Student> toAdd) throws DuplicateItemException, ItemNotFoundException {
+        requireNonNull(toAdd);
+
+        // Map the tutorials into those that exist in the address book, before
+        // anything is changed
+        var newStudents = new ArrayList<Student>(toAdd.size());
+        for (var p : toAdd) {
+            var student = p.clone();
+            var existingTutorials = new HashSet<Tutorial>();
+            for (var tutorial : student.getTutorials()) {
+                existingTutorials.add(tutorials.find(tutorial).orElseThrow(ItemNotFoundException::new));
+            }
+            student.setTutorials(existingTutorials);
+            newStudents.add(student);
+        }
+
+        beginBatch();
+        try {
+            // Adds none of the students if any of them is a duplicate
+            students.addAll(newStudents);
+
+            var newAttendances = new ArrayList<Attendance>();
+            for (var student : newStudents) {
+                for (var tutorial : student.getTutorials()) {
+                    var attendance = new Attendance(tutorial, student);
+                    tutorial.addAttendance(attendance);
+                    student.addAttendance(attendance);
+                    newAttendances.add(attendance);
+                }
+            }
+
+            try {
+                attendances.addAll(newAttendances);
+            } catch (DuplicateItemException e) {
+                // The students were just added, so none of their attendances exist yet
+                throw new IllegalStateException(MESSAGE_UNKNOWN_ERROR);
+            }
+        } finally {
+            commit();
+        }
+    }
+
     /**
      * Replaces the given student {@code target} in the list with
      * {@code editedstudent}. {@code target} must exist in the address book. The
@@ -143,8 +296,9 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setStudent(Student target, Student editedstudent) throws DuplicateItemException, ItemNotFoundException {
         requireNonNull(editedstudent);
 
-        if (students.containsIdentity(editedstudent, target)) {
-            throw new DuplicateItemException();
+        var conflict = studentIdentityIndex.findConflict(editedstudent, target);
+        if (conflict.isPresent()) {
+            throw new DuplicateItemException(conflict.get().toString());
         }
 
         target.setName(editedstudent.getName());
@@ -154,14 +308,21 @@ public class AddressBook implements ReadOnlyAddressBook {
         target.setDetails(editedstudent.getDetails());
         target.setPhone(editedstudent.getPhone());
 
-        students.set(target, target);
+        beginBatch();
+        try {
+            students.set(target, target);
 
-        for (var s : target.getSubmissions()) {
-            submissions.set(s, s);
-        }
+            for (var s : target.getSubmissions()) {
+                submissions.set(s, s);
+                s.assignment().submissions().refresh(s);
+            }
 
-        for (var a : target.getAttendances()) {
-            attendances.set(a, a);
+            for (var a : target.getAttendances()) {
+                attendances.set(a, a);
+                a.tutorial().attendances().refresh(a);
+            }
+        } finally {
+            commit();
         }
     }
 
@@ -174,18 +335,23 @@ public class AddressBook implements ReadOnlyAddressBook {
         // - submissions
         // - attendances
 
-        removeStudentFromAttendances(key);
-        removeStudentFromSubmissions(key);
-        tutorials.forEach(t -> {
-            t.removeStudent(key);
-            try {
-                tutorials.set(t, t);
-            } catch (DuplicateItemException | ItemNotFoundException e) {
-                throw new IllegalStateException(e);
-            }
-        });
+        beginBatch();
+        try {
+            removeStudentFromAttendances(key);
+            removeStudentFromSubmissions(key);
+            tutorials.forEach(t -> {
+                t.removeStudent(key);
+                try {
+                    tutorials.set(t, t);
+                } catch (DuplicateItemException | ItemNotFoundException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
 
-        students.remove(key);
+            students.remove(key);
+        } finally {
+            commit();
+        }
     }
 
     //// Tutorial operations
@@ -201,30 +367,32 @@ public class AddressBook implements ReadOnlyAddressBook {
      * Deletes a tutorial slot
      */
     public void removeTutorial(Tutorial tutorial) {
-        removeTutorialFromSubmissions(tutorial);
-        removeTutorialFromAttendances(tutorial);
-        students.forEach(s -> {
-            s.removeTutorial(tutorial);
-            try {
-                students.set(s, s);
-            } catch (DuplicateItemException | ItemNotFoundException e) {
-                throw new IllegalStateException(e);
-            }
-        });
+        var studentsInTutorial = getStudentsInTutorial(tutorial);
 
-        tutorials.remove(tutorial);
+        beginBatch();
+        try {
+            removeTutorialFromSubmissions(tutorial);
+            removeTutorialFromAttendances(tutorial);
+            studentsInTutorial.forEach(s -> {
+                s.removeTutorial(tutorial);
+                try {
+                    students.set(s, s);
+                } catch (DuplicateItemException | ItemNotFoundException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+
+            tutorials.remove(tutorial);
+        } finally {
+            commit();
+        }
     }
 
     /**
      * Deletes a tutorial from all students that were allocated to it
      */
     public void removeTutorialFromStudents(Tutorial tutorial) {
-        List<Student> currentList = this.getStudentList();
-
-        for (Student student : currentList) {
-            if (!student.hasTutorial(tutorial)) {
-                continue;
-            }
+        for (Student student : getStudentsInTutorial(tutorial)) {
             Student editedstudent = student.clone();
             Set<Tutorial> newTutorials = new HashSet<>(editedstudent.getTutorials());
             newTutorials.remove(tutorial);
@@ -293,22 +461,29 @@ public class AddressBook implements ReadOnlyAddressBook {
 
         student.addTutorial(existingTutorial);
 
-        addAttendance(existingTutorial, student);
-        var submissionsToAdd = existingTutorial.assignments().stream()
-                        .map(a -> new Submission(a, student, SubmissionStatus.NOT_SUBMITTED)).toList();
-        submissionsToAdd.stream().forEach(submission -> {
+        // Each submission is for a different assignment, so none is looked up in
+        // the index of submissions after being added in the batch
+        beginBatch();
+        try {
+            addAttendance(existingTutorial, student);
+            var submissionsToAdd = existingTutorial.assignments().stream()
+                            .map(a -> new Submission(a, student, SubmissionStatus.NOT_SUBMITTED)).toList();
+            submissionsToAdd.stream().forEach(submission -> {
+                try {
+                    setSubmissionStatus(submission);
+                } catch (ItemNotFoundException | CommandException e) {
+                    // Tutorial, assignment, and student should exist
+                    throw new IllegalStateException(e);
+                }
+            });
+
             try {
-                setSubmissionStatus(submission);
-            } catch (ItemNotFoundException | CommandException e) {
-                // Tutorial, assignment, and student should exist
+                students.set(student, student);
+            } catch (DuplicateItemException | ItemNotFoundException e) {
                 throw new IllegalStateException(e);
             }
-        });
-
-        try {
-            students.set(student, student);
-        } catch (DuplicateItemException | ItemNotFoundException e) {
-            throw new IllegalStateException(e);
+        } finally {
+            commit();
         }
     }
 
@@ -322,19 +497,23 @@ public class AddressBook implements ReadOnlyAddressBook {
         var existingTutorial = tutorials.find(tutorial).orElseThrow((
         ) -> new ItemNotFoundException(MESSAGE_TUTORIAL_NOT_FOUND.formatted(tutorial)));
 
-        submissions.removeIf(s -> s.student().hasSameIdentity(student)
-                        && s.assignment().tutorial().hasSameIdentity(tutorial));
-        attendances.removeIf(s -> s.student().hasSameIdentity(student) && s.tutorial().hasSameIdentity(tutorial));
+        beginBatch();
+        try {
+            submissions.removeIf(s -> s.student().hasSameIdentity(student)
+                            && s.assignment().tutorial().hasSameIdentity(tutorial));
+            attendances.removeIf(s -> s.student().hasSameIdentity(student)
+                            && s.tutorial().hasSameIdentity(tutorial));
 
-        student.removeTutorial(existingTutorial);
-        existingTutorial.assignments().forEach(a -> a.removeStudent(student));
-        existingTutorial.removeStudent(student);
+            student.removeTutorial(existingTutorial);
+            existingTutorial.assignments().forEach(a -> a.removeStudent(student));
+            existingTutorial.removeStudent(student);
 
-        try {
             students.set(student, student);
             tutorials.set(existingTutorial, existingTutorial);
         } catch (DuplicateItemException | ItemNotFoundException e) {
             throw new IllegalStateException(e);
+        } finally {
+            commit();
         }
     }
 
@@ -352,21 +531,17 @@ public class AddressBook implements ReadOnlyAddressBook {
 
         var addedAssignment = tut.addAssignment(assignment);
 
-        // Handle submissions
-        var studentsAffected = students.stream().filter(s -> s.getTutorials().contains(addedAssignment.tutorial()))
-                        .toList();
-        var newSubmissions = studentsAffected.stream()
-                        .map(s -> new Submission(addedAssignment, s, SubmissionStatus.NOT_SUBMITTED)).toList();
+        // Handle submissions, all added in one change as the students are all in the
+        // tutorial
+        var studentsAffected = getStudentsInTutorial(addedAssignment.tutorial());
 
-        for (var s : newSubmissions) {
-            try {
-                setSubmissionStatus(s);
-            } catch (ItemNotFoundException | CommandException e) {
-                throw new IllegalStateException(MESSAGE_UNKNOWN_ERROR);
-            }
+        beginBatch();
+        try {
+            putSubmissions(addedAssignment, studentsAffected, SubmissionStatus.NOT_SUBMITTED);
+            tutorials.set(tut, tut);
+        } finally {
+            commit();
         }
-
-        tutorials.set(tut, tut);
     }
 
     /**
@@ -384,13 +559,16 @@ public class AddressBook implements ReadOnlyAddressBook {
         }
 
         tut.deleteAssignment(assignment);
-        submissions.removeIf(s -> s.assignment().hasSameIdentity(assignment));
-        students.stream().forEach(s -> s.removeAssignment(assignment));
 
+        beginBatch();
         try {
+            submissions.removeIf(s -> s.assignment().hasSameIdentity(assignment));
+            students.stream().forEach(s -> s.removeAssignment(assignment));
             tutorials.set(tut, tut);
         } catch (DuplicateItemException e) {
             throw new IllegalStateException(MESSAGE_UNKNOWN_ERROR);
+        } finally {
+            commit();
         }
     }
 
@@ -401,12 +579,82 @@ public class AddressBook implements ReadOnlyAddressBook {
         var assign = tut.findAssignment(new Assignment(assignmentName, tut)).orElseThrow((
         ) -> new ItemNotFoundException(MESSAGE_ASSIGNMENT_NOT_FOUND.formatted(assignmentName, tut)));
 
-        var student = students.stream().filter(s -> s.getName().toString().equals(studentName)).findAny().orElseThrow((
+        var maybeStudent = Name.isValidName(studentName)
+                        ? studentIdentityIndex.find(StudentIdentityIndex.Field.NAME, new Name(studentName))
+                        : Optional.<Student>empty();
+        var student = maybeStudent.orElseThrow((
         ) -> new ItemNotFoundException(MESSAGE_STUDENT_NOT_FOUND.formatted(studentName)));
 
         setSubmissionStatus(new Submission(assign, student, status));
     }
 
+    /**
+     * Sets the status of the submissions of the students named
+     * {@code studentNames} for the assignment {@code assignmentName} of the
+     * tutorial {@code tutorialName}, creating those that do not exist. Students are
+     * looked up by name through the index of student identities, and their
+     * submissions are changed together rather than one at a time.
+     *
+     * @return the reason the submission of each student that could not be set was
+     *         skipped, keyed by the name given for the student
+     * @throws ItemNotFoundException
+     *             if the tutorial or assignment does not exist, in which case no
+     *             submissions are changed
+     */
+    public Map<String, String> setSubmissionStatuses(String tutorialName, String assignmentName,
+                    Collection<String> studentNames, SubmissionStatus status) throws ItemNotFoundException {
+        requireNonNull(studentNames);
+        var tut = tutorials.find(new Tutorial(tutorialName)).orElseThrow((
+        ) -> new ItemNotFoundException(MESSAGE_TUTORIAL_NOT_FOUND.formatted(tutorialName)));
+        var assign = tut.findAssignment(new Assignment(assignmentName, tut)).orElseThrow((
+        ) -> new ItemNotFoundException(MESSAGE_ASSIGNMENT_NOT_FOUND.formatted(assignmentName, tut)));
+
+        Map<String, String> errors = new LinkedHashMap<>();
+        var studentsToSet = new ArrayList<Student>();
+        Set<Student> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (var studentName : studentNames) {
+            var maybeStudent = Name.isValidName(studentName)
+                            ? studentIdentityIndex.find(StudentIdentityIndex.Field.NAME, new Name(studentName))
+                            : Optional.<Student>empty();
+            if (maybeStudent.isEmpty()) {
+                errors.put(studentName, MESSAGE_STUDENT_NOT_FOUND.formatted(studentName));
+                continue;
+            }
+
+            var student = maybeStudent.orElseThrow();
+            if (!student.getTutorials().contains(tut)) {
+                errors.put(studentName, "'%s' not in '%s'".formatted(student.getName(), tut));
+                continue;
+            }
+            if (seen.add(student)) {
+                studentsToSet.add(student);
+            }
+        }
+
+        putSubmissions(assign, studentsToSet, status);
+        return errors;
+    }
+
+    /**
+     * Sets the status of the submissions of every student in the tutorial
+     * {@code tutorialName} for its assignment {@code assignmentName}, creating
+     * those that do not exist. The submissions are changed together rather than
+     * one at a time.
+     *
+     * @return the number of submissions set
+     */
+    public int setSubmissionStatuses(String tutorialName, String assignmentName, SubmissionStatus status)
+                    throws ItemNotFoundException {
+        var tut = tutorials.find(new Tutorial(tutorialName)).orElseThrow((
+        ) -> new ItemNotFoundException(MESSAGE_TUTORIAL_NOT_FOUND.formatted(tutorialName)));
+        var assign = tut.findAssignment(new Assignment(assignmentName, tut)).orElseThrow((
+        ) -> new ItemNotFoundException(MESSAGE_ASSIGNMENT_NOT_FOUND.formatted(assignmentName, tut)));
+
+        var studentsInTutorial = tutorialEnrolmentIndex.getStudents(tut);
+        putSubmissions(assign, studentsInTutorial, status);
+        return studentsInTutorial.size();
+    }
+
     /**
      * Sets submission status on a submission, identified by assignment, and student
      *
@@ -427,24 +675,49 @@ public class AddressBook implements ReadOnlyAddressBook {
             throw new CommandException("'%s' not in '%s'".formatted(studentInList.getName(), tut));
         }
 
-        // Add to submissions list
-        var newSubmission = new Submission(submission).setAssignment(assignment).setStudent(studentInList);
+        putSubmissions(assignment, List.of(studentInList), submission.status());
+    }
 
-        var submissionInList = submissions.find(newSubmission);
+    /**
+     * Sets the status of the submissions of {@code studentsToSet} for
+     * {@code assignment}, creating those that do not exist. The edited
+     * submissions are reported to listeners in one change, and the created ones
+     * in another. All of them must already be the objects held by the address
+     * book.
+     */
+    private void putSubmissions(Assignment assignment, Collection<Student> studentsToSet, SubmissionStatus status) {
+        var editedSubmissions = new ArrayList<Submission>();
+        var newSubmissions = new ArrayList<Submission>();
+        for (var student : studentsToSet) {
+            var submissionInList = submissionIndex.find(assignment, student);
+            if (submissionInList.isPresent()) {
+                var existingSubmission = submissionInList.orElseThrow();
+                existingSubmission.setStatus(status);
+                editedSubmissions.add(existingSubmission);
+                continue;
+            }
 
-        if (submissionInList.isEmpty()) {
+            var newSubmission = new Submission(assignment, student, status);
             assignment.addSubmission(newSubmission);
-            studentInList.addSubmission(newSubmission);
-            submissions.add(newSubmission);
-        } else {
-            var existingSubmission = submissionInList.orElseThrow();
-            existingSubmission.setStatus(submission.status());
-            try {
-                submissions.set(existingSubmission, existingSubmission);
-            } catch (DuplicateItemException e) {
-                // Since I'm replacing a submission with itself, there should be no duplicates.
-                throw new IllegalStateException(MESSAGE_UNKNOWN_ERROR);
+            student.addSubmission(newSubmission);
+            newSubmissions.add(newSubmission);
+        }
+
+        try {
+            if (!editedSubmissions.isEmpty()) {
+                submissions.setAllInPlace(editedSubmissions);
+            }
+        } catch (ItemNotFoundException e) {
+            // Submissions found through the index are in the list
+            throw new IllegalStateException(MESSAGE_UNKNOWN_ERROR);
+        }
+        try {
+            if (!newSubmissions.isEmpty()) {
+                submissions.addAll(newSubmissions);
             }
+        } catch (DuplicateItemException e) {
+            // Submissions not found through the index are not in the list
+            throw new IllegalStateException(MESSAGE_UNKNOWN_ERROR);
         }
     }
 
@@ -471,15 +744,21 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(tutorial);
         requireNonNull(student);
 
-        for (Attendance attendance : attendances) {
-            if (attendance.tutorial().hasSameIdentity(tutorial) && attendance.student().hasSameIdentity(student)) {
-                attendance.setAttendance(week, isPresent);
-                setIndividualAttendance(attendance);
-                break;
-            }
+        var maybeAttendance = findAttendance(tutorial, student);
+        if (maybeAttendance.isPresent()) {
+            maybeAttendance.get().setAttendance(week, isPresent);
+            setIndividualAttendance(maybeAttendance.get());
         }
     }
 
+    /**
+     * Returns the attendance record of the student with the same identity as
+     * {@code student} in {@code tutorial}
+     */
+    private Optional<Attendance> findAttendance(Tutorial tutorial, Student student) {
+        return students.find(student).flatMap(s -> attendanceIndex.find(tutorial, s));
+    }
+
     public void setAttendance(Attendance attendance) throws ItemNotFoundException {
         // Fetch tutorial from tutorial list
         Tutorial tutorialFromList = tutorials.find(attendance.tutorial()).orElseThrow((
@@ -490,7 +769,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         ) -> new ItemNotFoundException(MESSAGE_STUDENT_NOT_FOUND.formatted(attendance.student())));
 
         // Check whether existing attendance exists in the addressbook
-        var maybeAttendance = attendances.find(attendance);
+        var maybeAttendance = attendanceIndex.find(tutorialFromList, studentFromList);
 
         if (maybeAttendance.isEmpty()) {
             var newAttendance = new Attendance(attendance).setTutorial(tutorialFromList).setStudent(studentFromList);
@@ -499,7 +778,7 @@ public class AddressBook implements ReadOnlyAddressBook {
             attendances.add(newAttendance);
         } else {
             var existingAttendance = maybeAttendance.orElseThrow();
-            existingAttendance.setAttendances(attendance.attendances());
+            existingAttendance.setWeeks(attendance.weeks());
             try {
                 attendances.set(existingAttendance, existingAttendance);
             } catch (DuplicateItemException e) {
@@ -537,12 +816,47 @@ public class AddressBook implements ReadOnlyAddressBook {
         setAttendance(tutorial, week, student, false);
     }
 
+    /**
+     * Marks or unmarks {@code toSet} for every week from {@code fromWeek} to
+     * {@code toWeek}, inclusive. The records are looked up by tutorial and
+     * student, and are reported as changed in a single change of the attendance
+     * list.
+     *
+     * @throws ItemNotFoundException
+     *             if any of the records is not in the address book, in which case
+     *             none are changed
+     */
+    public void setAttendances(Collection<Attendance> toSet, int fromWeek, int toWeek, boolean isPresent)
+                    throws ItemNotFoundException {
+        requireNonNull(toSet);
+
+        var held = new ArrayList<Attendance>(toSet.size());
+        for (var attendance : toSet) {
+            held.add(findAttendance(attendance.tutorial(), attendance.student())
+                            .orElseThrow(() -> new ItemNotFoundException(MESSAGE_ATTENDANCE_NOT_FOUND
+                                            .formatted(attendance.student().getName(), attendance.tutorial()))));
+        }
+
+        held.forEach(attendance -> attendance.setAttendance(fromWeek, toWeek, isPresent));
+        attendances.setAllInPlace(held);
+    }
+
+    /**
+     * Returns the attendance records of the students in {@code tutorial}
+     */
+    public List<Attendance> getAttendancesInTutorial(Tutorial tutorial) throws ItemNotFoundException {
+        requireNonNull(tutorial);
+        var existingTutorial = tutorials.find(tutorial).orElseThrow((
+        ) -> new ItemNotFoundException(MESSAGE_TUTORIAL_NOT_FOUND.formatted(tutorial)));
+        return List.copyOf(existingTutorial.attendances());
+    }
+
     /**
      * Checks whether an attendance exists in the address book
      */
     public boolean hasAttendance(Attendance attendance) {
         requireNonNull(attendance);
-        return attendances.containsIdentity(attendance);
+        return findAttendance(attendance.tutorial(), attendance.student()).isPresent();
     }
 
     /**
@@ -551,21 +865,36 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void populateSubmissions() {
         for (var student : students) {
-            var assignments = student.getTutorials().stream().flatMap(t -> t.assignments().stream()).toList();
+            for (var tutorial : student.getTutorials()) {
+                var tut = tutorials.find(tutorial).orElseThrow((
+                ) -> new IllegalStateException(MESSAGE_TUTORIAL_NOT_FOUND.formatted(tutorial)));
 
-            var submissions = assignments.stream().map(a -> new Submission(a, student, SubmissionStatus.NOT_SUBMITTED))
-                            .collect(Collectors.toCollection(ArrayList::new));
+                tut.assignments().stream().filter(a -> submissionIndex.find(a, student).isEmpty()).toList()
+                                .forEach(a -> putSubmissions(a, List.of(student), SubmissionStatus.NOT_SUBMITTED));
+            }
+        }
+    }
 
-            submissions.removeIf(s -> this.submissions.find(s).isPresent());
+    //// change tracking
 
-            submissions.stream().forEach(s -> {
-                try {
-                    setSubmissionStatus(s);
-                } catch (ItemNotFoundException | CommandException e) {
-                    throw new IllegalStateException(e);
-                }
-            });
-        }
+    /**
+     * Returns the kinds of entities that have changed since the address book was
+     * last marked as saved
+     */
+    public Set<ChangeTracker.Entity> getUnsavedChanges() {
+        return changeTracker.getChanges();
+    }
+
+    public void markSaved() {
+        changeTracker.clear();
+    }
+
+    /**
+     * Marks every kind of entity as changed since the address book was last saved,
+     * so that it is saved in full again
+     */
+    public void markUnsaved() {
+        changeTracker.markAllChanged();
     }
 
     //// util methods
@@ -629,92 +958,60 @@ public class AddressBook implements ReadOnlyAddressBook {
     }
 
     /**
-     * Retrieves the list of students enrolled in a specific tutorial. This method
-     * is a placeholder and should be implemented to return the actual students
-     * enrolled in the given tutorial.
+     * Retrieves the list of students enrolled in a specific tutorial, from an index
+     * of the students of each tutorial.
      *
      * @param tutorial
      *            The tutorial for which the enrolled students are to be retrieved.
      * @return A list of students enrolled in the given tutorial.
      */
-    private List<Student> getStudentsInTutorial(Tutorial tutorial) {
-        return this.getStudentList().stream().filter(student -> student.getTutorials().contains(tutorial))
-                        .collect(Collectors.toList());
+    public List<Student> getStudentsInTutorial(Tutorial tutorial) {
+        requireNonNull(tutorial);
+        return tutorialEnrolmentIndex.getStudents(tutorial);
+    }
+
+    /**
+     * Returns the students whose names contain any of {@code keywords} as a whole
+     * word, ignoring case, from an index of the words in the names of students.
+     * The returned set compares students by reference.
+     */
+    public Set<Student> findStudentsByName(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return studentNameIndex.findAny(keywords);
+    }
+
+    /**
+     * Returns the students with a name, student ID, email or Telegram handle that
+     * starts with, or is a few typing mistakes away from, any of {@code keywords},
+     * ranked by how well they match, best first.
+     *
+     * @see StudentSearchIndex#search(Collection)
+     */
+    public List<Student> searchStudents(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return studentSearchIndex.search(keywords);
     }
 
     /**
-     * Checks whether the address book is valid.
+     * Checks whether the entities changed since the last check are consistent with
+     * the rest of the address book.
      *
      * @throws IllegalStateException
      *             if the data in the address book is inconsistent
      */
     public boolean check() {
-        // Students
-        var studentsFromSubmissions = students.stream().flatMap(s -> s.getTutorials().stream()).toList();
-        var studentsFromAttendances = submissions.stream().map(s -> s.assignment().tutorial()).toList();
-
-        if (!(isSubsetOf(studentsFromSubmissions, tutorials) && isSubsetOf(studentsFromAttendances, tutorials))) {
-            throw new IllegalStateException("Students are inconsistent");
-        }
-
-        // Tutorials
-        var tutorialsFromStudents = students.stream().flatMap(s -> s.getTutorials().stream()).toList();
-        var tutorialsFromSubmissions = submissions.stream().map(s -> s.assignment().tutorial()).toList();
-        var tutorialsFromAttendances = attendances.stream().map(a -> a.tutorial()).toList();
-
-        if (!(isSubsetOf(tutorialsFromStudents, tutorials) && isSubsetOf(tutorialsFromSubmissions, tutorials)
-                        && isSubsetOf(tutorialsFromAttendances, tutorials))) {
-            throw new IllegalStateException("Tutorials are inconsistent");
-        }
-
-        // Assignments
-        var assignmentsFromTutorials = tutorials.stream().flatMap(t -> t.assignments().stream().peek(a -> {
-            if (!a.tutorial().hasSameIdentity(t)) {
-                throw new IllegalStateException("%s is not mapped to %s".formatted(a, t));
-            }
-        })).toList();
-        var assignmentsFromSubmissions = submissions.stream().map(s -> s.assignment()).toList();
-
-        if (!isSubsetOf(assignmentsFromSubmissions, assignmentsFromTutorials)) {
-            throw new IllegalStateException("Assignments are inconsistent");
-        }
-
-        // Submissions
-        var submissionsFromAssignments = assignmentsFromTutorials.stream()
-                        .flatMap(a -> a.submissions().stream().peek(s -> {
-                            if (!s.assignment().hasSameIdentity(a)) {
-                                throw new IllegalStateException("%s is not mapped to %s".formatted(s, a));
-                            }
-                        })).toList();
-        var submissionsFromStudents = students.stream().flatMap(s -> s.getSubmissions().stream()).toList();
-
-        if (!areListSame(submissionsFromAssignments, submissionsFromStudents, submissions)) {
-            throw new IllegalStateException("Submissions are inconsistent");
-        }
-
-        // Attendances
-        var attendancesFromStudents = students.stream().flatMap(s -> s.getAttendances().stream()).toList();
-        var attendancesFromTutorials = tutorials.stream().flatMap(t -> t.attendances().stream()).toList();
-
-        if (!areListSame(attendancesFromStudents, attendancesFromTutorials, attendances)) {
-            throw new IllegalStateException("Attendances are inconsistent");
-        }
-
-        // More checks (the more the merrier)
-        for (var s : students) {
-            for (var t : s.getTutorials()) {
-                if (tutorials.contains(t)) {
-                    continue;
-                }
-                throw new IllegalStateException("%s is not linked to %s".formatted(s, t));
-            }
-        }
-
-        return true;
+        return integrityChecker.check();
     }
 
-    private static <T> boolean isSubsetOf(List<T> child, List<T> parent) {
-        return new HashSet<>(parent).containsAll(child);
+    /**
+     * Checks whether every entity in the address book is consistent.
+     *
+     * @return how long the check took.
+     * @throws IllegalStateException
+     *             if the data in the address book is inconsistent
+     */
+    public Duration verify() {
+        return integrityChecker.verify();
     }
 
     private static <T> boolean areListSame(List<T>... lists) {
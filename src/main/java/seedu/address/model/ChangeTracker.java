@@ -0,0 +1,63 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+import javafx.beans.Observable;
+import javafx.collections.ObservableList;
+
+/**
+ * Tracks the kinds of entities in an address book that have changed since it
+ * was last saved.
+ * <p>
+ * Changes are detected by listening to the lists holding the entities. Entities
+ * that are edited in place are replaced with themselves in their list to
+ * notify the UI, so these edits are detected as well.
+ */
+public class ChangeTracker {
+
+    /**
+     * Represents a kind of entity held by an address book
+     */
+    public enum Entity {
+        STUDENT, TUTORIAL, ATTENDANCE, SUBMISSION
+    }
+
+    private final Set<Entity> changes = EnumSet.noneOf(Entity.class);
+
+    /**
+     * Records a change to {@code entity} whenever {@code list} changes
+     */
+    public void watch(ObservableList<?> list, Entity entity) {
+        requireNonNull(list);
+        requireNonNull(entity);
+        list.addListener((Observable observable) -> changes.add(entity));
+    }
+
+    /**
+     * Returns the kinds of entities that have changed since the last call to
+     * {@link #clear()}
+     */
+    public Set<Entity> getChanges() {
+        return Collections.unmodifiableSet(EnumSet.copyOf(changes));
+    }
+
+    public boolean hasChanges() {
+        return !changes.isEmpty();
+    }
+
+    public void clear() {
+        changes.clear();
+    }
+
+    /**
+     * Records a change to every kind of entity, such as when the last save of the
+     * address book could not be written
+     */
+    public void markAllChanged() {
+        changes.addAll(EnumSet.allOf(Entity.class));
+    }
+}
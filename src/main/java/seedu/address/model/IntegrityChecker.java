@@ -0,0 +1,263 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.attendance.Attendance;
+import seedu.address.model.student.Student;
+import seedu.address.model.submission.Submission;
+import seedu.address.model.tutorial.Assignment;
+import seedu.address.model.tutorial.Tutorial;
+import seedu.address.model.uniquelist.Identifiable;
+import seedu.address.model.uniquelist.UniqueList;
+
+/**
+ * Checks that the entities of an address book refer to each other consistently.
+ * <p>
+ * Entities added to, removed from or replaced in the lists of the address book
+ * are recorded by listening to the lists. {@link #check()} only checks the
+ * relationships of the entities recorded since the last check, so that it can
+ * run after every command. {@link #verify()} checks every entity.
+ * <p>
+ * As {@link #check()} is only run in assertions, entities are only recorded when
+ * assertions are enabled, so that the recorded entities are not kept forever
+ * when they are not.
+ */
+class IntegrityChecker {
+
+    private static final Logger logger = LogsCenter.getLogger(IntegrityChecker.class);
+
+    private final UniqueList<Student> students;
+    private final UniqueList<Tutorial> tutorials;
+    private final UniqueList<Attendance> attendances;
+    private final UniqueList<Submission> submissions;
+
+    // Entities are compared by reference, as they are edited in place
+    private final Set<Student> touchedStudents = newIdentitySet();
+    private final Set<Tutorial> touchedTutorials = newIdentitySet();
+    private final Set<Attendance> touchedAttendances = newIdentitySet();
+    private final Set<Submission> touchedSubmissions = newIdentitySet();
+
+    /**
+     * Creates a checker of the entities held by the given lists, recording the
+     * entities that change from now on.
+     */
+    IntegrityChecker(UniqueList<Student> students, UniqueList<Tutorial> tutorials,
+                    UniqueList<Attendance> attendances, UniqueList<Submission> submissions) {
+        this.students = requireNonNull(students);
+        this.tutorials = requireNonNull(tutorials);
+        this.attendances = requireNonNull(attendances);
+        this.submissions = requireNonNull(submissions);
+
+        if (!IntegrityChecker.class.desiredAssertionStatus()) {
+            return;
+        }
+
+        record(students, touchedStudents);
+        record(tutorials, touchedTutorials);
+        record(attendances, touchedAttendances);
+        record(submissions, touchedSubmissions);
+    }
+
+    private static <T> Set<T> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    private static <T extends Identifiable<T>> void record(UniqueList<T> list, Set<T> touched) {
+        list.asUnmodifiableObservableList().addListener((ListChangeListener<T>) change -> {
+            while (change.next()) {
+                touched.addAll(change.getRemoved());
+                touched.addAll(change.getAddedSubList());
+            }
+        });
+    }
+
+    /**
+     * Checks the relationships of the entities that changed since the last check,
+     * which are only recorded when assertions are enabled.
+     *
+     * @throws IllegalStateException
+     *             if the data in the address book is inconsistent
+     */
+    boolean check() {
+        long start = System.nanoTime();
+        int count = touchedStudents.size() + touchedTutorials.size() + touchedAttendances.size()
+                        + touchedSubmissions.size();
+
+        try {
+            touchedStudents.forEach(this::checkStudent);
+            touchedTutorials.forEach(this::checkTutorial);
+            touchedAttendances.forEach(this::checkAttendance);
+            touchedSubmissions.forEach(this::checkSubmission);
+        } finally {
+            clear();
+        }
+
+        logger.fine("Checked %d changed entities in %s".formatted(count, Duration.ofNanos(System.nanoTime() - start)));
+        return true;
+    }
+
+    /**
+     * Checks the relationships of every entity, and that each of them is held
+     * exactly once by every list that should hold it.
+     *
+     * @return how long the check took.
+     * @throws IllegalStateException
+     *             if the data in the address book is inconsistent
+     */
+    Duration verify() {
+        long start = System.nanoTime();
+        clear();
+
+        students.forEach(this::checkStudent);
+        tutorials.forEach(this::checkTutorial);
+        attendances.forEach(this::checkAttendance);
+        submissions.forEach(this::checkSubmission);
+
+        // Every held entity is in the lists of its owners, so equal totals rule out
+        // entities that only some of the lists hold
+        if (students.stream().mapToInt(s -> s.getAttendances().size()).sum() != attendances.size()
+                        || tutorials.stream().mapToInt(t -> t.attendances().size()).sum() != attendances.size()) {
+            throw new IllegalStateException("Attendances are inconsistent");
+        }
+        if (students.stream().mapToInt(s -> s.getSubmissions().size()).sum() != submissions.size()
+                        || tutorials.stream().flatMap(t -> t.assignments().stream())
+                                        .mapToInt(a -> a.submissions().size()).sum() != submissions.size()) {
+            throw new IllegalStateException("Submissions are inconsistent");
+        }
+
+        var duration = Duration.ofNanos(System.nanoTime() - start);
+        logger.info("Verified %d students, %d tutorials, %d attendances and %d submissions in %s".formatted(
+                        students.size(), tutorials.size(), attendances.size(), submissions.size(), duration));
+        return duration;
+    }
+
+    private void clear() {
+        touchedStudents.clear();
+        touchedTutorials.clear();
+        touchedAttendances.clear();
+        touchedSubmissions.clear();
+    }
+
+    private void checkStudent(Student student) {
+        if (!isHeld(students, student)) {
+            // Nothing held may still refer to a removed student
+            if (student.getAttendances().stream().anyMatch(a -> isHeld(attendances, a) && a.student() == student)
+                            || student.getSubmissions().stream()
+                                            .anyMatch(s -> isHeld(submissions, s) && s.student() == student)) {
+                throw new IllegalStateException("Removed student %s is still referred to".formatted(student));
+            }
+            return;
+        }
+
+        for (var tutorial : student.getTutorials()) {
+            if (tutorials.find(tutorial).isEmpty()) {
+                throw new IllegalStateException("%s is not linked to %s".formatted(student, tutorial));
+            }
+        }
+        if (!student.getAttendances().stream().allMatch(a -> isHeld(attendances, a))) {
+            throw new IllegalStateException("Attendances of %s are inconsistent".formatted(student));
+        }
+        if (!student.getSubmissions().stream().allMatch(s -> isHeld(submissions, s))) {
+            throw new IllegalStateException("Submissions of %s are inconsistent".formatted(student));
+        }
+    }
+
+    private void checkTutorial(Tutorial tutorial) {
+        if (!isHeld(tutorials, tutorial)) {
+            // Tutorials are rarely removed, so looking through every student is fine
+            if (tutorials.find(tutorial).isEmpty()
+                            && students.stream().anyMatch(s -> s.getTutorials().contains(tutorial))) {
+                throw new IllegalStateException("Removed tutorial %s is still referred to".formatted(tutorial));
+            }
+            return;
+        }
+
+        for (var assignment : tutorial.assignments()) {
+            if (!assignment.tutorial().hasSameIdentity(tutorial)) {
+                throw new IllegalStateException("%s is not mapped to %s".formatted(assignment, tutorial));
+            }
+            for (var submission : assignment.submissions()) {
+                if (!submission.assignment().hasSameIdentity(assignment)) {
+                    throw new IllegalStateException("%s is not mapped to %s".formatted(submission, assignment));
+                }
+                if (!isHeld(submissions, submission)) {
+                    throw new IllegalStateException("Submissions of %s are inconsistent".formatted(assignment));
+                }
+            }
+        }
+        if (!tutorial.attendances().stream().allMatch(a -> isHeld(attendances, a))) {
+            throw new IllegalStateException("Attendances of %s are inconsistent".formatted(tutorial));
+        }
+    }
+
+    private void checkAttendance(Attendance attendance) {
+        var tutorial = tutorials.find(attendance.tutorial());
+
+        if (!isHeld(attendances, attendance)) {
+            var student = attendance.student();
+            if (isHeld(students, student) && containsSame(student.getAttendances(), attendance)
+                            || tutorial.isPresent() && containsSame(tutorial.get().attendances(), attendance)) {
+                throw new IllegalStateException("Removed attendance %s is still referred to".formatted(attendance));
+            }
+            return;
+        }
+
+        if (tutorial.isEmpty()) {
+            throw new IllegalStateException("%s is not linked to %s".formatted(attendance, attendance.tutorial()));
+        }
+        if (!containsSame(attendance.student().getAttendances(), attendance)
+                        || !containsSame(tutorial.get().attendances(), attendance)) {
+            throw new IllegalStateException("Attendance %s is inconsistent".formatted(attendance));
+        }
+    }
+
+    private void checkSubmission(Submission submission) {
+        var assignment = findAssignment(submission.assignment());
+
+        if (!isHeld(submissions, submission)) {
+            var student = submission.student();
+            if (isHeld(students, student) && containsSame(student.getSubmissions(), submission)
+                            || assignment != null && containsSame(assignment.submissions(), submission)) {
+                throw new IllegalStateException("Removed submission %s is still referred to".formatted(submission));
+            }
+            return;
+        }
+
+        if (assignment == null) {
+            throw new IllegalStateException("%s is not linked to %s".formatted(submission, submission.assignment()));
+        }
+        if (!containsSame(submission.student().getSubmissions(), submission)
+                        || !containsSame(assignment.submissions(), submission)) {
+            throw new IllegalStateException("Submission %s is inconsistent".formatted(submission));
+        }
+    }
+
+    /**
+     * Returns the assignment held by the address book with the same identity as
+     * {@code assignment}, or null if there is none
+     */
+    private Assignment findAssignment(Assignment assignment) {
+        return tutorials.find(assignment.tutorial()).flatMap(t -> t.findAssignment(assignment)).orElse(null);
+    }
+
+    /**
+     * Returns true if {@code list} holds {@code item} itself, rather than another
+     * entity with the same identity
+     */
+    private static <T extends Identifiable<T>> boolean isHeld(UniqueList<T> list, T item) {
+        return list.find(item).filter(found -> found == item).isPresent();
+    }
+
+    private static <T> boolean containsSame(List<T> list, T item) {
+        return list.stream().anyMatch(found -> found == item);
+    }
+}
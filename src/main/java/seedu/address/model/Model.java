@@ -1,15 +1,22 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.beans.property.ObjectProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.metrics.CommandMetrics;
 import seedu.address.model.attendance.Attendance;
 import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentIdentityIndex;
 import seedu.address.model.submission.Submission;
 import seedu.address.model.submission.SubmissionStatus;
 import seedu.address.model.tutorial.Assignment;
@@ -106,6 +113,24 @@ public interface Model {
      */
     void addStudent(Student student);
 
+    /**
+     * Adds the given students all at once. Nothing is added if any of them cannot
+     * be.
+     *
+     * @throws DuplicateItemException
+     *             if a student already exists in the address book or shares
+     *             identity fields with another of {@code students}
+     * @throws ItemNotFoundException
+     *             if a tutorial of a student does not exist
+     */
+    void addStudents(Collection<Student> students) throws DuplicateItemException, ItemNotFoundException;
+
+    /**
+     * Returns the existing student that shares an identity field with
+     * {@code student}, together with the field, if there is one.
+     */
+    Optional<StudentIdentityIndex.Conflict> findStudentConflict(Student student);
+
     /**
      * Replaces the given student {@code target} with {@code editedStudent}.
      * {@code target} must exist in the address book. The student identity of
@@ -148,6 +173,25 @@ public interface Model {
     void setSubmissionStatus(String tutorialName, String assignmentName, String studentName, SubmissionStatus status)
                     throws ItemNotFoundException, CommandException;
 
+    /**
+     * Sets the submission status of the students named {@code studentNames} for an
+     * assignment, all at once
+     *
+     * @return the reason each student that was skipped could not be set, keyed by
+     *         name
+     */
+    Map<String, String> setSubmissionStatuses(String tutorialName, String assignmentName,
+                    Collection<String> studentNames, SubmissionStatus status) throws ItemNotFoundException;
+
+    /**
+     * Sets the submission status of every student in a tutorial for one of its
+     * assignments, all at once
+     *
+     * @return the number of submissions set
+     */
+    int setSubmissionStatuses(String tutorialName, String assignmentName, SubmissionStatus status)
+                    throws ItemNotFoundException;
+
     /**
      * Adds an assignment to tutorial slot
      */
@@ -168,6 +212,22 @@ public interface Model {
      */
     void unmarkAttendance(Tutorial tutorial, int week, Student student) throws ItemNotFoundException;
 
+    /**
+     * Marks or unmarks {@code attendances} for every week from {@code fromWeek} to
+     * {@code toWeek}, inclusive, as a single change
+     *
+     * @throws ItemNotFoundException
+     *             if any of the records does not exist, in which case none are
+     *             changed
+     */
+    void setAttendances(Collection<Attendance> attendances, int fromWeek, int toWeek, boolean isPresent)
+                    throws ItemNotFoundException;
+
+    /**
+     * Returns the attendance records of the students in {@code tutorial}
+     */
+    List<Attendance> getAttendancesInTutorial(Tutorial tutorial) throws ItemNotFoundException;
+
     /**
      * Checks whether an attendance exists in the address book
      */
@@ -256,6 +316,28 @@ public interface Model {
      */
     List<Student> getStudentsInTutorial(Tutorial tutorial);
 
+    /**
+     * Returns the students whose names contain any of {@code keywords} as a whole
+     * word, ignoring case. The returned set compares students by reference.
+     */
+    Set<Student> findStudentsByName(Collection<String> keywords);
+
+    /**
+     * Returns the students with a name, student ID, email or Telegram handle that
+     * starts with, or is a few typing mistakes away from, any of {@code keywords}.
+     * The students are ranked by how well they match, best first.
+     */
+    List<Student> searchStudents(Collection<String> keywords);
+
+    /**
+     * Updates the filtered student list to show only {@code rankedStudents}, in
+     * the order given.
+     *
+     * @throws NullPointerException
+     *             if {@code rankedStudents} is null.
+     */
+    void updateFilteredStudentListByRank(List<Student> rankedStudents);
+
     /**
      * Updates the filter of the filtered tutorial list to filter by the given
      * {@code predicate} for tutorial group(s), along with retrieving students in
@@ -266,8 +348,46 @@ public interface Model {
      */
     void updateFilteredTutorialWithStudentsList(Predicate<Tutorial> predicate);
 
+    /**
+     * Checks whether the entities changed since the last check are consistent with
+     * the rest of the address book.
+     *
+     * @throws IllegalStateException
+     *             if the data in the address book is inconsistent
+     */
     boolean check();
 
+    /**
+     * Checks whether every entity in the address book is consistent, returning how
+     * long the check took.
+     *
+     * @throws IllegalStateException
+     *             if the data in the address book is inconsistent
+     */
+    Duration verify();
+
+    /**
+     * Returns the metrics of the commands run on this model
+     */
+    CommandMetrics getCommandMetrics();
+
+    /**
+     * Returns the kinds of entities in the address book that have changed since it
+     * was last saved.
+     */
+    Set<ChangeTracker.Entity> getUnsavedChanges();
+
+    /**
+     * Marks the current state of the address book as saved.
+     */
+    void markAddressBookSaved();
+
+    /**
+     * Marks the whole address book as unsaved, such as when its last save could not
+     * be written, so that it is saved in full again.
+     */
+    void markAddressBookUnsaved();
+
     void addStudentToTutorial(Tutorial tutorial, Student student) throws ItemNotFoundException;
 
     void removeStudentFromTutorial(Tutorial tutorial, Student student) throws ItemNotFoundException;
@@ -4,21 +4,32 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
+import javafx.beans.InvalidationListener;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.metrics.CommandMetrics;
 import seedu.address.model.attendance.Attendance;
 import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentIdentityIndex;
 import seedu.address.model.submission.Submission;
 import seedu.address.model.submission.SubmissionStatus;
 import seedu.address.model.tutorial.Assignment;
@@ -36,10 +47,14 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Student> filteredStudents;
+    private final SortedList<Student> sortedStudents;
     private final FilteredList<Tutorial> filteredTutorials;
     private ObjectProperty<Student> student;
     private final FilteredList<Attendance> filteredAttendances;
     private final FilteredList<Submission> filteredSubmissions;
+    private final CommandMetrics commandMetrics = new CommandMetrics();
+    // Filters the students again when the tutorials change while they are filtered by tutorial
+    private InvalidationListener tutorialFilterListener;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -53,6 +68,7 @@ public class ModelManager implements Model {
         this.userPrefs = new UserPrefs(userPrefs);
         student = new SimpleObjectProperty<>();
         filteredStudents = new FilteredList<>(this.addressBook.getStudentList());
+        sortedStudents = new SortedList<>(filteredStudents);
         filteredTutorials = new FilteredList<>(this.addressBook.getTutorialList());
         filteredAttendances = new FilteredList<>(this.addressBook.getAttendanceList());
         filteredSubmissions = new FilteredList<>(this.addressBook.getSubmissionList());
@@ -149,6 +165,18 @@ public class ModelManager implements Model {
         updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
     }
 
+    @Override
+    public void addStudents(Collection<Student> students) throws DuplicateItemException, ItemNotFoundException {
+        addressBook.addStudents(students);
+        updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
+    }
+
+    @Override
+    public Optional<StudentIdentityIndex.Conflict> findStudentConflict(Student student) {
+        requireNonNull(student);
+        return addressBook.findStudentConflict(student, null);
+    }
+
     @Override
     public void setStudent(Student target, Student editedStudent) throws DuplicateItemException, ItemNotFoundException {
         requireAllNonNull(target, editedStudent);
@@ -189,6 +217,18 @@ public class ModelManager implements Model {
         addressBook.setSubmissionStatus(tutorialName, assignmentName, studentName, status);
     }
 
+    @Override
+    public Map<String, String> setSubmissionStatuses(String tutorialName, String assignmentName,
+                    Collection<String> studentNames, SubmissionStatus status) throws ItemNotFoundException {
+        return addressBook.setSubmissionStatuses(tutorialName, assignmentName, studentNames, status);
+    }
+
+    @Override
+    public int setSubmissionStatuses(String tutorialName, String assignmentName, SubmissionStatus status)
+                    throws ItemNotFoundException {
+        return addressBook.setSubmissionStatuses(tutorialName, assignmentName, status);
+    }
+
     @Override
     public void addAssignment(Assignment assignment) throws ItemNotFoundException, DuplicateItemException {
         addressBook.addAssignment(assignment);
@@ -209,6 +249,17 @@ public class ModelManager implements Model {
         addressBook.unmarkAttendance(tutorial, week, student);
     }
 
+    @Override
+    public void setAttendances(Collection<Attendance> attendances, int fromWeek, int toWeek, boolean isPresent)
+                    throws ItemNotFoundException {
+        addressBook.setAttendances(attendances, fromWeek, toWeek, isPresent);
+    }
+
+    @Override
+    public List<Attendance> getAttendancesInTutorial(Tutorial tutorial) throws ItemNotFoundException {
+        return addressBook.getAttendancesInTutorial(tutorial);
+    }
+
     @Override
     public boolean hasAttendance(Attendance attendance) {
         return addressBook.hasAttendance(attendance);
@@ -219,20 +270,61 @@ public class ModelManager implements Model {
 
     @Override
     public ObservableList<Student> getFilteredStudentList() {
-        return filteredStudents;
+        return sortedStudents;
     }
 
     @Override
     public void updateFilteredStudentList(Predicate<Student> predicate) {
         requireNonNull(predicate);
+        stopFilteringByTutorials();
         filteredStudents.setPredicate(predicate);
+        sortedStudents.setComparator(null);
+    }
+
+    @Override
+    public void updateFilteredStudentListByRank(List<Student> rankedStudents) {
+        requireNonNull(rankedStudents);
+
+        Map<Student, Integer> ranks = new IdentityHashMap<>();
+        rankedStudents.forEach(student -> ranks.putIfAbsent(student, ranks.size()));
+        stopFilteringByTutorials();
+        filteredStudents.setPredicate(ranks::containsKey);
+        sortedStudents.setComparator(Comparator.comparingInt(ranks::get));
+    }
+
+    @Override
+    public List<Student> searchStudents(Collection<String> keywords) {
+        return addressBook.searchStudents(keywords);
     }
 
     @Override
     public void updateFilteredStudentsByTutorialList(Predicate<Tutorial> predicate) {
         requireNonNull(predicate);
-        Predicate<Student> studentPredicate = student -> student.getTutorials().stream().anyMatch(predicate);
-        filteredStudents.setPredicate(studentPredicate);
+
+        stopFilteringByTutorials();
+        tutorialFilterListener = observable -> filterByTutorials(predicate);
+        addressBook.getTutorialList().addListener(tutorialFilterListener);
+        filterByTutorials(predicate);
+        sortedStudents.setComparator(null);
+    }
+
+    /**
+     * Shows the students in a tutorial matching {@code predicate}. The predicate is
+     * tested once per tutorial rather than once per enrolment, so the matching
+     * tutorials are found again whenever the tutorials change.
+     */
+    private void filterByTutorials(Predicate<Tutorial> predicate) {
+        Set<String> matchingTutorials = addressBook.getTutorialList().stream().filter(predicate)
+                        .map(Tutorial::name).collect(Collectors.toSet());
+        filteredStudents.setPredicate(
+                        student -> student.getTutorials().stream().anyMatch(t -> matchingTutorials.contains(t.name())));
+    }
+
+    private void stopFilteringByTutorials() {
+        if (tutorialFilterListener != null) {
+            addressBook.getTutorialList().removeListener(tutorialFilterListener);
+            tutorialFilterListener = null;
+        }
     }
 
     // =========== Filtered Tutorial List Accessors
@@ -255,8 +347,12 @@ public class ModelManager implements Model {
 
     @Override
     public List<Student> getStudentsInTutorial(Tutorial tutorial) {
-        return this.addressBook.getStudentList().stream().filter(student -> student.getTutorials().contains(tutorial))
-                        .collect(Collectors.toList());
+        return addressBook.getStudentsInTutorial(tutorial);
+    }
+
+    @Override
+    public Set<Student> findStudentsByName(Collection<String> keywords) {
+        return addressBook.findStudentsByName(keywords);
     }
 
     @Override
@@ -277,6 +373,31 @@ public class ModelManager implements Model {
         return addressBook.check();
     }
 
+    @Override
+    public Duration verify() {
+        return addressBook.verify();
+    }
+
+    @Override
+    public CommandMetrics getCommandMetrics() {
+        return commandMetrics;
+    }
+
+    @Override
+    public Set<ChangeTracker.Entity> getUnsavedChanges() {
+        return addressBook.getUnsavedChanges();
+    }
+
+    @Override
+    public void markAddressBookSaved() {
+        addressBook.markSaved();
+    }
+
+    @Override
+    public void markAddressBookUnsaved() {
+        addressBook.markUnsaved();
+    }
+
     @Override
     public void addStudentToTutorial(Tutorial tutorial, Student student) throws ItemNotFoundException {
         addressBook.addStudentToTutorial(tutorial, student);
@@ -330,7 +451,7 @@ public class ModelManager implements Model {
 
         ModelManager otherModelManager = (ModelManager) other;
         return addressBook.equals(otherModelManager.addressBook) && userPrefs.equals(otherModelManager.userPrefs)
-                        && filteredStudents.equals(otherModelManager.filteredStudents)
+                        && sortedStudents.equals(otherModelManager.sortedStudents)
                         && filteredTutorials.equals(otherModelManager.filteredTutorials);
     }
 
@@ -1,10 +1,7 @@
 package seedu.address.model.attendance;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.Objects;
 
 import seedu.address.model.student.Student;
 import seedu.address.model.tutorial.Tutorial;
@@ -12,37 +9,96 @@ import seedu.address.model.uniquelist.Identifiable;
 
 /**
  * Represents an attendance record
+ * <p>
+ * The weeks a student was present are held as bits of an {@code int}, with the
+ * lowest bit for {@link #FIRST_WEEK}, so records can be copied and queried
+ * without allocating.
  */
-public record Attendance(Tutorial tutorial, Student student,
-                List<Integer> attendances) implements Identifiable<Attendance> {
-    private static final int NUMBER_OF_WEEKS = 11;
-    private static final int ABSENT = 0;
-    private static final int PRESENT = 1;
-    private static final int DIFFERENCE = 3;
+public class Attendance implements Identifiable<Attendance> {
+    public static final int FIRST_WEEK = 3;
+    public static final int NUMBER_OF_WEEKS = 11;
+    public static final int LAST_WEEK = FIRST_WEEK + NUMBER_OF_WEEKS - 1;
 
-    public Attendance(Tutorial tutorial, Student student) {
-        this(tutorial, student, new ArrayList<>(Collections.nCopies(NUMBER_OF_WEEKS, ABSENT)));
-    }
+    private static final int ALL_WEEKS = (1 << NUMBER_OF_WEEKS) - 1;
+
+    private final Tutorial tutorial;
+    private final Student student;
+    private int weeks;
 
-    public Attendance {
-        attendances = fixAttendances(attendances);
+    /**
+     * Constructs a new {@link Attendance} object
+     *
+     * @param weeks
+     *            the weeks the student was present, with the lowest bit for
+     *            {@link #FIRST_WEEK}. Bits past {@link #LAST_WEEK} are ignored.
+     */
+    public Attendance(Tutorial tutorial, Student student, int weeks) {
+        this.tutorial = tutorial;
+        this.student = student;
+        this.weeks = weeks & ALL_WEEKS;
     }
 
-    public Attendance(Attendance other) {
-        this(other.tutorial, other.student, other.attendances);
+    public Attendance(Tutorial tutorial, Student student) {
+        this(tutorial, student, 0);
     }
 
-    private static List<Integer> fixAttendances(List<Integer> attendances) {
-        return Stream.concat(attendances.stream(), Stream.generate((
-        ) -> 0)).limit(NUMBER_OF_WEEKS).collect(Collectors.toCollection(ArrayList::new));
+    public Attendance(Attendance other) {
+        this(other.tutorial, other.student, other.weeks);
     }
 
     public Attendance setTutorial(Tutorial t) {
-        return new Attendance(t, student, new ArrayList<>(attendances));
+        return new Attendance(t, student, weeks);
     }
 
     public Attendance setStudent(Student s) {
-        return new Attendance(tutorial, s, new ArrayList<>(attendances));
+        return new Attendance(tutorial, s, weeks);
+    }
+
+    public Tutorial tutorial() {
+        return tutorial;
+    }
+
+    public Student student() {
+        return student;
+    }
+
+    /**
+     * Returns the weeks the student was present, with the lowest bit for
+     * {@link #FIRST_WEEK}
+     */
+    public int weeks() {
+        return weeks;
+    }
+
+    /**
+     * Returns whether the student was present on {@code week}
+     */
+    public boolean isPresent(int week) {
+        return (weeks & bitOf(week)) != 0;
+    }
+
+    /**
+     * Returns the number of weeks the student was present
+     */
+    public int countPresent() {
+        return Integer.bitCount(weeks);
+    }
+
+    /**
+     * Returns whether the student was present on every week from
+     * {@code fromWeek} to {@code toWeek}, inclusive
+     */
+    public boolean isPresentInAll(int fromWeek, int toWeek) {
+        var mask = maskOf(fromWeek, toWeek);
+        return (weeks & mask) == mask;
+    }
+
+    /**
+     * Returns whether the student was present on any week from {@code fromWeek}
+     * to {@code toWeek}, inclusive
+     */
+    public boolean isPresentInAny(int fromWeek, int toWeek) {
+        return (weeks & maskOf(fromWeek, toWeek)) != 0;
     }
 
     /**
@@ -55,15 +111,41 @@ public record Attendance(Tutorial tutorial, Student student,
      */
     public void setAttendance(int week, boolean isPresent) {
         if (isPresent) {
-            attendances.set(week - DIFFERENCE, PRESENT);
+            weeks |= bitOf(week);
+        } else {
+            weeks &= ~bitOf(week);
+        }
+    }
+
+    /**
+     * Marks or unmarks attendance for every week from {@code fromWeek} to
+     * {@code toWeek}, inclusive
+     */
+    public void setAttendance(int fromWeek, int toWeek, boolean isPresent) {
+        if (isPresent) {
+            weeks |= maskOf(fromWeek, toWeek);
         } else {
-            attendances.set(week - DIFFERENCE, ABSENT);
+            weeks &= ~maskOf(fromWeek, toWeek);
         }
     }
 
-    public void setAttendances(List<Integer> attendances) {
-        this.attendances.clear();
-        this.attendances.addAll(attendances);
+    public void setWeeks(int weeks) {
+        this.weeks = weeks & ALL_WEEKS;
+    }
+
+    private static int bitOf(int week) {
+        if (week < FIRST_WEEK || week > LAST_WEEK) {
+            throw new IndexOutOfBoundsException("Week %d is not between %d and %d".formatted(week, FIRST_WEEK,
+                            LAST_WEEK));
+        }
+        return 1 << (week - FIRST_WEEK);
+    }
+
+    private static int maskOf(int fromWeek, int toWeek) {
+        if (fromWeek > toWeek) {
+            return 0;
+        }
+        return (bitOf(toWeek) << 1) - bitOf(fromWeek);
     }
 
     @Override
@@ -74,4 +156,44 @@ public record Attendance(Tutorial tutorial, Student student,
 
         return this.tutorial.hasSameIdentity(other.tutorial) && this.student.hasSameIdentity(other.student);
     }
+
+    /**
+     * Returns the tutorial name paired with each of the student's identity keys
+     */
+    @Override
+    public List<Object> identityKeys() {
+        return student.identityKeys().stream().map(key -> (Object) List.of(tutorial.name(), key)).toList();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+
+        if (!(obj instanceof Attendance otherAttendance)) {
+            return false;
+        }
+
+        return tutorial.equals(otherAttendance.tutorial) && student.equals(otherAttendance.student)
+                        && weeks == otherAttendance.weeks;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(tutorial, student, weeks);
+    }
+
+    /**
+     * Returns the tutorial, the student and the attendance of each week from
+     * {@link #FIRST_WEEK}, as 1 if the student was present and 0 otherwise
+     */
+    @Override
+    public String toString() {
+        var builder = new StringBuilder("%s %s [".formatted(tutorial, student));
+        for (int i = 0; i < NUMBER_OF_WEEKS; i++) {
+            builder.append(i == 0 ? "" : ", ").append((weeks >>> i) & 1);
+        }
+        return builder.append(']').toString();
+    }
 }
@@ -0,0 +1,70 @@
+package seedu.address.model.attendance;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.student.Student;
+import seedu.address.model.tutorial.Tutorial;
+
+/**
+ * Indexes attendance records by their tutorial name and student.
+ * <p>
+ * Students are keyed by reference rather than by their identity fields, as
+ * those fields can be edited in place. Lookups should therefore be done with
+ * the student object held by the address book. The index is kept in sync by
+ * registering it as a listener of the list of attendances it indexes.
+ */
+public class AttendanceIndex implements ListChangeListener<Attendance> {
+
+    private final Map<Student, Map<String, Attendance>> attendances = new IdentityHashMap<>();
+
+    @Override
+    public void onChanged(Change<? extends Attendance> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::remove);
+            change.getAddedSubList().forEach(this::add);
+        }
+    }
+
+    /**
+     * Adds {@code attendance} to the index
+     */
+    public void add(Attendance attendance) {
+        requireNonNull(attendance);
+        attendances.computeIfAbsent(attendance.student(), s -> new HashMap<>()).put(attendance.tutorial().name(),
+                        attendance);
+    }
+
+    /**
+     * Removes {@code attendance} from the index
+     */
+    public void remove(Attendance attendance) {
+        requireNonNull(attendance);
+        var byTutorial = attendances.get(attendance.student());
+        if (byTutorial == null || byTutorial.get(attendance.tutorial().name()) != attendance) {
+            return;
+        }
+
+        byTutorial.remove(attendance.tutorial().name());
+        if (byTutorial.isEmpty()) {
+            attendances.remove(attendance.student());
+        }
+    }
+
+    /**
+     * Returns the attendance record of {@code student} in {@code tutorial}
+     */
+    public Optional<Attendance> find(Tutorial tutorial, Student student) {
+        requireNonNull(tutorial);
+        requireNonNull(student);
+        return Optional.ofNullable(attendances.getOrDefault(student, Map.of()).get(tutorial.name()));
+    }
+}
@@ -264,6 +264,16 @@ public class Student implements Identifiable<Student> {
         return isSameStudent(other);
     }
 
+    /**
+     * Returns the identity fields of the student, as a student is the same as
+     * another if any of these fields match. They are in the order of
+     * {@link StudentIdentityIndex.Field}, which looks them up by position.
+     */
+    @Override
+    public List<Object> identityKeys() {
+        return List.of(name, studentId, phone, email, handle);
+    }
+
     /**
      * Removes information relating to a turoail when a tutorial is removed
      */
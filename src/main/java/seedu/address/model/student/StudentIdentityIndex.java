@@ -0,0 +1,111 @@
+package seedu.address.model.student;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+import seedu.address.model.uniquelist.UniqueList;
+
+/**
+ * Looks up the students of a {@link UniqueList} by each of their identity
+ * fields. Two students are the same if any of these fields match (see
+ * {@link Student#isSameStudent}), so this can tell which existing student
+ * collides with another student, and on which field, without comparing against
+ * every student.
+ * <p>
+ * Lookups go through the index the list keeps of its items' identity keys, so
+ * they agree with {@link UniqueList#containsIdentity} and stay accurate during
+ * a batch.
+ */
+public class StudentIdentityIndex {
+
+    /**
+     * Represents an identity field of a {@link Student}, in the order of
+     * {@link Student#identityKeys}
+     */
+    public enum Field {
+        NAME("name", Student::getName), STUDENT_ID("student ID", Student::getStudentId),
+        PHONE("phone number", Student::getPhone), EMAIL("email", Student::getEmail),
+        HANDLE("Telegram handle", Student::getHandle);
+
+        private final String description;
+        private final Function<Student, Object> getter;
+
+        Field(String description, Function<Student, Object> getter) {
+            this.description = description;
+            this.getter = getter;
+        }
+
+        Object valueOf(Student student) {
+            return getter.apply(student);
+        }
+
+        int keyPosition() {
+            return ordinal();
+        }
+
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    /**
+     * Represents an existing student that has the same {@code field} as another
+     * student
+     */
+    public record Conflict(Student existingStudent, Field field) {
+        @Override
+        public String toString() {
+            return "'%s' has the same %s".formatted(existingStudent.getName(), field);
+        }
+    }
+
+    private final UniqueList<Student> students;
+
+    /**
+     * Creates an index of the students in {@code students}
+     */
+    public StudentIdentityIndex(UniqueList<Student> students) {
+        this.students = requireNonNull(students);
+    }
+
+    /**
+     * Returns the first existing student, other than {@code ignore}, that shares an
+     * identity field with {@code student}, together with the field that collides.
+     *
+     * @param ignore
+     *            student of the list to leave out of the check, usually the
+     *            student that is being edited. It is compared by reference, as
+     *            students with the same identity are equal. Can be null.
+     */
+    public Optional<Conflict> findConflict(Student student, Student ignore) {
+        requireNonNull(student);
+
+        for (var field : Field.values()) {
+            var existing = find(field, field.valueOf(student)).filter(s -> s != ignore);
+            if (existing.isPresent()) {
+                return Optional.of(new Conflict(existing.get(), field));
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the student whose {@code field} is equal to {@code value}
+     */
+    public Optional<Student> find(Field field, Object value) {
+        requireNonNull(field);
+        requireNonNull(value);
+        return students.findByKey(field.keyPosition(), value);
+    }
+
+    /**
+     * @see #findConflict(Student, Student)
+     */
+    public Optional<Conflict> findConflict(Student student) {
+        return findConflict(student, null);
+    }
+}
@@ -0,0 +1,104 @@
+package seedu.address.model.student;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.ListChangeListener;
+
+/**
+ * Indexes students by the words of their names, ignoring case, so students
+ * whose names contain a word can be found without going through every student.
+ * <p>
+ * Students are held by reference, as they are edited in place. The index is
+ * kept in sync by registering it as a listener of the list of students it
+ * indexes.
+ */
+public class StudentNameIndex implements ListChangeListener<Student> {
+
+    private final Map<String, Set<Student>> students = new HashMap<>();
+    // Words each student was indexed under, as the student may have been edited
+    // since
+    private final Map<Student, List<String>> indexedWords = new IdentityHashMap<>();
+
+    /**
+     * Creates an index of the given students
+     */
+    public StudentNameIndex(Iterable<Student> students) {
+        requireNonNull(students);
+        students.forEach(this::add);
+    }
+
+    public StudentNameIndex() {
+        this(List.of());
+    }
+
+    @Override
+    public void onChanged(Change<? extends Student> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::remove);
+            change.getAddedSubList().forEach(this::add);
+        }
+    }
+
+    /**
+     * Adds {@code student} to the index, replacing the words it was previously
+     * indexed under
+     */
+    public void add(Student student) {
+        requireNonNull(student);
+        remove(student);
+
+        var words = toWords(student.getName().fullName);
+        words.forEach(word -> students.computeIfAbsent(word, w -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                        .add(student));
+        indexedWords.put(student, words);
+    }
+
+    /**
+     * Removes {@code student} from the index
+     */
+    public void remove(Student student) {
+        var words = indexedWords.remove(student);
+        if (words == null) {
+            return;
+        }
+
+        for (var word : words) {
+            var withWord = students.get(word);
+            withWord.remove(student);
+            if (withWord.isEmpty()) {
+                students.remove(word);
+            }
+        }
+    }
+
+    /**
+     * Returns the students whose names contain any of {@code keywords} as a whole
+     * word, ignoring case. The returned set compares students by reference.
+     */
+    public Set<Student> findAny(Collection<String> keywords) {
+        requireNonNull(keywords);
+
+        Set<Student> found = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (var keyword : keywords) {
+            found.addAll(students.getOrDefault(keyword.trim().toLowerCase(Locale.ROOT), Set.of()));
+        }
+        return found;
+    }
+
+    private static List<String> toWords(String name) {
+        return Arrays.stream(name.trim().toLowerCase(Locale.ROOT).split("\\s+")).distinct().toList();
+    }
+}
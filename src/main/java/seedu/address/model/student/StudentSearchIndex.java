@@ -0,0 +1,245 @@
+package seedu.address.model.student;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javafx.collections.ListChangeListener;
+
+/**
+ * Indexes students by the words of their names, their student IDs, emails and
+ * Telegram handles, so that students can be searched for by the start of any of
+ * these, or by them with a few typing mistakes.
+ * <p>
+ * Terms are held in a sorted map, so the terms starting with a prefix are one
+ * range of the map, the way they would be one subtree of a trie. Misspelt
+ * keywords are looked up through the trigrams of the terms, and only terms that
+ * share a trigram with the keyword have their edit distance computed.
+ * <p>
+ * Students are held by reference, as they are edited in place. The index is
+ * kept in sync by registering it as a listener of the list of students it
+ * indexes.
+ */
+public class StudentSearchIndex implements ListChangeListener<Student> {
+
+    /** Keywords shorter than this are only matched as prefixes */
+    public static final int MIN_FUZZY_LENGTH = 3;
+
+    private static final int SCORE_EXACT = 4;
+    private static final int SCORE_PREFIX = 3;
+    private static final int MAX_EDIT_DISTANCE = 2;
+
+    private final NavigableMap<String, Set<Student>> students = new TreeMap<>();
+    private final Map<String, Set<String>> termsByTrigram = new HashMap<>();
+    // Terms each student was indexed under, as the student may have been edited
+    // since, and when the student was first indexed
+    private final Map<Student, Indexed> indexed = new IdentityHashMap<>();
+    private long nextSequence = 0;
+
+    private record Indexed(Set<String> terms, long sequence) {
+    }
+
+    /**
+     * Creates an index of the given students
+     */
+    public StudentSearchIndex(Iterable<Student> students) {
+        requireNonNull(students);
+        students.forEach(this::add);
+    }
+
+    public StudentSearchIndex() {
+        this(List.of());
+    }
+
+    @Override
+    public void onChanged(Change<? extends Student> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::remove);
+            change.getAddedSubList().forEach(this::add);
+        }
+    }
+
+    /**
+     * Adds {@code student} to the index, replacing the terms it was previously
+     * indexed under
+     */
+    public void add(Student student) {
+        requireNonNull(student);
+        var previous = indexed.get(student);
+        long sequence = previous == null ? nextSequence++ : previous.sequence();
+        remove(student);
+
+        var terms = toTerms(student);
+        for (var term : terms) {
+            students.computeIfAbsent(term, t -> {
+                trigramsOf(t).forEach(trigram -> termsByTrigram.computeIfAbsent(trigram, g -> new HashSet<>()).add(t));
+                return Collections.newSetFromMap(new IdentityHashMap<>());
+            }).add(student);
+        }
+        indexed.put(student, new Indexed(terms, sequence));
+    }
+
+    /**
+     * Removes {@code student} from the index
+     */
+    public void remove(Student student) {
+        var previous = indexed.remove(student);
+        if (previous == null) {
+            return;
+        }
+
+        for (var term : previous.terms()) {
+            var withTerm = students.get(term);
+            withTerm.remove(student);
+            if (!withTerm.isEmpty()) {
+                continue;
+            }
+
+            students.remove(term);
+            for (var trigram : trigramsOf(term)) {
+                var withTrigram = termsByTrigram.get(trigram);
+                withTrigram.remove(term);
+                if (withTrigram.isEmpty()) {
+                    termsByTrigram.remove(trigram);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the students with a term that is equal to, starts with, or is a few
+     * typing mistakes away from any of {@code keywords}, ignoring case. Students
+     * are ranked by how well their terms match the keywords, best first. Students
+     * that match equally well are in the order they were first indexed.
+     */
+    public List<Student> search(Collection<String> keywords) {
+        requireNonNull(keywords);
+
+        Map<Student, Integer> scores = new IdentityHashMap<>();
+        for (var keyword : keywords) {
+            var normalised = normalise(keyword);
+            if (normalised.isEmpty()) {
+                continue;
+            }
+
+            // Each keyword counts once per student, for its best matching term
+            Map<Student, Integer> keywordScores = new IdentityHashMap<>();
+            findByPrefix(normalised, keywordScores);
+            if (normalised.length() >= MIN_FUZZY_LENGTH) {
+                findByTypo(normalised, keywordScores);
+            }
+            keywordScores.forEach((student, score) -> scores.merge(student, score, Integer::sum));
+        }
+
+        var ranked = new ArrayList<>(scores.keySet());
+        ranked.sort(Comparator.<Student>comparingInt(scores::get).reversed()
+                        .thenComparingLong(student -> indexed.get(student).sequence()));
+        return ranked;
+    }
+
+    private void findByPrefix(String prefix, Map<Student, Integer> scores) {
+        students.subMap(prefix, true, prefix + Character.MAX_VALUE, false).forEach((term, withTerm) -> {
+            int score = term.equals(prefix) ? SCORE_EXACT : SCORE_PREFIX;
+            withTerm.forEach(student -> scores.merge(student, score, Math::max));
+        });
+    }
+
+    private void findByTypo(String keyword, Map<Student, Integer> scores) {
+        int maxDistance = keyword.length() <= 4 ? 1 : MAX_EDIT_DISTANCE;
+
+        Set<String> candidates = new HashSet<>();
+        trigramsOf(keyword).forEach(trigram -> candidates.addAll(termsByTrigram.getOrDefault(trigram, Set.of())));
+        for (var term : candidates) {
+            if (Math.abs(term.length() - keyword.length()) > maxDistance) {
+                continue;
+            }
+
+            int distance = editDistance(keyword, term, maxDistance);
+            if (distance > 0 && distance <= maxDistance) {
+                int score = SCORE_PREFIX - distance;
+                students.get(term).forEach(student -> scores.merge(student, score, Math::max));
+            }
+        }
+    }
+
+    /**
+     * Returns the Levenshtein distance between {@code a} and {@code b}, or
+     * {@code maxDistance + 1} if it is more than {@code maxDistance}
+     */
+    static int editDistance(String a, String b, int maxDistance) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int substitution = previous[j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > maxDistance) {
+                return maxDistance + 1;
+            }
+
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+
+        return Math.min(previous[b.length()], maxDistance + 1);
+    }
+
+    private static Set<String> toTerms(Student student) {
+        var terms = new LinkedHashSet<String>();
+        for (var word : student.getName().fullName.split("\\s+")) {
+            terms.add(normalise(word));
+        }
+        terms.add(normalise(student.getStudentId().id));
+        terms.add(normalise(student.getEmail().value));
+        terms.add(normalise(student.getHandle().handle));
+        terms.remove("");
+        return terms;
+    }
+
+    /**
+     * Returns {@code term} in lower case, without the {@code @} that starts
+     * Telegram handles
+     */
+    private static String normalise(String term) {
+        var normalised = term.trim().toLowerCase(Locale.ROOT);
+        return normalised.startsWith("@") ? normalised.substring(1) : normalised;
+    }
+
+    /**
+     * Returns the trigrams of {@code term}, padded so that the start and end of the
+     * term and terms shorter than three characters have trigrams too
+     */
+    private static List<String> trigramsOf(String term) {
+        var padded = "  " + term + " ";
+        var trigrams = new ArrayList<String>(padded.length() - 2);
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+}
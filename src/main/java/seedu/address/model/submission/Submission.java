@@ -1,5 +1,6 @@
 package seedu.address.model.submission;
 
+import java.util.List;
 import java.util.Objects;
 
 import seedu.address.model.student.Student;
@@ -56,6 +57,15 @@ public class Submission implements Identifiable<Submission> {
         return assignment.hasSameIdentity(other.assignment) && student.hasSameIdentity(other.student);
     }
 
+    /**
+     * Returns the assignment's key paired with each of the student's identity keys
+     */
+    @Override
+    public List<Object> identityKeys() {
+        var assignmentKey = assignment.identityKeys().get(0);
+        return student.identityKeys().stream().map(key -> (Object) List.of(assignmentKey, key)).toList();
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (obj == this) {
@@ -0,0 +1,81 @@
+package seedu.address.model.submission;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.student.Student;
+import seedu.address.model.tutorial.Assignment;
+
+/**
+ * Indexes submissions by their tutorial, assignment and student.
+ * <p>
+ * Students are keyed by reference rather than by their identity fields, as
+ * those fields can be edited in place. Lookups should therefore be done with
+ * the student object held by the address book. The submissions found are the
+ * same objects held by {@link Assignment#submissions()} and
+ * {@link Student#getSubmissions()}. The index is kept in sync by registering it
+ * as a listener of the list of submissions it indexes.
+ */
+public class SubmissionIndex implements ListChangeListener<Submission> {
+
+    private final Map<Student, Map<Object, Submission>> submissions = new IdentityHashMap<>();
+
+    @Override
+    public void onChanged(Change<? extends Submission> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::remove);
+            change.getAddedSubList().forEach(this::add);
+        }
+    }
+
+    /**
+     * Returns the key identifying {@code assignment} together with its tutorial
+     */
+    private static Object keyOf(Assignment assignment) {
+        return assignment.identityKeys().get(0);
+    }
+
+    /**
+     * Adds {@code submission} to the index
+     */
+    public void add(Submission submission) {
+        requireNonNull(submission);
+        submissions.computeIfAbsent(submission.student(), s -> new HashMap<>()).put(keyOf(submission.assignment()),
+                        submission);
+    }
+
+    /**
+     * Removes {@code submission} from the index
+     */
+    public void remove(Submission submission) {
+        requireNonNull(submission);
+        var key = keyOf(submission.assignment());
+        var byAssignment = submissions.get(submission.student());
+        if (byAssignment == null || byAssignment.get(key) != submission) {
+            return;
+        }
+
+        byAssignment.remove(key);
+        if (byAssignment.isEmpty()) {
+            submissions.remove(submission.student());
+        }
+    }
+
+    /**
+     * Returns the submission of {@code student} for {@code assignment}, which must
+     * contain its tutorial
+     */
+    public Optional<Submission> find(Assignment assignment, Student student) {
+        requireNonNull(assignment);
+        requireNonNull(student);
+        return Optional.ofNullable(submissions.getOrDefault(student, Map.of()).get(keyOf(assignment)));
+    }
+}
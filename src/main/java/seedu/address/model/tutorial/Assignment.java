@@ -3,6 +3,8 @@ package seedu.address.model.tutorial;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.FormatStyle;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -68,6 +70,11 @@ public record Assignment(String name, Optional<LocalDateTime> dueDate, Tutorial
         return name.equals(other.name) && tutorial.hasSameIdentity(other.tutorial);
     }
 
+    @Override
+    public List<Object> identityKeys() {
+        return List.of(Arrays.asList(name, tutorial == null ? null : tutorial.name()));
+    }
+
     @Override
     public String toString() {
         return dueDate.map(due -> {
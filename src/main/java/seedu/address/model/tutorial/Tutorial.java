@@ -1,5 +1,6 @@
 package seedu.address.model.tutorial;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -114,6 +115,11 @@ public record Tutorial(String name, UniqueList<Assignment> assignments,
         return this.name.equals(other.name);
     }
 
+    @Override
+    public List<Object> identityKeys() {
+        return List.of(name);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,117 @@
+package seedu.address.model.tutorial;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.student.Student;
+
+/**
+ * Indexes students by the names of the tutorials they are enrolled in, so the
+ * students of a tutorial can be found without going through every student.
+ * <p>
+ * Students are held by reference, as they are edited in place. A student whose
+ * tutorials change is replaced with itself in the list of students, which
+ * re-indexes the student. The index is kept in sync by registering it as a
+ * listener of the list of students it indexes.
+ */
+public class TutorialEnrolmentIndex implements ListChangeListener<Student> {
+
+    private final List<Student> studentList;
+    private final Map<String, List<Student>> students = new HashMap<>();
+    // Tutorials each student was indexed under, as their tutorials may have been
+    // edited since
+    private final Map<Student, Set<String>> indexedTutorials = new IdentityHashMap<>();
+
+    /**
+     * Creates an empty index, which returns students in the order of
+     * {@code studentList}
+     */
+    public TutorialEnrolmentIndex(List<Student> studentList) {
+        this.studentList = requireNonNull(studentList);
+    }
+
+    @Override
+    public void onChanged(Change<? extends Student> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+
+            // Students replaced with themselves are only re-indexed, so they keep their
+            // place among the students of their tutorials
+            Set<Student> added = Collections.newSetFromMap(new IdentityHashMap<>());
+            added.addAll(change.getAddedSubList());
+            change.getRemoved().stream().filter(s -> !added.contains(s)).forEach(this::remove);
+            added.forEach(this::add);
+        }
+    }
+
+    /**
+     * Adds {@code student} to the index, or re-indexes it under its current
+     * tutorials if it is already indexed
+     */
+    public void add(Student student) {
+        requireNonNull(student);
+
+        var tutorialNames = new HashSet<String>();
+        student.getTutorials().forEach(t -> tutorialNames.add(t.name()));
+        var previousNames = indexedTutorials.getOrDefault(student, Set.of());
+
+        for (var name : previousNames) {
+            if (!tutorialNames.contains(name)) {
+                unindex(name, student);
+            }
+        }
+        for (var name : tutorialNames) {
+            if (!previousNames.contains(name)) {
+                students.computeIfAbsent(name, n -> new ArrayList<>()).add(student);
+            }
+        }
+        indexedTutorials.put(student, tutorialNames);
+    }
+
+    /**
+     * Removes {@code student} from the index
+     */
+    public void remove(Student student) {
+        var tutorialNames = indexedTutorials.remove(student);
+        if (tutorialNames == null) {
+            return;
+        }
+
+        tutorialNames.forEach(name -> unindex(name, student));
+    }
+
+    private void unindex(String tutorialName, Student student) {
+        var enrolled = students.get(tutorialName);
+        if (enrolled == null) {
+            return;
+        }
+
+        enrolled.removeIf(s -> s == student);
+        if (enrolled.isEmpty()) {
+            students.remove(tutorialName);
+        }
+    }
+
+    /**
+     * Returns the students enrolled in {@code tutorial}, in the order they appear
+     * in the list of students
+     */
+    public List<Student> getStudents(Tutorial tutorial) {
+        requireNonNull(tutorial);
+        var enrolled = new ArrayList<>(students.getOrDefault(tutorial.name(), List.of()));
+        enrolled.sort(Comparator.comparingInt(studentList::indexOf));
+        return Collections.unmodifiableList(enrolled);
+    }
+}
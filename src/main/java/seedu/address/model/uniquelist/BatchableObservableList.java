@@ -0,0 +1,87 @@
+package seedu.address.model.uniquelist;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An observable list whose modifications can be batched, so that listeners are
+ * told about all of them in a single change once the batch ends.
+ * <p>
+ * As listeners only hear about a batch once it ends, a
+ * {@link ModificationObserver} can be given to be told about each modification
+ * as soon as it is made.
+ */
+class BatchableObservableList<E> extends ModifiableObservableListBase<E> {
+
+    /**
+     * Told about each modification of the list right after it is made, whether or
+     * not it is part of a batch
+     */
+    interface ModificationObserver<E> {
+        void added(int index, E element);
+
+        void replaced(int index, E oldElement, E newElement);
+
+        void removed(int index, E element);
+    }
+
+    private final List<E> backingList;
+    private final ModificationObserver<E> observer;
+
+    /**
+     * Creates an observable list backed by {@code backingList}, which should not
+     * be modified directly afterwards.
+     */
+    BatchableObservableList(List<E> backingList, ModificationObserver<E> observer) {
+        this.backingList = requireNonNull(backingList);
+        this.observer = requireNonNull(observer);
+    }
+
+    /**
+     * Starts a batch of modifications. Batches may be nested, and listeners are
+     * told about the modifications when the outermost batch ends.
+     */
+    void beginBatch() {
+        beginChange();
+    }
+
+    /**
+     * Ends the batch started by the matching {@link #beginBatch()}
+     */
+    void endBatch() {
+        endChange();
+    }
+
+    @Override
+    public E get(int index) {
+        return backingList.get(index);
+    }
+
+    @Override
+    public int size() {
+        return backingList.size();
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        backingList.add(index, element);
+        observer.added(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        E oldElement = backingList.set(index, element);
+        observer.replaced(index, oldElement, element);
+        return oldElement;
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        E element = backingList.remove(index);
+        observer.removed(index, element);
+        return element;
+    }
+}
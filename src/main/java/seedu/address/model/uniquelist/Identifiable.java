@@ -1,5 +1,7 @@
 package seedu.address.model.uniquelist;
 
+import java.util.List;
+
 /**
  * Represents an entity with unique identifier(s). Implementing classes must
  * provide a way to compare identities.
@@ -9,4 +11,16 @@ public interface Identifiable<T> {
      * Checks if an entity has the same identifier as the other entity
      */
     boolean hasSameIdentity(T other);
+
+    /**
+     * Returns the keys used by {@link UniqueList} to index this entity, one key per
+     * index. Two entities must have the same identity if and only if they have an
+     * equal key at the same position.
+     * <p>
+     * Entities that do not declare any keys are compared linearly using
+     * {@link #hasSameIdentity}.
+     */
+    default List<Object> identityKeys() {
+        return List.of();
+    }
 }
@@ -5,10 +5,16 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.stream.IntStream;
 
 import javafx.collections.FXCollections;
@@ -20,13 +26,31 @@ import seedu.address.model.uniquelist.exceptions.ItemNotFoundException;
  * Wrapper around a list of {@link Identifiable}. List cannot contain duplicate,
  * or null.
  * <p>
- * Duplicate detection checked by {@link Identifiable#hasSameIdentity}
+ * Duplicate detection checked by {@link Identifiable#hasSameIdentity}. Items
+ * are additionally indexed by their {@link Identifiable#identityKeys}, which
+ * allows lookups and duplicate checks to be done without scanning the list. The
+ * indexes are kept in sync with every modification of the list as it is made,
+ * so every way of modifying the list is covered, even during a batch.
+ * <p>
+ * Modifications made between {@link #beginBatch()} and {@link #commit()} are
+ * reported to listeners in a single change when the batch is committed.
+ * <p>
+ * Items whose identity fields are changed in place must be passed to
+ * {@link #set(Identifiable, Identifiable)} or {@link #refresh} afterwards.
  */
 public class UniqueList<T extends Identifiable<T>> implements List<T> {
 
-    private final ObservableList<T> internalList;
+    private final BatchableObservableList<T> internalList;
     private final ObservableList<T> internalUnmodifiableList;
 
+    // One index per identity key position, mapping the key to the item holding it
+    private final List<Map<Object, T>> indexes = new ArrayList<>();
+    // Keys each item was indexed with, as the item's fields may have changed since
+    private final Map<T, List<Object>> indexedKeys = new IdentityHashMap<>();
+    // Position of each item in the list, rebuilt lazily after items are moved
+    private final Map<T, Integer> positions = new IdentityHashMap<>();
+    private boolean arePositionsValid = false;
+
     public UniqueList() {
         this(new ArrayList<>());
     }
@@ -39,31 +63,219 @@ public class UniqueList<T extends Identifiable<T>> implements List<T> {
             throw new IllegalStateException("List contains duplicate items");
         }
 
-        this.internalList = FXCollections.observableList(new ArrayList<>(list));
+        this.internalList = new BatchableObservableList<>(new ArrayList<>(list), new IndexUpdater());
         this.internalUnmodifiableList = FXCollections.unmodifiableObservableList(internalList);
+
+        internalList.forEach(this::index);
     }
 
     /**
      * Returns true if {@code items} contains only unique entities.
      */
     private static <T extends Identifiable<T>> boolean areItemsUnique(List<T> items) {
-        return IntStream.range(0, items.size()).noneMatch(i -> IntStream.range(i + 1, items.size())
-                        .anyMatch(j -> items.get(i).hasSameIdentity(items.get(j))));
+        var seenKeys = new ArrayList<Set<Object>>();
+
+        for (T item : items) {
+            var keys = item.identityKeys();
+            if (keys.isEmpty()) {
+                return IntStream.range(0, items.size()).noneMatch(i -> IntStream.range(i + 1, items.size())
+                                .anyMatch(j -> items.get(i).hasSameIdentity(items.get(j))));
+            }
+
+            for (int i = 0; i < keys.size(); i++) {
+                if (i == seenKeys.size()) {
+                    seenKeys.add(new HashSet<>());
+                }
+                if (!seenKeys.get(i).add(keys.get(i))) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Keeps the indexes in sync with each modification of {@code internalList} as
+     * it is made, so that they stay accurate during a batch. The cached positions
+     * are updated for modifications that do not move other items, which are
+     * replacing items in place and appending or removing the last item. Other
+     * modifications invalidate the cache.
+     */
+    private class IndexUpdater implements BatchableObservableList.ModificationObserver<T> {
+        @Override
+        public void added(int index, T item) {
+            index(item);
+            if (arePositionsValid && index == internalList.size() - 1) {
+                positions.put(item, index);
+            } else {
+                arePositionsValid = false;
+            }
+        }
+
+        @Override
+        public void replaced(int index, T oldItem, T newItem) {
+            unindex(oldItem);
+            index(newItem);
+            if (arePositionsValid) {
+                positions.remove(oldItem);
+                positions.put(newItem, index);
+            }
+        }
+
+        @Override
+        public void removed(int index, T item) {
+            unindex(item);
+            if (arePositionsValid && index == internalList.size()) {
+                positions.remove(item);
+            } else {
+                arePositionsValid = false;
+            }
+        }
+    }
+
+    /**
+     * Returns the position of {@code item} in the list, or -1 if it is not in the
+     * list
+     */
+    private int positionOf(Object item) {
+        if (!arePositionsValid) {
+            positions.clear();
+            for (int i = 0; i < internalList.size(); i++) {
+                positions.put(internalList.get(i), i);
+            }
+            arePositionsValid = true;
+        }
+
+        var position = positions.get(item);
+        // Items that are equal to, but not the same object as, an item in the list
+        return position == null ? internalList.indexOf(item) : position;
+    }
+
+    private void index(T item) {
+        var keys = item.identityKeys();
+        indexedKeys.put(item, keys);
+
+        for (int i = 0; i < keys.size(); i++) {
+            if (i == indexes.size()) {
+                indexes.add(new HashMap<>());
+            }
+            indexes.get(i).put(keys.get(i), item);
+        }
+    }
+
+    private void unindex(T item) {
+        var keys = indexedKeys.remove(item);
+        if (keys == null) {
+            return;
+        }
+
+        for (int i = 0; i < keys.size(); i++) {
+            var index = indexes.get(i);
+            if (index.get(keys.get(i)) == item) {
+                index.remove(keys.get(i));
+            }
+        }
+    }
+
+    /**
+     * Returns the items sharing at least one identity key with {@code obj}, as well
+     * as {@code obj} itself if it is in the list. These are only candidates, as an
+     * item's keys may have changed since it was indexed.
+     */
+    private List<T> findCandidates(T obj) {
+        var keys = obj.identityKeys();
+        var candidates = new ArrayList<T>(keys.size() + 1);
+
+        if (indexedKeys.containsKey(obj)) {
+            candidates.add(obj);
+        }
+
+        for (int i = 0; i < keys.size() && i < indexes.size(); i++) {
+            var candidate = indexes.get(i).get(keys.get(i));
+            if (candidate != null) {
+                candidates.add(candidate);
+            }
+        }
+
+        return candidates;
+    }
+
+    /**
+     * Starts a batch of modifications. Listeners of this list are told about all
+     * modifications made until the matching {@link #commit()} in a single change,
+     * rather than one change per modification. Batches may be nested, in which case
+     * listeners are told when the outermost batch is committed.
+     * <p>
+     * Lookups on this list stay accurate during a batch, but anything kept up to
+     * date by listening to the list only sees the modifications once they are
+     * committed.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Ends the batch started by the matching {@link #beginBatch()}, telling
+     * listeners about its modifications if it is the outermost batch
+     */
+    public void commit() {
+        internalList.endBatch();
+    }
+
+    /**
+     * Re-indexes {@code item} after its identity fields were changed in place.
+     * Unlike {@link #set(Identifiable, Identifiable)}, no change is reported to the
+     * listeners of this list.
+     */
+    public void refresh(T item) {
+        requireNonNull(item);
+        if (!indexedKeys.containsKey(item)) {
+            return;
+        }
+
+        unindex(item);
+        index(item);
     }
 
     /**
      * Checks whether the list contains the entity. This check uses
      * {@link Identifiable#hasSameIdentity}
+     *
+     * @param ignore
+     *            item of the list to leave out of the check, compared by
+     *            reference, as items with the same identity are equal. Can be
+     *            null.
      */
     public boolean containsIdentity(T toCheck, T ignore) {
         requireNonNull(toCheck);
-        return internalList.stream().filter(obj -> !obj.equals(ignore)).anyMatch(toCheck::hasSameIdentity);
+        if (toCheck.identityKeys().isEmpty()) {
+            return internalList.stream().filter(obj -> obj != ignore).anyMatch(toCheck::hasSameIdentity);
+        }
+
+        return findCandidates(toCheck).stream().filter(obj -> obj != ignore).anyMatch(toCheck::hasSameIdentity);
     }
 
     public boolean containsIdentity(T toCheck) {
         return containsIdentity(toCheck, null);
     }
 
+    /**
+     * Returns the item whose identity key at {@code keyPosition} of its
+     * {@link Identifiable#identityKeys} is equal to {@code key}, without scanning
+     * the list
+     */
+    public Optional<T> findByKey(int keyPosition, Object key) {
+        requireNonNull(key);
+        if (keyPosition < 0 || keyPosition >= indexes.size()) {
+            return Optional.empty();
+        }
+
+        // The item's keys may have changed since it was indexed
+        return Optional.ofNullable(indexes.get(keyPosition).get(key))
+                        .filter(item -> key.equals(item.identityKeys().get(keyPosition)));
+    }
+
     /**
      * Replaces the contents of this list with {@code items}. {@code items} must not
      * contain duplicates
@@ -92,7 +304,11 @@ public class UniqueList<T extends Identifiable<T>> implements List<T> {
      * Returns specified object in the list
      */
     public Optional<T> find(T obj) {
-        return internalList.stream().filter(x -> x.hasSameIdentity(obj)).findAny();
+        if (obj == null || obj.identityKeys().isEmpty()) {
+            return internalList.stream().filter(x -> x.hasSameIdentity(obj)).findAny();
+        }
+
+        return findCandidates(obj).stream().filter(x -> x.hasSameIdentity(obj)).findAny();
     }
 
     /**
@@ -100,7 +316,7 @@ public class UniqueList<T extends Identifiable<T>> implements List<T> {
      * the list.
      */
     public boolean remove(T toRemove) {
-        return internalList.removeIf(t -> t.hasSameIdentity(toRemove));
+        return find(toRemove).map(internalList::remove).orElse(false);
     }
 
     @Override
@@ -118,6 +334,21 @@ public class UniqueList<T extends Identifiable<T>> implements List<T> {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Adds {@code items} to the end of the list. {@code items} must not contain
+     * duplicates or share identity with an item already in the list, in which case
+     * nothing is added. Listeners are told about all of them in a single change,
+     * rather than one change per item as {@link #add(Identifiable)} would.
+     */
+    public void addAll(List<T> items) throws DuplicateItemException {
+        requireAllNonNull(items);
+        if (!areItemsUnique(items) || items.stream().anyMatch(this::containsIdentity)) {
+            throw new DuplicateItemException();
+        }
+
+        internalList.addAll(items);
+    }
+
     @Override
     public boolean addAll(Collection<? extends T> collection) {
         throw new UnsupportedOperationException();
@@ -205,18 +436,49 @@ public class UniqueList<T extends Identifiable<T>> implements List<T> {
     public void set(T oldItem, T newItem) throws DuplicateItemException, ItemNotFoundException {
         requireAllNonNull(oldItem, newItem);
 
-        int index = internalList.indexOf(oldItem);
+        int index = positionOf(oldItem);
         if (index == -1) {
             throw new ItemNotFoundException();
         }
 
-        if (containsIdentity(newItem, oldItem)) {
+        if (containsIdentity(newItem, internalList.get(index))) {
             throw new DuplicateItemException();
         }
 
         internalList.set(index, newItem);
     }
 
+    /**
+     * Reports each of {@code items}, which are in the list and were edited in
+     * place, as replaced with itself. Listeners are told about all of them in a
+     * single change, rather than one change per item as
+     * {@link #set(Identifiable, Identifiable)} would.
+     *
+     * @throws ItemNotFoundException
+     *             if any of {@code items} is not in the list, in which case none
+     *             are reported
+     */
+    public void setAllInPlace(Collection<? extends T> items) throws ItemNotFoundException {
+        requireAllNonNull(items);
+
+        // In list order, so that neighbouring items are reported as one range
+        var held = new TreeSet<Integer>();
+        for (T item : items) {
+            int index = positionOf(item);
+            if (index == -1 || internalList.get(index) != item) {
+                throw new ItemNotFoundException();
+            }
+            held.add(index);
+        }
+
+        beginBatch();
+        try {
+            held.forEach(index -> internalList.set(index, internalList.get(index)));
+        } finally {
+            commit();
+        }
+    }
+
     @Override
     public T set(int i, T t) {
         throw new UnsupportedOperationException();
@@ -239,9 +501,14 @@ public class UniqueList<T extends Identifiable<T>> implements List<T> {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Returns the position of {@code o} in the list, or -1 if it is not in the
+     * list. Positions are cached, so this does not scan the list unless items were
+     * moved since the last lookup.
+     */
     @Override
     public int indexOf(Object o) {
-        return internalList.indexOf(o);
+        return positionOf(o);
     }
 
     @Override
@@ -3,8 +3,10 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.Set;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ChangeTracker;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
@@ -46,4 +48,31 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Saves the given {@link ReadOnlyAddressBook} to the storage, where only the
+     * kinds of entities in {@code changes} have changed since it was last saved.
+     *
+     * @return the number of bytes written
+     * @see #saveAddressBook(ReadOnlyAddressBook)
+     */
+    long saveAddressBook(ReadOnlyAddressBook addressBook, Set<ChangeTracker.Entity> changes) throws IOException;
+
+    /**
+     * Captures the state of {@code addressBook}, where only the kinds of entities
+     * in {@code changes} have changed since it was last saved, so that it can be
+     * written later, such as on another thread.
+     *
+     * @see #saveAddressBook(ReadOnlyAddressBook, Set)
+     */
+    PendingSave prepareSave(ReadOnlyAddressBook addressBook, Set<ChangeTracker.Entity> changes);
+
+    /**
+     * Writes out any changes to {@code addressBook} that the storage has held
+     * back, such as before the application exits.
+     *
+     * @throws IOException
+     *             if there was any problem writing to the file.
+     */
+    void flushAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
+
 }
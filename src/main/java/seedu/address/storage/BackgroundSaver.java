@@ -0,0 +1,184 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Writes {@link PendingSave}s on a single background thread, so that commands
+ * do not wait for the disk.
+ * <p>
+ * Saves are written one at a time in the order they were submitted. When saves
+ * are submitted faster than they can be written, those still waiting are
+ * dropped once a complete save is submitted after them, so that a burst of
+ * commands results in only the latest state being written. A failed write is
+ * passed to the {@link FailureListener} as soon as it happens, and kept until
+ * it is taken with {@link #takeFailure()}, so that the address book can be
+ * saved again on the next command.
+ */
+public class BackgroundSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundSaver.class);
+
+    /**
+     * Receives the size of each save written, and how long it took to write
+     */
+    @FunctionalInterface
+    public interface WriteListener {
+        void written(long bytes, long nanos);
+    }
+
+    /**
+     * Receives each failure to write a save
+     */
+    @FunctionalInterface
+    public interface FailureListener {
+        void failed(IOException e);
+    }
+
+    private final WriteListener onWritten;
+    private final FailureListener onFailed;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        var thread = new Thread(runnable, "storage-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Guarded by this
+    private final Deque<PendingSave> queue = new ArrayDeque<>();
+    private boolean isWriting;
+    private IOException failure;
+
+    /**
+     * Creates a {@code BackgroundSaver}
+     */
+    public BackgroundSaver() {
+        this((bytes, nanos) -> {
+        });
+    }
+
+    /**
+     * Creates a {@code BackgroundSaver} that passes the number of bytes written by
+     * each save, and the time taken to write it, to {@code onWritten}, on the
+     * background thread
+     */
+    public BackgroundSaver(WriteListener onWritten) {
+        this(onWritten, e -> {
+        });
+    }
+
+    /**
+     * Creates a {@code BackgroundSaver} that passes each save written to
+     * {@code onWritten}, and each failure to write a save to {@code onFailed}, on
+     * the background thread
+     */
+    public BackgroundSaver(WriteListener onWritten, FailureListener onFailed) {
+        requireNonNull(onWritten);
+        requireNonNull(onFailed);
+        this.onWritten = onWritten;
+        this.onFailed = onFailed;
+    }
+
+    /**
+     * Queues {@code save} to be written after the saves submitted before it.
+     */
+    public synchronized void submit(PendingSave save) {
+        requireNonNull(save);
+
+        if (save.isComplete()) {
+            queue.clear();
+        }
+        queue.addLast(save);
+
+        if (!isWriting) {
+            isWriting = true;
+            executor.execute(this::drain);
+        }
+    }
+
+    /**
+     * Writes the queued saves until none are left.
+     */
+    private void drain() {
+        while (true) {
+            PendingSave save;
+            synchronized (this) {
+                save = queue.pollFirst();
+                if (save == null) {
+                    isWriting = false;
+                    notifyAll();
+                    return;
+                }
+            }
+
+            try {
+                long start = System.nanoTime();
+                long bytes = save.write();
+                onWritten.written(bytes, System.nanoTime() - start);
+            } catch (IOException e) {
+                logger.warning("Failed to save address book in the background: " + e);
+                synchronized (this) {
+                    failure = e;
+                }
+                onFailed.failed(e);
+            }
+        }
+    }
+
+    /**
+     * Returns the latest failure to write a save since this was last called, if
+     * any.
+     */
+    public synchronized Optional<IOException> takeFailure() {
+        var result = Optional.ofNullable(failure);
+        failure = null;
+        return result;
+    }
+
+    /**
+     * Waits for the queued saves to be written.
+     *
+     * @throws IOException
+     *             the latest failure to write a save that was not yet taken.
+     */
+    public void flush() throws IOException {
+        synchronized (this) {
+            while (isWriting) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+
+        var result = takeFailure();
+        if (result.isPresent()) {
+            throw result.get();
+        }
+    }
+
+    /**
+     * Writes the queued saves and stops the background thread.
+     *
+     * @throws IOException
+     *             the latest failure to write a save that was not yet taken.
+     */
+    public void shutdown() throws IOException {
+        try {
+            flush();
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
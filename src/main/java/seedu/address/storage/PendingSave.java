@@ -0,0 +1,27 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+
+/**
+ * Represents the state of an address book captured by a storage, which is yet
+ * to be written to it.
+ */
+public interface PendingSave {
+
+    /**
+     * Writes the captured state to the storage. Can be called from any thread,
+     * but pending saves of the same storage must be written in the order they
+     * were captured.
+     *
+     * @return the number of bytes written
+     * @throws IOException
+     *             if there was any problem writing to the file.
+     */
+    long write() throws IOException;
+
+    /**
+     * Returns true if this holds the complete state of the address book, so that
+     * pending saves captured before it do not need to be written.
+     */
+    boolean isComplete();
+}
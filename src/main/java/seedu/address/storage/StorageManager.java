@@ -3,10 +3,12 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.Set;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ChangeTracker;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
@@ -75,4 +77,22 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public long saveAddressBook(ReadOnlyAddressBook addressBook, Set<ChangeTracker.Entity> changes)
+                    throws IOException {
+        logger.fine("Attempting to write changes to " + changes + " to data file: " + getAddressBookFilePath());
+        return addressBookStorage.saveAddressBook(addressBook, changes);
+    }
+
+    @Override
+    public PendingSave prepareSave(ReadOnlyAddressBook addressBook, Set<ChangeTracker.Entity> changes) {
+        return addressBookStorage.prepareSave(addressBook, changes);
+    }
+
+    @Override
+    public void flushAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        logger.fine("Attempting to flush data file: " + getAddressBookFilePath());
+        addressBookStorage.flushAddressBook(addressBook);
+    }
+
 }
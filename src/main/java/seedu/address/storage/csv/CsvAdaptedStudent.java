@@ -1,10 +1,20 @@
 package seedu.address.storage.csv;
 
-import java.util.stream.Collectors;
-
-import com.opencsv.bean.CsvBindByName;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.logic.commands.AddTutorialCommand;
+import seedu.address.model.student.Email;
+import seedu.address.model.student.Name;
+import seedu.address.model.student.Phone;
 import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentID;
+import seedu.address.model.student.TelegramHandle;
 import seedu.address.model.tutorial.Tutorial;
 
 /**
@@ -12,60 +22,80 @@ import seedu.address.model.tutorial.Tutorial;
  */
 public class CsvAdaptedStudent {
 
-    private static final String TUTORIALS_SEPARATOR = ";"; // Used to separate multiple tutorials in a CSV field
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Student's %s field is missing!";
+
+    static final String TUTORIALS_SEPARATOR = ";"; // Used to separate multiple tutorials in a CSV field
 
-    @CsvBindByName
     private final String name;
-    @CsvBindByName
     private final String id;
-    @CsvBindByName
     private final String phone;
-    @CsvBindByName
     private final String email;
-    @CsvBindByName
     private final String handle;
-    @CsvBindByName
     private final String tutorials;
 
     /**
-     * Converts a given {@code Student} into this class for CSV use.
+     * Constructs a {@code CsvAdaptedStudent} with the values of a CSV row.
+     * {@code tutorials} holds the tutorial names separated by semicolons, and can
+     * be null if the student is in no tutorials.
      */
-    public CsvAdaptedStudent(Student source) {
-        this.name = source.getName().fullName;
-        this.id = source.getStudentId().id;
-        this.phone = source.getPhone().value;
-        this.email = source.getEmail().value;
-        this.handle = source.getHandle().handle;
-        this.tutorials = joinTutorials(source);
+    public CsvAdaptedStudent(String name, String id, String phone, String email, String handle, String tutorials) {
+        this.name = name;
+        this.id = id;
+        this.phone = phone;
+        this.email = email;
+        this.handle = handle;
+        this.tutorials = tutorials;
     }
 
     /**
-     * Getters
+     * Converts this CSV-friendly adapted student object into the model's
+     * {@code Student} object.
+     *
+     * @throws IllegalValueException
+     *             if there were any data constraints violated in the adapted
+     *             student.
      */
-    public String getName() {
-        return name;
-    }
-    public String getId() {
-        return id;
-    }
-    public String getPhone() {
-        return phone;
-    }
-    public String getEmail() {
-        return email;
-    }
-    public String getHandle() {
-        return handle;
-    }
-    public String getTutorials() {
-        return tutorials;
+    public Student toModelType() throws IllegalValueException {
+        final Name modelName = toModelField(name, Name.class, Name::isValidName, Name.MESSAGE_CONSTRAINTS, Name::new);
+        final StudentID modelStudentId = toModelField(id, StudentID.class, StudentID::isValidID,
+                        StudentID.MESSAGE_CONSTRAINTS, StudentID::new);
+        final Phone modelPhone = toModelField(phone, Phone.class, Phone::isValidPhone, Phone.MESSAGE_CONSTRAINTS,
+                        Phone::new);
+        final Email modelEmail = toModelField(email, Email.class, Email::isValidEmail, Email.MESSAGE_CONSTRAINTS,
+                        Email::new);
+        final TelegramHandle modelHandle = toModelField(handle, TelegramHandle.class, TelegramHandle::isValidHandle,
+                        TelegramHandle.MESSAGE_CONSTRAINTS, TelegramHandle::new);
+
+        final Set<Tutorial> modelTutorials = new HashSet<>();
+        for (var tutorialName : splitTutorials()) {
+            if (!Tutorial.isValidName(tutorialName)) {
+                throw new IllegalValueException(AddTutorialCommand.MESSAGE_INVALID_NAME);
+            }
+            modelTutorials.add(new Tutorial(tutorialName));
+        }
+
+        return new Student(modelName, modelStudentId, modelPhone, modelEmail, modelHandle, modelTutorials);
     }
 
-    /**
-     * Join tutorials by appropriate separator for CSV-friendly list
-     */
-    public String joinTutorials(Student source) {
-        return source.getTutorials().stream().map(Tutorial::toString).collect(Collectors.joining(TUTORIALS_SEPARATOR));
+    private static <T> T toModelField(String value, Class<T> type, Predicate<String> isValid, String constraints,
+                    Function<String, T> constructor) throws IllegalValueException {
+        if (value == null || value.isBlank()) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, type.getSimpleName()));
+        }
+
+        var trimmed = value.trim();
+        if (!isValid.test(trimmed)) {
+            throw new IllegalValueException(constraints);
+        }
+        return constructor.apply(trimmed);
     }
 
+    private List<String> splitTutorials() {
+        if (tutorials == null) {
+            return List.of();
+        }
+
+        return Arrays.stream(tutorials.split(TUTORIALS_SEPARATOR)).map(String::trim).filter(t -> !t.isEmpty())
+                        .toList();
+    }
 }
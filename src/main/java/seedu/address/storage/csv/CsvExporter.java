@@ -0,0 +1,144 @@
+package seedu.address.storage.csv;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.student.Student;
+import seedu.address.model.tutorial.Tutorial;
+
+/**
+ * Writes objects to CSV one row at a time, straight from the {@link Iterable}
+ * holding them, so that exporting uses the same memory however many rows there
+ * are. Each column is read with an accessor that is set up once, rather than
+ * through reflection on every row.
+ * <p>
+ * Every value is quoted, with quotes inside it doubled, as the bean writer this
+ * replaces did. Exporters hold no state, so they can be used by several
+ * threads at once.
+ */
+public class CsvExporter<T> {
+
+    /**
+     * Exports students with the columns that {@link CsvStudentReader} reads, in
+     * the alphabetical order exported files have always had
+     */
+    public static final CsvExporter<Student> STUDENTS = new CsvExporter<>(List.<Column<Student>>of(
+                    new Column<>("EMAIL", student -> student.getEmail().value),
+                    new Column<>("HANDLE", student -> student.getHandle().handle),
+                    new Column<>("ID", student -> student.getStudentId().id),
+                    new Column<>("NAME", student -> student.getName().fullName),
+                    new Column<>("PHONE", student -> student.getPhone().value),
+                    new Column<>("TUTORIALS", student -> student.getTutorials().stream().map(Tutorial::name)
+                                    .sorted().collect(Collectors.joining(CsvAdaptedStudent.TUTORIALS_SEPARATOR)))));
+
+    public static final CsvExporter<Tutorial> TUTORIALS = new CsvExporter<>(
+                    List.<Column<Tutorial>>of(new Column<>("NAME", Tutorial::name)));
+
+    private static final String LINE_SEPARATOR = "\n";
+
+    /**
+     * A column named {@code header}, whose value in the row of an object is given
+     * by {@code accessor}
+     */
+    public record Column<T>(String header, Function<? super T, String> accessor) {
+        /**
+         * Creates a {@code Column}
+         */
+        public Column {
+            requireNonNull(header);
+            requireNonNull(accessor);
+        }
+    }
+
+    private final List<Column<T>> columns;
+
+    /**
+     * Creates a {@code CsvExporter} that writes the given columns, in order
+     */
+    public CsvExporter(List<Column<T>> columns) {
+        requireNonNull(columns);
+        this.columns = List.copyOf(columns);
+    }
+
+    /**
+     * Writes a row naming the columns followed by a row for each of {@code items}
+     * to {@code writer}, which is flushed but not closed.
+     *
+     * @return the number of rows written for {@code items}
+     */
+    public long write(Iterable<? extends T> items, Writer writer) throws IOException {
+        requireNonNull(items);
+        requireNonNull(writer);
+
+        for (int i = 0; i < columns.size(); i++) {
+            writeField(writer, i, columns.get(i).header());
+        }
+        writer.write(LINE_SEPARATOR);
+
+        long rowCount = 0;
+        for (T item : items) {
+            for (int i = 0; i < columns.size(); i++) {
+                writeField(writer, i, columns.get(i).accessor().apply(item));
+            }
+            writer.write(LINE_SEPARATOR);
+            rowCount++;
+        }
+
+        writer.flush();
+        return rowCount;
+    }
+
+    /**
+     * Writes {@code items} to the file at {@code filePath}, creating it and its
+     * missing parent directories if needed, and replacing it if it exists.
+     *
+     * @return the number of rows written for {@code items}
+     */
+    public long write(Iterable<? extends T> items, Path filePath) throws IOException {
+        requireNonNull(filePath);
+
+        FileUtil.createIfMissing(filePath);
+        try (Writer writer = Files.newBufferedWriter(filePath)) {
+            return write(items, writer);
+        }
+    }
+
+    /**
+     * Writes {@code items} to the standard output, which is left open.
+     *
+     * @return the number of rows written for {@code items}
+     */
+    public long writeToStandardOutput(Iterable<? extends T> items) throws IOException {
+        return write(items, new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8)));
+    }
+
+    private static void writeField(Writer writer, int column, String value) throws IOException {
+        if (column > 0) {
+            writer.write(',');
+        }
+        if (value == null) {
+            return;
+        }
+
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+}
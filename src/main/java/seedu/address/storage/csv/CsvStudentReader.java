@@ -0,0 +1,169 @@
+package seedu.address.storage.csv;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.opencsv.CSVReader;
+import com.opencsv.exceptions.CsvValidationException;
+
+/**
+ * Reads students from a CSV file one row at a time, so that files of any size
+ * can be read without holding all of their rows.
+ * <p>
+ * The first row names the columns, which can be in any order and in any case,
+ * as in the files of students that are exported. The tutorials of a student are
+ * separated by semicolons, and the column of tutorials may be left out.
+ */
+public class CsvStudentReader implements Closeable {
+
+    public static final List<String> REQUIRED_COLUMNS = List.of("name", "id", "phone", "email", "handle");
+    public static final String TUTORIALS_COLUMN = "tutorials";
+
+    public static final String MESSAGE_EMPTY_FILE = "CSV file is empty";
+    public static final String MESSAGE_MISSING_COLUMNS = "CSV file is missing the columns: %s";
+
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    /**
+     * A row of a CSV file, numbered from 1 for the row naming the columns
+     */
+    public record Row(long number, CsvAdaptedStudent student) {
+    }
+
+    private final CSVReader reader;
+    // Position of each required column, followed by the tutorials column or -1
+    private final int[] columns;
+
+    /**
+     * Creates a {@code CsvStudentReader} that reads from {@code source}, and reads
+     * the row naming the columns.
+     *
+     * @throws IOException
+     *             if the row cannot be read, or does not name all of
+     *             {@link #REQUIRED_COLUMNS}
+     */
+    public CsvStudentReader(Reader source) throws IOException {
+        requireNonNull(source);
+        reader = new CSVReader(source);
+
+        String[] header = readNext();
+        if (header == null) {
+            reader.close();
+            throw new IOException(MESSAGE_EMPTY_FILE);
+        }
+
+        var positions = new HashMap<String, Integer>();
+        for (int i = 0; i < header.length; i++) {
+            var column = (i == 0 && header[i].indexOf(BYTE_ORDER_MARK) == 0) ? header[i].substring(1) : header[i];
+            positions.putIfAbsent(column.trim().toLowerCase(Locale.ROOT), i);
+        }
+
+        var missingColumns = REQUIRED_COLUMNS.stream().filter(column -> !positions.containsKey(column)).toList();
+        if (!missingColumns.isEmpty()) {
+            reader.close();
+            throw new IOException(MESSAGE_MISSING_COLUMNS.formatted(String.join(", ", missingColumns)));
+        }
+
+        columns = Stream.concat(REQUIRED_COLUMNS.stream(), Stream.of(TUTORIALS_COLUMN))
+                        .mapToInt(column -> positions.getOrDefault(column, -1)).toArray();
+    }
+
+    /**
+     * Opens the CSV file at {@code filePath} for reading
+     */
+    public static CsvStudentReader open(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        return new CsvStudentReader(Files.newBufferedReader(filePath));
+    }
+
+    /**
+     * Returns the rows that have not been read yet, leaving out blank rows. The
+     * rows are read lazily as the stream is consumed, so the stream can only be
+     * consumed once.
+     *
+     * @throws UncheckedIOException
+     *             from the stream if the file cannot be read
+     */
+    public Stream<Row> rows() {
+        Iterator<Row> iterator = new Iterator<>() {
+            private Row next = readRow();
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public Row next() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+
+                var current = next;
+                next = readRow();
+                return current;
+            }
+        };
+
+        var spliterator = Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    /**
+     * Returns the next row that is not blank, or null if there are no more rows
+     */
+    private Row readRow() {
+        try {
+            String[] values;
+            do {
+                values = readNext();
+                if (values == null) {
+                    return null;
+                }
+            } while (Arrays.stream(values).allMatch(String::isBlank));
+
+            return new Row(reader.getRecordsRead(), new CsvAdaptedStudent(valueAt(values, 0), valueAt(values, 1),
+                            valueAt(values, 2), valueAt(values, 3), valueAt(values, 4), valueAt(values, 5)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns the value of the {@code column}-th column of {@link #columns}, or
+     * null if the row is too short or the column is absent
+     */
+    private String valueAt(String[] values, int column) {
+        int position = columns[column];
+        return position >= 0 && position < values.length ? values[position] : null;
+    }
+
+    private String[] readNext() throws IOException {
+        try {
+            return reader.readNext();
+        } catch (CsvValidationException e) {
+            throw new IOException("Error reading CSV file: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -35,6 +35,14 @@ class JsonAdaptedAssignment {
         this(source.name(), source.dueDate().orElse(null), new JsonAdaptedTutorial(source.tutorial()));
     }
 
+    String getName() {
+        return name;
+    }
+
+    JsonAdaptedTutorial getTutorial() {
+        return tutorial;
+    }
+
     /**
      * Converts this Jackson-friendly adapted student object into the model's
      * {@link Assignment} object.
@@ -6,43 +6,84 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.attendance.Attendance;
+import seedu.address.model.student.StudentID;
+import seedu.address.model.tutorial.Tutorial;
 
 /**
- * Jackson-friendly version of {@link Attendance}.
+ * Jackson-friendly version of {@link Attendance}. The student is referred to by
+ * their {@link StudentID} and the tutorial by its name, and the weeks attended
+ * are stored as a bitmask, with the lowest bit for the first week.
  */
 class JsonAdaptedAttendance {
 
-    private final JsonAdaptedTutorial tutorial;
-    private final JsonAdaptedStudent student;
-    private final List<Integer> attendances;
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Attendance's %s field is missing!";
+    public static final String MESSAGE_STUDENT_NOT_FOUND = "Attendance's student %s does not exist";
+
+    private final String tutorialName;
+    private final String studentId;
+    private final int weeks;
 
     /**
-     * Constructs a {@link JsonAdaptedAttendance} with the given student details.
+     * Constructs a {@link JsonAdaptedAttendance} with the given attendance details.
+     * Attendances of data files before version 2 embed the whole tutorial and
+     * student, and list the weeks attended, which are converted here.
      */
     @JsonCreator
-    public JsonAdaptedAttendance(@JsonProperty("assignment") JsonAdaptedTutorial tutorial,
-                    @JsonProperty("student") JsonAdaptedStudent student,
-                    @JsonProperty("attendances") List<Integer> attendences) {
-        this.tutorial = tutorial;
-        this.student = student;
-        this.attendances = attendences;
+    public JsonAdaptedAttendance(@JsonProperty("tutorialName") String tutorialName,
+                    @JsonProperty("studentId") String studentId, @JsonProperty("weeks") int weeks,
+                    @JsonProperty("tutorial") JsonAdaptedTutorial legacyTutorial,
+                    @JsonProperty("student") JsonAdaptedStudent legacyStudent,
+                    @JsonProperty("attendances") List<Integer> legacyAttendances) {
+        this.tutorialName = tutorialName == null && legacyTutorial != null ? legacyTutorial.getName() : tutorialName;
+        this.studentId = studentId == null && legacyStudent != null ? legacyStudent.getId() : studentId;
+        this.weeks = legacyAttendances == null ? weeks : toWeeks(legacyAttendances);
     }
 
     /**
      * Converts a given {@link Attendance} into this class for Jackson use.
      */
     public JsonAdaptedAttendance(Attendance source) {
-        this(new JsonAdaptedTutorial(source.tutorial()), new JsonAdaptedStudent(source.student()),
-                        source.attendances());
+        this(source.tutorial().name(), source.student().getStudentId().id, source.weeks(), null, null, null);
+    }
+
+    private static int toWeeks(List<Integer> attendances) {
+        int weeks = 0;
+        for (int i = 0; i < attendances.size() && i < Integer.SIZE; i++) {
+            if (attendances.get(i) != null && attendances.get(i) != 0) {
+                weeks |= 1 << i;
+            }
+        }
+        return weeks;
     }
 
     /**
-     * Converts this Jackson-friendly adapted student object into the model's
-     * {@link Attendance} object.
+     * Converts this Jackson-friendly adapted attendance object into the model's
+     * {@link Attendance} object, with the student it refers to in
+     * {@code addressBook}.
+     *
+     * @throws IllegalValueException
+     *             if a field is missing or the student does not exist.
      */
-    public Attendance toModelType() throws IllegalValueException {
-        // Get the actual tutorial
-        return new Attendance(tutorial.toModelType(), student.toModelType(), attendances);
+    public Attendance toModelType(AddressBook addressBook) throws IllegalValueException {
+        if (tutorialName == null) {
+            throw new IllegalValueException(MISSING_FIELD_MESSAGE_FORMAT.formatted(Tutorial.class.getSimpleName()));
+        }
+        if (studentId == null) {
+            throw new IllegalValueException(MISSING_FIELD_MESSAGE_FORMAT.formatted(StudentID.class.getSimpleName()));
+        }
+        if (!StudentID.isValidID(studentId)) {
+            throw new IllegalValueException(StudentID.MESSAGE_CONSTRAINTS);
+        }
+
+        var student = addressBook.findStudent(new StudentID(studentId))
+                        .orElseThrow(() -> new IllegalValueException(MESSAGE_STUDENT_NOT_FOUND.formatted(studentId)));
+        return new Attendance(new Tutorial(tutorialName), student, weeks);
+    }
+
+    @Override
+    public String toString() {
+        return "%s %s %s".formatted(tutorialName, studentId, Integer.toBinaryString(weeks));
     }
 }
@@ -0,0 +1,128 @@
+package seedu.address.storage.json;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.model.ChangeTracker.Entity;
+import seedu.address.model.attendance.Attendance;
+import seedu.address.model.student.Student;
+import seedu.address.model.submission.Submission;
+import seedu.address.model.tutorial.Tutorial;
+
+/**
+ * Jackson-friendly version of an entry in the journal of
+ * {@link JsonJournalAddressBookStorage}. Only the field holding the kind of
+ * entity being changed is present.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalEntry {
+
+    /**
+     * Represents what an entry does
+     */
+    enum Operation {
+        /** Marks the snapshot the entries that follow apply to, identified by its checksum */
+        SNAPSHOT,
+        /** Adds an entity, or replaces the entity with the same id */
+        PUT,
+        /** Removes the entity with the given id */
+        REMOVE
+    }
+
+    private final Operation operation;
+    private final Entity entity;
+    private final long id;
+    private final JsonAdaptedStudent student;
+    private final JsonAdaptedTutorial tutorial;
+    private final List<JsonAdaptedAssignment> assignments;
+    private final JsonAdaptedAttendance attendance;
+    private final JsonAdaptedSubmission submission;
+
+    /**
+     * Constructs a {@link JsonAdaptedJournalEntry} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("operation") Operation operation,
+                    @JsonProperty("entity") Entity entity, @JsonProperty("id") long id,
+                    @JsonProperty("student") JsonAdaptedStudent student,
+                    @JsonProperty("tutorial") JsonAdaptedTutorial tutorial,
+                    @JsonProperty("assignments") List<JsonAdaptedAssignment> assignments,
+                    @JsonProperty("attendance") JsonAdaptedAttendance attendance,
+                    @JsonProperty("submission") JsonAdaptedSubmission submission) {
+        this.operation = operation;
+        this.entity = entity;
+        this.id = id;
+        this.student = student;
+        this.tutorial = tutorial;
+        this.assignments = assignments;
+        this.attendance = attendance;
+        this.submission = submission;
+    }
+
+    /**
+     * Returns an entry marking the snapshot with the given checksum.
+     */
+    static JsonAdaptedJournalEntry snapshot(long checksum) {
+        return new JsonAdaptedJournalEntry(Operation.SNAPSHOT, null, checksum, null, null, null, null, null);
+    }
+
+    /**
+     * Returns an entry adding {@code item}, which must be a kind of {@code entity},
+     * or replacing the entity with the same id.
+     */
+    static JsonAdaptedJournalEntry put(Entity entity, long id, Object item) {
+        return switch (entity) {
+        case STUDENT -> new JsonAdaptedJournalEntry(Operation.PUT, entity, id, new JsonAdaptedStudent((Student) item),
+                        null, null, null, null);
+        case TUTORIAL -> new JsonAdaptedJournalEntry(Operation.PUT, entity, id, null,
+                        new JsonAdaptedTutorial((Tutorial) item),
+                        ((Tutorial) item).assignments().stream().map(JsonAdaptedAssignment::new).toList(), null, null);
+        case ATTENDANCE -> new JsonAdaptedJournalEntry(Operation.PUT, entity, id, null, null, null,
+                        new JsonAdaptedAttendance((Attendance) item), null);
+        case SUBMISSION -> new JsonAdaptedJournalEntry(Operation.PUT, entity, id, null, null, null, null,
+                        new JsonAdaptedSubmission((Submission) item));
+        };
+    }
+
+    /**
+     * Returns an entry removing the {@code entity} with the given id.
+     */
+    static JsonAdaptedJournalEntry remove(Entity entity, long id) {
+        return new JsonAdaptedJournalEntry(Operation.REMOVE, entity, id, null, null, null, null, null);
+    }
+
+    Operation getOperation() {
+        return operation;
+    }
+
+    Entity getEntity() {
+        return entity;
+    }
+
+    long getId() {
+        return id;
+    }
+
+    JsonAdaptedStudent getStudent() {
+        return student;
+    }
+
+    JsonAdaptedTutorial getTutorial() {
+        return tutorial;
+    }
+
+    List<JsonAdaptedAssignment> getAssignments() {
+        return assignments == null ? List.of() : assignments;
+    }
+
+    JsonAdaptedAttendance getAttendance() {
+        return attendance;
+    }
+
+    JsonAdaptedSubmission getSubmission() {
+        return submission;
+    }
+}
@@ -62,6 +62,10 @@ public class JsonAdaptedStudent {
         tutorials.addAll(source.getTutorials().stream().map(JsonAdaptedTutorial::new).collect(Collectors.toList()));
     }
 
+    String getId() {
+        return id;
+    }
+
     /**
      * Converts this Jackson-friendly adapted student object into the model's
      * {@code Student} object.
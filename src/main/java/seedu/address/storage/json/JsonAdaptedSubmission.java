@@ -4,27 +4,46 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.student.StudentID;
 import seedu.address.model.submission.Submission;
 import seedu.address.model.submission.SubmissionStatus;
+import seedu.address.model.tutorial.Assignment;
+import seedu.address.model.tutorial.Tutorial;
 
 /**
- * Jackson-friendly version of {@link Submission}.
+ * Jackson-friendly version of {@link Submission}. The student is referred to by
+ * their {@link StudentID} and the assignment by its name and its tutorial's
+ * name.
  */
 class JsonAdaptedSubmission {
 
-    private final JsonAdaptedAssignment assignment;
-    private final JsonAdaptedStudent student;
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Submission's %s field is missing!";
+    public static final String MESSAGE_STUDENT_NOT_FOUND = "Submission's student %s does not exist";
+
+    private final String tutorialName;
+    private final String assignmentName;
+    private final String studentId;
     private final SubmissionStatus status;
 
     /**
-     * Constructs a {@code JsonAdaptedStudent} with the given student details.
+     * Constructs a {@link JsonAdaptedSubmission} with the given submission details.
+     * Submissions of data files before version 2 embed the whole assignment and
+     * student, which are converted here.
      */
     @JsonCreator
-    public JsonAdaptedSubmission(@JsonProperty("assignment") JsonAdaptedAssignment assignment,
-                    @JsonProperty("student") JsonAdaptedStudent student,
-                    @JsonProperty("status") SubmissionStatus status) {
-        this.assignment = assignment;
-        this.student = student;
+    public JsonAdaptedSubmission(@JsonProperty("tutorialName") String tutorialName,
+                    @JsonProperty("assignmentName") String assignmentName,
+                    @JsonProperty("studentId") String studentId, @JsonProperty("status") SubmissionStatus status,
+                    @JsonProperty("assignment") JsonAdaptedAssignment legacyAssignment,
+                    @JsonProperty("student") JsonAdaptedStudent legacyStudent) {
+        if (legacyAssignment != null) {
+            tutorialName = legacyAssignment.getTutorial() == null ? null : legacyAssignment.getTutorial().getName();
+            assignmentName = legacyAssignment.getName();
+        }
+        this.tutorialName = tutorialName;
+        this.assignmentName = assignmentName;
+        this.studentId = studentId == null && legacyStudent != null ? legacyStudent.getId() : studentId;
         this.status = status;
     }
 
@@ -32,19 +51,43 @@ class JsonAdaptedSubmission {
      * Converts a given {@link Submission} into this class for Jackson use.
      */
     public JsonAdaptedSubmission(Submission source) {
-        this(new JsonAdaptedAssignment(source.assignment()), new JsonAdaptedStudent(source.student()), source.status());
+        this(source.assignment().tutorial().name(), source.assignment().name(), source.student().getStudentId().id,
+                        source.status(), null, null);
     }
 
     /**
-     * Converts this Jackson-friendly adapted student object into the model's
-     * {@link Submission} object.
+     * Converts this Jackson-friendly adapted submission object into the model's
+     * {@link Submission} object, with the student it refers to in
+     * {@code addressBook}.
+     *
+     * @throws IllegalValueException
+     *             if a field is missing or the student does not exist.
      */
-    public Submission toModelType() throws IllegalValueException {
-        return new Submission(assignment.toModelType(), student.toModelType(), status);
+    public Submission toModelType(AddressBook addressBook) throws IllegalValueException {
+        if (tutorialName == null) {
+            throw new IllegalValueException(MISSING_FIELD_MESSAGE_FORMAT.formatted(Tutorial.class.getSimpleName()));
+        }
+        if (assignmentName == null) {
+            throw new IllegalValueException(MISSING_FIELD_MESSAGE_FORMAT.formatted(Assignment.class.getSimpleName()));
+        }
+        if (studentId == null) {
+            throw new IllegalValueException(MISSING_FIELD_MESSAGE_FORMAT.formatted(StudentID.class.getSimpleName()));
+        }
+        if (!StudentID.isValidID(studentId)) {
+            throw new IllegalValueException(StudentID.MESSAGE_CONSTRAINTS);
+        }
+        if (status == null) {
+            throw new IllegalValueException(
+                            MISSING_FIELD_MESSAGE_FORMAT.formatted(SubmissionStatus.class.getSimpleName()));
+        }
+
+        var student = addressBook.findStudent(new StudentID(studentId))
+                        .orElseThrow(() -> new IllegalValueException(MESSAGE_STUDENT_NOT_FOUND.formatted(studentId)));
+        return new Submission(new Assignment(assignmentName, new Tutorial(tutorialName)), student, status);
     }
 
     @Override
     public String toString() {
-        return "%s %s %s".formatted(assignment, student, status);
+        return "%s %s %s %s".formatted(tutorialName, assignmentName, studentId, status);
     }
 }
@@ -24,6 +24,10 @@ public class JsonAdaptedTutorial {
         this.name = name;
     }
 
+    String getName() {
+        return name;
+    }
+
     /**
      * Converts this Jackson-friendly adapted tutorial object into the model's
      * {@link Tutorial} object.
@@ -0,0 +1,123 @@
+package seedu.address.storage.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import javafx.beans.InvalidationListener;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.attendance.Attendance;
+import seedu.address.model.student.Student;
+import seedu.address.model.submission.Submission;
+
+/**
+ * Converts an address book for Jackson use, keeping the converted entities so
+ * that only those reported as changed by the lists holding them are converted
+ * again.
+ * <p>
+ * Entities are edited in place on the thread changing the address book, so
+ * their values must be captured on that thread before they can be written on
+ * another. Converting an entity is what captures it, and only converting the
+ * entities that changed keeps this cheap: the rest of a conversion is copying
+ * references into new lists. The result holds no references to the address
+ * book, so it can be turned into JSON on any thread.
+ */
+class JsonAddressBookAdapter {
+
+    private final ReadOnlyAddressBook source;
+
+    // Converted entities, by reference, forgotten when their list reports them changed
+    private final Map<Student, JsonAdaptedStudent> students = new IdentityHashMap<>();
+    private final Map<Attendance, JsonAdaptedAttendance> attendances = new IdentityHashMap<>();
+    private final Map<Submission, JsonAdaptedSubmission> submissions = new IdentityHashMap<>();
+    private final ListChangeListener<Student> studentListener = forgetChanged(students);
+    private final ListChangeListener<Attendance> attendanceListener = forgetChanged(attendances);
+    private final ListChangeListener<Submission> submissionListener = forgetChanged(submissions);
+
+    // Converted again whenever tutorials change, as there are few of them, along
+    // with the submissions, which refer to their assignment by name
+    private List<JsonAdaptedTutorial> tutorials;
+    private List<JsonAdaptedAssignment> assignments;
+    private final InvalidationListener tutorialListener = observable -> {
+        tutorials = null;
+        assignments = null;
+        submissions.clear();
+    };
+
+    /**
+     * Creates an adapter of {@code source}, which listens to its lists until
+     * {@link #close()} is called
+     */
+    JsonAddressBookAdapter(ReadOnlyAddressBook source) {
+        this.source = requireNonNull(source);
+        source.getStudentList().addListener(studentListener);
+        source.getTutorialList().addListener(tutorialListener);
+        source.getAttendanceList().addListener(attendanceListener);
+        source.getSubmissionList().addListener(submissionListener);
+    }
+
+    ReadOnlyAddressBook getSource() {
+        return source;
+    }
+
+    /**
+     * Converts the address book, only converting again the entities that changed
+     * since the last conversion
+     */
+    JsonSerializableAddressBook adapt() {
+        if (tutorials == null) {
+            tutorials = source.getTutorialList().stream().map(JsonAdaptedTutorial::new).toList();
+            assignments = source.getTutorialList().stream()
+                            .flatMap(t -> t.assignments().stream().map(JsonAdaptedAssignment::new)).toList();
+        }
+
+        return new JsonSerializableAddressBook(adapt(source.getStudentList(), students, JsonAdaptedStudent::new),
+                        tutorials, adapt(source.getSubmissionList(), submissions, JsonAdaptedSubmission::new),
+                        adapt(source.getAttendanceList(), attendances, JsonAdaptedAttendance::new), assignments);
+    }
+
+    /**
+     * Stops listening to the lists of the address book
+     */
+    void close() {
+        source.getStudentList().removeListener(studentListener);
+        source.getTutorialList().removeListener(tutorialListener);
+        source.getAttendanceList().removeListener(attendanceListener);
+        source.getSubmissionList().removeListener(submissionListener);
+    }
+
+    private static <T, U> List<U> adapt(ObservableList<T> items, Map<T, U> adapted, Function<T, U> adapter) {
+        var result = new ArrayList<U>(items.size());
+        for (T item : items) {
+            result.add(adapted.computeIfAbsent(item, adapter));
+        }
+        return result;
+    }
+
+    /**
+     * Returns a listener that forgets the conversion of each item its list reports
+     * as added, removed or updated. Items edited in place are replaced with
+     * themselves, so they are reported as removed and added.
+     */
+    private static <T> ListChangeListener<T> forgetChanged(Map<T, ?> adapted) {
+        return change -> {
+            while (change.next()) {
+                if (change.wasPermutated()) {
+                    continue;
+                }
+                if (change.wasUpdated()) {
+                    change.getList().subList(change.getFrom(), change.getTo()).forEach(adapted::remove);
+                    continue;
+                }
+                change.getRemoved().forEach(adapted::remove);
+                change.getAddedSubList().forEach(adapted::remove);
+            }
+        };
+    }
+}
@@ -0,0 +1,235 @@
+package seedu.address.storage.json;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.uniquelist.exceptions.DuplicateItemException;
+import seedu.address.model.uniquelist.exceptions.ItemNotFoundException;
+
+/**
+ * Builds an {@link AddressBook} from the entities of a JSON data file as they
+ * are read, without holding the whole file or its adapted entities in memory.
+ * <p>
+ * Entities have to be added after those they refer to, in the order of
+ * {@link Section}. Entities read before the sections they depend on are held
+ * back until those sections are loaded. Data files are written in this order,
+ * so only older data files need entities to be held back.
+ * <p>
+ * Data files before {@link JsonSerializableAddressBook#VERSION} are read as
+ * well, as their attendances and submissions are converted when bound.
+ */
+class JsonAddressBookReader {
+
+    private static final Logger logger = LogsCenter.getLogger(JsonAddressBookReader.class);
+
+    /**
+     * The lists of entities in a data file, in the order they have to be loaded
+     */
+    enum Section {
+        TUTORIALS("tutorials", JsonAdaptedTutorial.class),
+        STUDENTS("students", JsonAdaptedStudent.class),
+        ASSIGNMENTS("assignments", JsonAdaptedAssignment.class),
+        ATTENDANCES("attendances", JsonAdaptedAttendance.class),
+        SUBMISSIONS("submissions", JsonAdaptedSubmission.class);
+
+        private final String fieldName;
+        private final Class<?> adaptedClass;
+
+        Section(String fieldName, Class<?> adaptedClass) {
+            this.fieldName = fieldName;
+            this.adaptedClass = adaptedClass;
+        }
+
+        static Section fromFieldName(String fieldName) {
+            for (var section : values()) {
+                if (section.fieldName.equals(fieldName)) {
+                    return section;
+                }
+            }
+            return null;
+        }
+    }
+
+    private static final String VERSION_FIELD_NAME = "version";
+    private static final int UNVERSIONED = 1;
+
+    private final AddressBook addressBook = new AddressBook();
+    private int version = UNVERSIONED;
+
+    // Sections whose entities have all been read, and those that have also been added
+    private final Set<Section> readSections = EnumSet.noneOf(Section.class);
+    private final Set<Section> loadedSections = EnumSet.noneOf(Section.class);
+    private final Map<Section, List<Object>> heldBack = new EnumMap<>(Section.class);
+
+    /**
+     * Reads the address book in the data file at {@code filePath}.
+     *
+     * @throws IOException
+     *             if the file cannot be read or is not in the JSON format.
+     * @throws DataLoadingException
+     *             if a student in the file is invalid.
+     */
+    static AddressBook read(Path filePath) throws IOException, DataLoadingException {
+        var reader = new JsonAddressBookReader();
+
+        try (var parser = JsonUtil.createParser(filePath)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Data file " + filePath + " does not contain a JSON object");
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                var fieldName = parser.getCurrentName();
+                var section = Section.fromFieldName(fieldName);
+                var token = parser.nextToken();
+                if (fieldName.equals(VERSION_FIELD_NAME) && token == JsonToken.VALUE_NUMBER_INT) {
+                    reader.version = parser.getIntValue();
+                    continue;
+                }
+                if (section == null || token != JsonToken.START_ARRAY) {
+                    parser.skipChildren();
+                    continue;
+                }
+
+                reader.readSection(parser, section);
+            }
+        }
+
+        if (reader.version < JsonSerializableAddressBook.VERSION) {
+            logger.info("Data file %s is in the version %d format, and will be converted when next saved"
+                            .formatted(filePath, reader.version));
+        } else if (reader.version > JsonSerializableAddressBook.VERSION) {
+            logger.warning("Data file %s is in the version %d format, which is newer than this application"
+                            .formatted(filePath, reader.version));
+        }
+
+        return reader.finish();
+    }
+
+    /**
+     * Adds the entities of the array {@code parser} is at, one at a time.
+     */
+    private void readSection(JsonParser parser, Section section) throws IOException, DataLoadingException {
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            accept(section, parser.readValueAs(section.adaptedClass));
+        }
+        finishSection(section);
+    }
+
+    /**
+     * Adds {@code entity}, which is from {@code section}, or holds it back if the
+     * sections before it are not loaded yet.
+     */
+    void accept(Section section, Object entity) throws DataLoadingException {
+        for (var before : Section.values()) {
+            if (before == section) {
+                add(section, entity);
+                return;
+            }
+            if (!loadedSections.contains(before)) {
+                heldBack.computeIfAbsent(section, s -> new ArrayList<>()).add(entity);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Marks all entities of {@code section} as read, adding those held back that
+     * can now be added.
+     */
+    void finishSection(Section section) throws DataLoadingException {
+        readSections.add(section);
+
+        for (var next : Section.values()) {
+            if (!readSections.contains(next)) {
+                return;
+            }
+            if (loadedSections.add(next)) {
+                for (var entity : heldBack.getOrDefault(next, List.of())) {
+                    add(next, entity);
+                }
+                heldBack.remove(next);
+            }
+        }
+    }
+
+    /**
+     * Returns the address book, after adding the entities held back for sections
+     * that were missing.
+     */
+    AddressBook finish() throws DataLoadingException {
+        for (var section : Section.values()) {
+            finishSection(section);
+        }
+
+        assert addressBook.check();
+        return addressBook;
+    }
+
+    /**
+     * Adds {@code entity} to the address book. Entities other than students that
+     * cannot be added are skipped.
+     */
+    private void add(Section section, Object entity) throws DataLoadingException {
+        switch (section) {
+        case TUTORIALS -> addressBook.addTutorial(((JsonAdaptedTutorial) entity).toModelType());
+        case STUDENTS -> addStudent((JsonAdaptedStudent) entity);
+        case ASSIGNMENTS -> addAssignment((JsonAdaptedAssignment) entity);
+        case ATTENDANCES -> addAttendance((JsonAdaptedAttendance) entity);
+        case SUBMISSIONS -> addSubmission((JsonAdaptedSubmission) entity);
+        default -> throw new IllegalStateException();
+        }
+    }
+
+    private void addStudent(JsonAdaptedStudent studentJson) throws DataLoadingException {
+        try {
+            addressBook.addStudent(studentJson.toModelType());
+        } catch (IllegalValueException e) {
+            logger.warning("Failed to load student: %s".formatted(studentJson));
+            throw new DataLoadingException(e); // This is only thrown to follow current test cases
+        }
+    }
+
+    private void addAssignment(JsonAdaptedAssignment assignmentJson) {
+        try {
+            addressBook.addAssignment(assignmentJson.toModelType());
+        } catch (ItemNotFoundException | DuplicateItemException e) {
+            logger.warning("Failed to add assignment %s: %s".formatted(assignmentJson, e.getMessage()));
+        }
+    }
+
+    private void addAttendance(JsonAdaptedAttendance attendanceJson) {
+        try {
+            addressBook.setAttendance(attendanceJson.toModelType(addressBook));
+        } catch (IllegalValueException e) {
+            logger.warning("Failed to load attendance: %s".formatted(e.getMessage()));
+        } catch (ItemNotFoundException e) {
+            logger.warning("Failed to add attendance: %s".formatted(e.getMessage()));
+        }
+    }
+
+    private void addSubmission(JsonAdaptedSubmission submissionJson) {
+        try {
+            addressBook.setSubmissionStatus(submissionJson.toModelType(addressBook));
+        } catch (IllegalValueException e) {
+            logger.warning("Failed to load submission: %s".formatted(e.getMessage()));
+        } catch (ItemNotFoundException | CommandException e) {
+            logger.warning("Failed to add submission %s: %s".formatted(submissionJson, e.getMessage()));
+        }
+    }
+}
@@ -3,16 +3,20 @@ package seedu.address.storage.json;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.Set;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ChangeTracker;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.PendingSave;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
@@ -23,6 +27,10 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     private Path filePath;
 
+    // Converts the address book last saved to filePath, so that entities that
+    // have not changed since do not need to be converted again
+    private JsonAddressBookAdapter adapter;
+
     public JsonAddressBookStorage(Path filePath) {
         this.filePath = filePath;
     }
@@ -37,7 +45,8 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     }
 
     /**
-     * Similar to {@link #readAddressBook()}.
+     * Similar to {@link #readAddressBook()}. The file is streamed, with entities
+     * added to the address book as they are read.
      *
      * @param filePath
      *            location of the data. Cannot be null.
@@ -47,13 +56,16 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(filePath,
-                        JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
 
-        return Optional.of(jsonAddressBook.get().toModelType());
+        try {
+            return Optional.of(JsonAddressBookReader.read(filePath));
+        } catch (IOException e) {
+            logger.warning("Error reading from data file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
     }
 
     @Override
@@ -71,8 +83,63 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
+        if (filePath.equals(this.filePath)) {
+            prepareSave(addressBook, Set.of(ChangeTracker.Entity.values())).write();
+            return;
+        }
+
         FileUtil.createIfMissing(filePath);
         JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
     }
 
+    /**
+     * Saves {@code addressBook} to the data file, only converting the entities
+     * that changed again if it was the last address book saved.
+     */
+    @Override
+    public long saveAddressBook(ReadOnlyAddressBook addressBook, Set<ChangeTracker.Entity> changes)
+                    throws IOException {
+        return prepareSave(addressBook, changes).write();
+    }
+
+    /**
+     * Captures {@code addressBook} on the caller's thread by converting the
+     * entities that changed since it was last saved, while turning it into JSON and
+     * writing the file is left to the returned {@link PendingSave}. The changed
+     * entities are found by listening to the address book, so {@code changes} is
+     * not used.
+     */
+    @Override
+    public PendingSave prepareSave(ReadOnlyAddressBook addressBook, Set<ChangeTracker.Entity> changes) {
+        requireNonNull(addressBook);
+        requireNonNull(changes);
+
+        if (adapter == null || adapter.getSource() != addressBook) {
+            if (adapter != null) {
+                adapter.close();
+            }
+            adapter = new JsonAddressBookAdapter(addressBook);
+        }
+        var json = adapter.adapt();
+
+        return new PendingSave() {
+            @Override
+            public long write() throws IOException {
+                FileUtil.createIfMissing(filePath);
+                JsonUtil.saveJsonFile(json, filePath);
+                return Files.size(filePath);
+            }
+
+            @Override
+            public boolean isComplete() {
+                return true;
+            }
+        };
+    }
+
+    @Override
+    public void flushAddressBook(ReadOnlyAddressBook addressBook) {
+        // Every save is written to the file in full, so nothing is held back
+    }
+
 }
@@ -0,0 +1,565 @@
+package seedu.address.storage.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ChangeTracker.Entity;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.PendingSave;
+import seedu.address.storage.json.JsonAdaptedJournalEntry.Operation;
+
+/**
+ * A class to access AddressBook data stored as a JSON snapshot on the hard
+ * disk, together with a journal of the changes made since the snapshot was
+ * written.
+ * <p>
+ * Saving appends an entry for each changed entity to the journal instead of
+ * rewriting the whole data file. A new snapshot is written, and the journal
+ * emptied, the first time an address book is saved, after every
+ * {@code snapshotInterval} entries, and when the address book is flushed.
+ * Reading loads the snapshot and replays the journal on top of it.
+ * <p>
+ * Saves are prepared on the thread changing the address book, and can be
+ * written on another thread, one at a time and in the order they were
+ * prepared.
+ * <p>
+ * Entries refer to entities by ids, which are their positions in the snapshot,
+ * or assigned in order to the entities added since. The snapshot is a regular
+ * data file, so it can also be read by {@link JsonAddressBookStorage}.
+ */
+public class JsonJournalAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_SNAPSHOT_INTERVAL = 1000;
+
+    // Number of entries written between each time the journal is synced to the disk
+    private static final int SYNC_INTERVAL = 64;
+
+    private static final Logger logger = LogsCenter.getLogger(JsonJournalAddressBookStorage.class);
+
+    private final Path filePath;
+    private final int snapshotInterval;
+
+    // The address book whose changes are being journaled, and the listeners collecting them
+    private ReadOnlyAddressBook journaledAddressBook;
+    private final Map<Entity, ListChangeListener<Object>> listeners = new EnumMap<>(Entity.class);
+    // Converts the journaled address book for snapshots
+    private JsonAddressBookAdapter adapter;
+
+    // Ids of the entities of the journaled address book, by reference
+    private final Map<Entity, Map<Object, Long>> ids = new EnumMap<>(Entity.class);
+    private final Map<Entity, Long> nextIds = new EnumMap<>(Entity.class);
+    private final Map<Entity, PendingChanges> pendingChanges = new EnumMap<>(Entity.class);
+
+    // Only used while preparing saves
+    private int entriesSinceSnapshot;
+
+    // Only used while writing saves, which may be done on another thread
+    private FileChannel journal;
+    private int entriesSinceSync;
+    private volatile boolean hasWriteFailed;
+
+    /**
+     * Creates a storage with its snapshot at {@code filePath}, which compacts the
+     * journal every {@code snapshotInterval} entries.
+     */
+    public JsonJournalAddressBookStorage(Path filePath, int snapshotInterval) {
+        requireNonNull(filePath);
+        assert snapshotInterval > 0;
+
+        this.filePath = filePath;
+        this.snapshotInterval = snapshotInterval;
+
+        for (var entity : Entity.values()) {
+            ids.put(entity, new IdentityHashMap<>());
+            pendingChanges.put(entity, new PendingChanges());
+            listeners.put(entity, change -> {
+                while (change.next()) {
+                    if (change.wasPermutated() || change.wasUpdated()) {
+                        continue;
+                    }
+                    change.getRemoved().forEach(item -> pendingChanges.get(entity).record(item, false));
+                    change.getAddedSubList().forEach(item -> pendingChanges.get(entity).record(item, true));
+                }
+            });
+        }
+    }
+
+    public JsonJournalAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_SNAPSHOT_INTERVAL);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal kept alongside the snapshot at
+     * {@code filePath}.
+     */
+    public static Path getJournalPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + ".journal");
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        var journalPath = getJournalPath(filePath);
+        if (!Files.exists(filePath) && !Files.exists(journalPath)) {
+            return Optional.empty();
+        }
+
+        try {
+            var snapshot = new JsonSerializableAddressBook(List.of(), List.of(), List.of(), List.of(), List.of());
+            long checksum = -1;
+            if (Files.exists(filePath)) {
+                var bytes = Files.readAllBytes(filePath);
+                checksum = checksumOf(bytes);
+                snapshot = JsonUtil.fromJsonString(new String(bytes, StandardCharsets.UTF_8),
+                                JsonSerializableAddressBook.class);
+            }
+
+            var replay = new Replay(snapshot);
+            if (Files.exists(journalPath)) {
+                replay.applyJournal(Files.readAllLines(journalPath, StandardCharsets.UTF_8), checksum);
+            }
+
+            return Optional.of(replay.toSerializableAddressBook().toModelType());
+        } catch (IOException e) {
+            logger.warning("Error reading from data file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, Set.of(Entity.values()));
+    }
+
+    /**
+     * Saves a full snapshot of {@code addressBook} to {@code filePath}. If this is
+     * the data file of this storage, the changes made to {@code addressBook} from
+     * now on are journaled.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (filePath.equals(this.filePath)) {
+            startJournal(addressBook).write();
+            return;
+        }
+
+        FileUtil.createIfMissing(filePath);
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+    }
+
+    @Override
+    public long saveAddressBook(ReadOnlyAddressBook addressBook, Set<Entity> changes) throws IOException {
+        return prepareSave(addressBook, changes).write();
+    }
+
+    /**
+     * Collects the entries for the changes made to {@code addressBook} since it was
+     * last saved, to be appended to the journal. The changes are collected by
+     * listening to the address book, so {@code changes} is not used.
+     * <p>
+     * A snapshot is captured instead when it is due, or when writing to the journal
+     * has failed, as entries may then have been lost.
+     */
+    @Override
+    public PendingSave prepareSave(ReadOnlyAddressBook addressBook, Set<Entity> changes) {
+        requireNonNull(addressBook);
+        requireNonNull(changes);
+
+        if (addressBook != journaledAddressBook) {
+            return startJournal(addressBook);
+        }
+
+        var entries = collectPendingChanges();
+        entriesSinceSnapshot += entries.size();
+        if (entriesSinceSnapshot >= snapshotInterval || hasWriteFailed) {
+            return prepareSnapshot(addressBook);
+        }
+        return new PendingEntries(entries);
+    }
+
+    /**
+     * Compacts the journal of {@code addressBook} into a new snapshot and closes
+     * the journal. Pending saves of this storage must have been written.
+     */
+    @Override
+    public void flushAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+
+        if (addressBook != journaledAddressBook) {
+            return;
+        }
+
+        entriesSinceSnapshot += collectPendingChanges().size();
+        if (entriesSinceSnapshot > 0 || hasWriteFailed) {
+            prepareSnapshot(addressBook).write();
+        }
+        closeJournal();
+    }
+
+    /**
+     * Captures a snapshot of {@code addressBook} and starts journaling its changes,
+     * instead of those of the previous address book.
+     */
+    private PendingSave startJournal(ReadOnlyAddressBook addressBook) {
+        if (journaledAddressBook != null) {
+            for (var entity : Entity.values()) {
+                listOf(journaledAddressBook, entity).removeListener(listeners.get(entity));
+            }
+            adapter.close();
+        }
+
+        adapter = new JsonAddressBookAdapter(addressBook);
+        var snapshot = prepareSnapshot(addressBook);
+
+        journaledAddressBook = addressBook;
+        for (var entity : Entity.values()) {
+            listOf(addressBook, entity).addListener(listeners.get(entity));
+        }
+        return snapshot;
+    }
+
+    /**
+     * Captures a snapshot of {@code addressBook}, which is the address book being
+     * journaled, and discards its pending changes. Only the entities that changed
+     * since the last snapshot are converted again. Entities are given ids by their
+     * positions in the snapshot.
+     */
+    private PendingSave prepareSnapshot(ReadOnlyAddressBook addressBook) {
+        assert adapter.getSource() == addressBook;
+        var snapshot = adapter.adapt();
+        entriesSinceSnapshot = 0;
+
+        for (var entity : Entity.values()) {
+            var list = listOf(addressBook, entity);
+            var entityIds = ids.get(entity);
+            entityIds.clear();
+            for (int i = 0; i < list.size(); i++) {
+                entityIds.put(list.get(i), (long) i);
+            }
+            nextIds.put(entity, (long) list.size());
+            pendingChanges.get(entity).clear();
+        }
+
+        return new PendingSave() {
+            @Override
+            public long write() throws IOException {
+                try {
+                    long bytesWritten = writeSnapshot(snapshot);
+                    hasWriteFailed = false;
+                    return bytesWritten;
+                } catch (IOException e) {
+                    // The data file or the journal may be incomplete, so the next save
+                    // writes a snapshot again
+                    hasWriteFailed = true;
+                    throw e;
+                }
+            }
+
+            @Override
+            public boolean isComplete() {
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Writes {@code snapshot} to the data file and empties the journal
+     *
+     * @return the number of bytes written
+     */
+    private long writeSnapshot(JsonSerializableAddressBook snapshot) throws IOException {
+        var content = JsonUtil.toJsonString(snapshot);
+        var bytes = content.getBytes(StandardCharsets.UTF_8);
+        FileUtil.createIfMissing(filePath);
+        FileUtil.writeToFile(filePath, content);
+
+        // Should writing the journal fail from here on, the journal left behind is
+        // for the previous snapshot, and is ignored as the checksums do not match
+        closeJournal();
+        journal = FileChannel.open(getJournalPath(filePath), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                        StandardOpenOption.TRUNCATE_EXISTING);
+        long bytesWritten = bytes.length + write(List.of(JsonAdaptedJournalEntry.snapshot(checksumOf(bytes))));
+        sync();
+
+        logger.fine("Wrote snapshot of address book to " + filePath);
+        return bytesWritten;
+    }
+
+    /**
+     * Returns an entry for each entity changed since the last save
+     */
+    private List<JsonAdaptedJournalEntry> collectPendingChanges() {
+        var entries = new ArrayList<JsonAdaptedJournalEntry>();
+
+        for (var entity : Entity.values()) {
+            var pending = pendingChanges.get(entity);
+            var entityIds = ids.get(entity);
+
+            for (var item : pending.items) {
+                if (pending.isPut.get(item)) {
+                    var id = entityIds.computeIfAbsent(item, i -> nextIds.merge(entity, 1L, Long::sum) - 1);
+                    entries.add(JsonAdaptedJournalEntry.put(entity, id, item));
+                } else {
+                    var id = entityIds.remove(item);
+                    // Entities added and removed again since the last save were never written
+                    if (id != null) {
+                        entries.add(JsonAdaptedJournalEntry.remove(entity, id));
+                    }
+                }
+            }
+            pending.clear();
+        }
+
+        return entries;
+    }
+
+    /**
+     * Appends {@code entries} to the journal, returning the number of bytes written
+     */
+    private long appendEntries(List<JsonAdaptedJournalEntry> entries) throws IOException {
+        if (entries.isEmpty()) {
+            return 0;
+        }
+        if (hasWriteFailed) {
+            // Entries may have been lost, so the next save writes a snapshot instead
+            throw new IOException("Journal of " + filePath + " is incomplete after an earlier failure");
+        }
+
+        try {
+            if (journal == null) {
+                journal = FileChannel.open(getJournalPath(filePath), StandardOpenOption.CREATE,
+                                StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            }
+            int bytesWritten = write(entries);
+            entriesSinceSync += entries.size();
+            if (entriesSinceSync >= SYNC_INTERVAL) {
+                sync();
+            }
+            return bytesWritten;
+        } catch (IOException e) {
+            hasWriteFailed = true;
+            throw e;
+        }
+    }
+
+    /**
+     * Appends {@code entries} to the journal, returning the number of bytes written
+     */
+    private int write(List<JsonAdaptedJournalEntry> entries) throws IOException {
+        var lines = new StringBuilder();
+        for (var entry : entries) {
+            lines.append(JsonUtil.toCompactJsonString(entry)).append('\n');
+        }
+
+        var buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            journal.write(buffer);
+        }
+        return buffer.capacity();
+    }
+
+    private void sync() throws IOException {
+        journal.force(false);
+        entriesSinceSync = 0;
+    }
+
+    private void closeJournal() throws IOException {
+        if (journal == null) {
+            return;
+        }
+
+        sync();
+        journal.close();
+        journal = null;
+    }
+
+    private static long checksumOf(byte[] bytes) {
+        var crc = new CRC32();
+        crc.update(bytes);
+        return crc.getValue();
+    }
+
+    private static ObservableList<?> listOf(ReadOnlyAddressBook addressBook, Entity entity) {
+        return switch (entity) {
+        case STUDENT -> addressBook.getStudentList();
+        case TUTORIAL -> addressBook.getTutorialList();
+        case ATTENDANCE -> addressBook.getAttendanceList();
+        case SUBMISSION -> addressBook.getSubmissionList();
+        };
+    }
+
+    /**
+     * Entries to be appended to the journal
+     */
+    private class PendingEntries implements PendingSave {
+        private final List<JsonAdaptedJournalEntry> entries;
+
+        PendingEntries(List<JsonAdaptedJournalEntry> entries) {
+            this.entries = entries;
+        }
+
+        @Override
+        public long write() throws IOException {
+            return appendEntries(entries);
+        }
+
+        @Override
+        public boolean isComplete() {
+            return false;
+        }
+    }
+
+    /**
+     * Changes to one kind of entity that have not been written to the journal,
+     * in the order the entities were first changed
+     */
+    private static class PendingChanges {
+        private final List<Object> items = new ArrayList<>();
+        // Whether each entity was last put or removed
+        private final Map<Object, Boolean> isPut = new IdentityHashMap<>();
+
+        void record(Object item, boolean wasPut) {
+            if (isPut.put(item, wasPut) == null) {
+                items.add(item);
+            }
+        }
+
+        void clear() {
+            items.clear();
+            isPut.clear();
+        }
+    }
+
+    /**
+     * Entities of a snapshot, by id, with the entries of its journal applied
+     */
+    private static class Replay {
+        private final Map<Long, JsonAdaptedStudent> students = new LinkedHashMap<>();
+        private final Map<Long, JsonAdaptedTutorial> tutorials = new LinkedHashMap<>();
+        private final Map<Long, List<JsonAdaptedAssignment>> assignments = new HashMap<>();
+        private final Map<Long, JsonAdaptedAttendance> attendances = new LinkedHashMap<>();
+        private final Map<Long, JsonAdaptedSubmission> submissions = new LinkedHashMap<>();
+
+        Replay(JsonSerializableAddressBook snapshot) {
+            putByPosition(students, snapshot.getStudents());
+            putByPosition(tutorials, snapshot.getTutorials());
+            putByPosition(attendances, snapshot.getAttendances());
+            putByPosition(submissions, snapshot.getSubmissions());
+
+            // Assignments are journaled together with their tutorial
+            var tutorialIds = new HashMap<String, Long>();
+            tutorials.forEach((id, tutorial) -> tutorialIds.put(tutorial.getName(), id));
+            for (var assignment : snapshot.getAssignments()) {
+                var tutorialId = assignment.getTutorial() == null ? null
+                                : tutorialIds.get(assignment.getTutorial().getName());
+                if (tutorialId != null) {
+                    assignments.computeIfAbsent(tutorialId, id -> new ArrayList<>()).add(assignment);
+                }
+            }
+        }
+
+        private static <T> void putByPosition(Map<Long, T> entities, List<T> list) {
+            for (int i = 0; i < list.size(); i++) {
+                entities.put((long) i, list.get(i));
+            }
+        }
+
+        /**
+         * Applies the entries in {@code lines}, if they are for the snapshot with the
+         * given checksum. Stops at the first entry that cannot be read, which is
+         * expected if the application stopped while writing it.
+         */
+        void applyJournal(List<String> lines, long snapshotChecksum) {
+            for (int i = 0; i < lines.size(); i++) {
+                JsonAdaptedJournalEntry entry;
+                try {
+                    entry = JsonUtil.fromJsonString(lines.get(i), JsonAdaptedJournalEntry.class);
+                } catch (IOException e) {
+                    logger.warning("Ignoring journal from line %d, which cannot be read: %s".formatted(i + 1, e));
+                    return;
+                }
+
+                if (i == 0) {
+                    if (entry.getOperation() != Operation.SNAPSHOT || entry.getId() != snapshotChecksum) {
+                        logger.warning("Ignoring journal, which is not for the current snapshot");
+                        return;
+                    }
+                    continue;
+                }
+
+                apply(entry);
+            }
+        }
+
+        private void apply(JsonAdaptedJournalEntry entry) {
+            if (entry.getOperation() == Operation.SNAPSHOT || entry.getEntity() == null) {
+                return;
+            }
+
+            switch (entry.getEntity()) {
+            case STUDENT -> apply(students, entry, entry.getStudent());
+            case TUTORIAL -> {
+                apply(tutorials, entry, entry.getTutorial());
+                apply(assignments, entry, entry.getAssignments());
+            }
+            case ATTENDANCE -> apply(attendances, entry, entry.getAttendance());
+            case SUBMISSION -> apply(submissions, entry, entry.getSubmission());
+            default -> throw new IllegalStateException();
+            }
+        }
+
+        private static <T> void apply(Map<Long, T> entities, JsonAdaptedJournalEntry entry, T value) {
+            if (entry.getOperation() == Operation.PUT) {
+                entities.put(entry.getId(), value);
+            } else {
+                entities.remove(entry.getId());
+            }
+        }
+
+        JsonSerializableAddressBook toSerializableAddressBook() {
+            return new JsonSerializableAddressBook(new ArrayList<>(students.values()),
+                            new ArrayList<>(tutorials.values()), new ArrayList<>(submissions.values()),
+                            new ArrayList<>(attendances.values()), tutorials.keySet().stream()
+                                            .flatMap(id -> assignments.getOrDefault(id, List.of()).stream()).toList());
+        }
+    }
+}
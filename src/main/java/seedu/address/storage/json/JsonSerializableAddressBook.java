@@ -1,31 +1,36 @@
 package seedu.address.storage.json;
 
 import java.util.List;
-import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
 import seedu.address.commons.exceptions.DataLoadingException;
-import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
-import seedu.address.model.student.Student;
-import seedu.address.model.uniquelist.exceptions.DuplicateItemException;
-import seedu.address.model.uniquelist.exceptions.ItemNotFoundException;
+import seedu.address.storage.json.JsonAddressBookReader.Section;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
  */
 @JsonRootName(value = "addressbook")
+// Written in the order the entities are loaded, so they can be added as they are read
+@JsonPropertyOrder({ "version", "tutorials", "students", "assignments", "attendances", "submissions" })
 public class JsonSerializableAddressBook {
     public static final String MESSAGE_DUPLICATE_TUTORIAL = "Tutorials list contains duplicate tutorial(s).";
     public static final String MESSAGE_DUPLICATE_STUDENT = "Students list contains duplicate student(s).";
 
-    private static final Logger LOGGER = Logger.getLogger(JsonSerializableAddressBook.class.getName());
+    /**
+     * Version of the data file format written. Since version 2, attendances and
+     * submissions refer to their student, tutorial and assignment instead of
+     * embedding them. Data files before version 2 have no version.
+     */
+    public static final int VERSION = 2;
+
+    private final int version;
 
     private final List<JsonAdaptedStudent> students;
     private final List<JsonAdaptedTutorial> tutorials;
@@ -42,6 +47,7 @@ public class JsonSerializableAddressBook {
                     @JsonProperty("submissions") List<JsonAdaptedSubmission> submissions,
                     @JsonProperty("attendances") List<JsonAdaptedAttendance> attendances,
                     @JsonProperty("assignments") List<JsonAdaptedAssignment> assignments) {
+        this.version = VERSION;
         this.students = students;
         this.tutorials = tutorials;
         this.submissions = submissions;
@@ -57,13 +63,49 @@ public class JsonSerializableAddressBook {
      *            {@code JsonSerializableAddressBook}.
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
-        this(source.getStudentList().stream().map(JsonAdaptedStudent::new).collect(Collectors.toList()),
-                        source.getTutorialList().stream().map(JsonAdaptedTutorial::new).toList(),
-                        source.getSubmissionList().stream().map(JsonAdaptedSubmission::new).toList(),
-                        source.getAttendanceList().stream().map(JsonAdaptedAttendance::new).toList(),
-                        source.getTutorialList().stream()
-                                        .flatMap(t -> t.assignments().stream().map(JsonAdaptedAssignment::new))
-                                        .toList());
+        this(adaptStudents(source), adaptTutorials(source), adaptSubmissions(source), adaptAttendances(source),
+                        adaptAssignments(source));
+    }
+
+    private static List<JsonAdaptedStudent> adaptStudents(ReadOnlyAddressBook source) {
+        return source.getStudentList().stream().map(JsonAdaptedStudent::new).collect(Collectors.toList());
+    }
+
+    private static List<JsonAdaptedTutorial> adaptTutorials(ReadOnlyAddressBook source) {
+        return source.getTutorialList().stream().map(JsonAdaptedTutorial::new).toList();
+    }
+
+    private static List<JsonAdaptedSubmission> adaptSubmissions(ReadOnlyAddressBook source) {
+        return source.getSubmissionList().stream().map(JsonAdaptedSubmission::new).toList();
+    }
+
+    private static List<JsonAdaptedAttendance> adaptAttendances(ReadOnlyAddressBook source) {
+        return source.getAttendanceList().stream().map(JsonAdaptedAttendance::new).toList();
+    }
+
+    private static List<JsonAdaptedAssignment> adaptAssignments(ReadOnlyAddressBook source) {
+        return source.getTutorialList().stream()
+                        .flatMap(t -> t.assignments().stream().map(JsonAdaptedAssignment::new)).toList();
+    }
+
+    List<JsonAdaptedStudent> getStudents() {
+        return students == null ? List.of() : students;
+    }
+
+    List<JsonAdaptedTutorial> getTutorials() {
+        return tutorials == null ? List.of() : tutorials;
+    }
+
+    List<JsonAdaptedSubmission> getSubmissions() {
+        return submissions == null ? List.of() : submissions;
+    }
+
+    List<JsonAdaptedAttendance> getAttendances() {
+        return attendances == null ? List.of() : attendances;
+    }
+
+    List<JsonAdaptedAssignment> getAssignments() {
+        return assignments == null ? List.of() : assignments;
     }
 
     /**
@@ -71,65 +113,21 @@ public class JsonSerializableAddressBook {
      * will try it's best to add into the addressbook, any errors will be ignored.
      */
     public AddressBook toModelType() throws DataLoadingException {
-        AddressBook addressBook = new AddressBook();
-
-        // Here's the sequence that the files needs to be loaded in
-        // Insert the following objects in this order: Tutorial, Student, Attendance,
-        // Assignment, Submission,
-        // Settle these relationships
-        // 1. Student, Tutorial, Attendance
-        // 3. Student, Assignment, Submission
-
-        tutorials.stream().map(JsonAdaptedTutorial::toModelType).forEach(addressBook::addTutorial);
-
-        for (JsonAdaptedStudent jsonAdaptedStudent : students) {
-            Student student = null;
-            try {
-                student = jsonAdaptedStudent.toModelType();
-            } catch (IllegalValueException e) {
-                LOGGER.warning("Failed to load student: %s".formatted(jsonAdaptedStudent));
-                throw new DataLoadingException(e); // This is only thrown to follow current test cases
-            }
-            addressBook.addStudent(student);
-        }
-
-        for (var assignmentJson : assignments) {
-            try {
-                var a = assignmentJson.toModelType();
-                addressBook.addAssignment(a);
-            } catch (ItemNotFoundException | DuplicateItemException e) {
-                LOGGER.warning("Failed to add assignment %s: %s".formatted(assignmentJson, e.getMessage()));
-            }
-        }
-
-        for (var attendanceJson : attendances) {
-            try {
-                // The problem with this object is that it's not pointing to the correct values
-                var a = attendanceJson.toModelType();
-                addressBook.setAttendance(a);
-            } catch (IllegalValueException e) {
-                LOGGER.warning("Failed to load attendance: %s".formatted(e.getMessage()));
-            } catch (ItemNotFoundException e) {
-                LOGGER.warning("Failed to add attendance: %s".formatted(e.getMessage()));
-            }
-        }
+        var reader = new JsonAddressBookReader();
+        load(reader, Section.TUTORIALS, getTutorials());
+        load(reader, Section.STUDENTS, getStudents());
+        load(reader, Section.ASSIGNMENTS, getAssignments());
+        load(reader, Section.ATTENDANCES, getAttendances());
+        load(reader, Section.SUBMISSIONS, getSubmissions());
+        return reader.finish();
+    }
 
-        for (var submissionJson : submissions) {
-            try {
-                var submit = submissionJson.toModelType();
-                addressBook.setSubmissionStatus(submit);
-            } catch (IllegalValueException e) {
-                LOGGER.warning("Failed to load submission: %s".formatted(e.getMessage()));
-            } catch (ItemNotFoundException e) {
-                LOGGER.warning("Failed to add submission %s: %s".formatted(submissionJson, e.getMessage()));
-            } catch (CommandException e) {
-                LOGGER.warning("Failed to add submission %s: %s".formatted(submissionJson, e.getMessage()));
-            }
+    private static void load(JsonAddressBookReader reader, Section section, List<?> entities)
+                    throws DataLoadingException {
+        for (var entity : entities) {
+            reader.accept(section, entity);
         }
-
-        assert addressBook.check();
-
-        return addressBook;
+        reader.finishSection(section);
     }
 
 }
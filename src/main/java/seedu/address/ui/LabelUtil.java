@@ -0,0 +1,46 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.scene.control.Label;
+import javafx.scene.layout.Pane;
+
+/**
+ * Helper functions for showing text in the labels of cards that are reused for
+ * different items.
+ */
+public class LabelUtil {
+
+    /**
+     * Shows each of {@code texts} in a {@code Label} of {@code pane}, in order.
+     * Labels already in the pane are reused, and only the missing ones are created
+     * or the extra ones removed. Every other child of the pane must be a
+     * {@code Label}.
+     *
+     * @return the labels showing {@code texts}, in order
+     */
+    public static List<Label> setLabels(Pane pane, List<String> texts) {
+        requireNonNull(pane);
+        requireNonNull(texts);
+
+        var children = pane.getChildren();
+        if (children.size() > texts.size()) {
+            children.remove(texts.size(), children.size());
+        }
+
+        var labels = new ArrayList<Label>(texts.size());
+        for (int i = 0; i < children.size(); i++) {
+            var label = (Label) children.get(i);
+            label.setText(texts.get(i));
+            labels.add(label);
+        }
+
+        var newLabels = texts.subList(children.size(), texts.size()).stream().map(Label::new).toList();
+        children.addAll(newLabels);
+        labels.addAll(newLabels);
+        return labels;
+    }
+}
@@ -201,7 +201,8 @@ public class MainWindow extends UiPart<Stage> {
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath(), logic.getNavigationMode());
+        statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath(), logic.getNavigationMode(),
+                        logic.getSaveFailure());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
@@ -1,8 +1,5 @@
 package seedu.address.ui.attendence;
 
-import java.util.List;
-import java.util.stream.IntStream;
-
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
@@ -17,6 +14,8 @@ import seedu.address.ui.UiPart;
 public class AttendanceCard extends UiPart<Region> {
 
     private static final String FXML = "AttendanceComponents/AttendanceListCard.fxml";
+    private static final String PRESENT_STYLE_CLASS = "attendance-present";
+    private static final String ABSENT_STYLE_CLASS = "attendance-absent";
 
     /**
      * Note: Certain keywords such as "location" and "resources" are reserved
@@ -27,7 +26,7 @@ public class AttendanceCard extends UiPart<Region> {
      *      issue on AddressBook level 4</a>
      */
 
-    public final Attendance attendance;
+    private Attendance attendance;
     @FXML
     private HBox cardPane;
     @FXML
@@ -39,26 +38,48 @@ public class AttendanceCard extends UiPart<Region> {
     @FXML
     private FlowPane attendances;
 
+    // One label per week, created once and restyled for each attendance shown
+    private final Label[] weekLabels = new Label[Attendance.LAST_WEEK - Attendance.FIRST_WEEK + 1];
+
+    /**
+     * Creates an empty {@code AttendanceCard}, to be shown with an attendance
+     * through {@link #setAttendance(Attendance, int)}
+     */
+    public AttendanceCard() {
+        super(FXML);
+        for (int i = 0; i < weekLabels.length; i++) {
+            weekLabels[i] = new Label("Week " + (Attendance.FIRST_WEEK + i));
+        }
+        attendances.getChildren().setAll(weekLabels);
+    }
+
     /**
      * Creates an {@code AttendanceCard} with the given {@code Attendance} and index
      * to display.
      */
     public AttendanceCard(Attendance attendance, int displayedIndex) {
-        super(FXML);
+        this();
+        setAttendance(attendance, displayedIndex);
+    }
+
+    public Attendance getAttendance() {
+        return attendance;
+    }
+
+    /**
+     * Shows {@code attendance} with the index {@code displayedIndex} in this card,
+     * reusing its nodes rather than loading the card again
+     */
+    public void setAttendance(Attendance attendance, int displayedIndex) {
         this.attendance = attendance;
         id.setText(displayedIndex + ". ");
         studentName.setText(attendance.student().getName().toString());
         tutorialName.setText(attendance.tutorial().name());
-        List<Integer> attendanceList = attendance.attendances();
-        IntStream.range(0, attendance.attendances().size()).forEach(i -> {
-            int week = i + 3;
-            Label label = new Label("Week " + week);
-            if (attendanceList.get(i) == 0) {
-                label.getStyleClass().add("attendance-absent");
-            } else if (attendanceList.get(i) == 1) {
-                label.getStyleClass().add("attendance-present");
-            }
-            attendances.getChildren().add(label);
-        });
+        for (int i = 0; i < weekLabels.length; i++) {
+            var styleClasses = weekLabels[i].getStyleClass();
+            styleClasses.removeAll(PRESENT_STYLE_CLASS, ABSENT_STYLE_CLASS);
+            styleClasses.add(attendance.isPresent(Attendance.FIRST_WEEK + i) ? PRESENT_STYLE_CLASS
+                            : ABSENT_STYLE_CLASS);
+        }
     }
 }
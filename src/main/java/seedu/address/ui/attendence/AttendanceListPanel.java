@@ -32,9 +32,12 @@ public class AttendanceListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of an {@code Attendance}
-     * using an {@code AttendanceCard}.
+     * using an {@code AttendanceCard} that is reused.
      */
     class AttendanceListViewCell extends ListCell<Attendance> {
+        // Loaded once, and shown with each attendance the cell is reused for
+        private final AttendanceCard card = new AttendanceCard();
+
         @Override
         protected void updateItem(Attendance attendance, boolean empty) {
             super.updateItem(attendance, empty);
@@ -43,7 +46,8 @@ public class AttendanceListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new AttendanceCard(attendance, getIndex() + 1).getRoot());
+                card.setAttendance(attendance, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
@@ -3,6 +3,7 @@ package seedu.address.ui.misc;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
+import javafx.beans.value.ObservableStringValue;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
@@ -22,14 +23,22 @@ public class StatusBarFooter extends UiPart<Region> {
     @FXML
     private Label navigationModeStatus;
 
+    @FXML
+    private Label saveFailureStatus;
+
     /**
      * Creates a {@code StatusBarFooter} with the given {@code Path} and
-     * {@code NavigationMode}.
+     * {@code NavigationMode}, which shows {@code saveFailure} while it is not
+     * empty.
      */
-    public StatusBarFooter(Path saveLocation, NavigationMode navigationMode) {
+    public StatusBarFooter(Path saveLocation, NavigationMode navigationMode, ObservableStringValue saveFailure) {
         super(FXML);
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
         setNavigationMode(navigationMode);
+
+        saveFailureStatus.textProperty().bind(saveFailure);
+        saveFailureStatus.visibleProperty().bind(saveFailureStatus.textProperty().isNotEmpty());
+        saveFailureStatus.managedProperty().bind(saveFailureStatus.visibleProperty());
     }
 
     /**
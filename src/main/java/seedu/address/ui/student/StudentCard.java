@@ -1,13 +1,13 @@
 package seedu.address.ui.student;
 
-import java.util.Comparator;
-
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import seedu.address.model.student.Student;
+import seedu.address.model.tutorial.Tutorial;
+import seedu.address.ui.LabelUtil;
 import seedu.address.ui.UiPart;
 
 /**
@@ -26,7 +26,7 @@ public class StudentCard extends UiPart<Region> {
      *      issue on AddressBook level 4</a>
      */
 
-    public final Student student;
+    private Student student;
 
     @FXML
     private HBox cardPane;
@@ -45,12 +45,32 @@ public class StudentCard extends UiPart<Region> {
     @FXML
     private FlowPane tutorials;
 
+    /**
+     * Creates an empty {@code StudentCard}, to be shown with a student through
+     * {@link #setStudent(Student, int)}
+     */
+    public StudentCard() {
+        super(FXML);
+    }
+
     /**
      * Creates a {@code StudentCode} with the given {@code Student} and index to
      * display.
      */
     public StudentCard(Student student, int displayedIndex) {
-        super(FXML);
+        this();
+        setStudent(student, displayedIndex);
+    }
+
+    public Student getStudent() {
+        return student;
+    }
+
+    /**
+     * Shows {@code student} with the index {@code displayedIndex} in this card,
+     * reusing its nodes rather than loading the card again
+     */
+    public void setStudent(Student student, int displayedIndex) {
         this.student = student;
         id.setText(displayedIndex + "");
         name.setText(student.getName().fullName);
@@ -58,7 +78,6 @@ public class StudentCard extends UiPart<Region> {
         phone.setText(student.getPhone().value);
         handle.setText(student.getHandle().handle);
         email.setText(student.getEmail().value);
-        student.getTutorials().stream().sorted(Comparator.comparing(tutorial -> tutorial.name()))
-                        .forEach(tutorial -> tutorials.getChildren().add(new Label(tutorial.name())));
+        LabelUtil.setLabels(tutorials, student.getTutorials().stream().map(Tutorial::name).sorted().toList());
     }
 }
@@ -32,9 +32,12 @@ public class StudentListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Student} using
-     * a {@code StudentCard}.
+     * a {@code StudentCard} that is reused.
      */
     class StudentListViewCell extends ListCell<Student> {
+        // Loaded once, and shown with each student the cell is reused for
+        private final StudentCard card = new StudentCard();
+
         @Override
         protected void updateItem(Student student, boolean empty) {
             super.updateItem(student, empty);
@@ -43,7 +46,8 @@ public class StudentListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new StudentCard(student, getIndex() + 1).getRoot());
+                card.setStudent(student, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
@@ -0,0 +1,201 @@
+package seedu.address.ui.submission;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.student.Student;
+import seedu.address.model.submission.Submission;
+import seedu.address.model.tutorial.Tutorial;
+import seedu.address.ui.submission.SubmissionListPanel.SubmissionInfo;
+
+/**
+ * Groups a list of submissions by student, then by tutorial, into one
+ * {@link SubmissionInfo} row per student. The rows are kept up to date from
+ * the changes of the list, and only the rows of the students whose submissions
+ * changed are replaced, so that changing one submission does not regroup every
+ * submission or recreate the row of every student.
+ * <p>
+ * Rows are in the order their students first had a submission in the list.
+ * Students are compared by reference, as the submissions in the list refer to
+ * the students held by the address book.
+ */
+class GroupedSubmissionList {
+
+    private final ObservableList<Submission> submissions;
+    private final ObservableList<SubmissionInfo> rows = FXCollections.observableArrayList();
+    private final ObservableList<SubmissionInfo> unmodifiableRows = FXCollections.unmodifiableObservableList(rows);
+
+    // Submissions of each student, in the order they were added to the list
+    private final Map<Student, List<Submission>> submissionsByStudent = new IdentityHashMap<>();
+
+    /**
+     * Creates a {@code GroupedSubmissionList} that groups {@code submissions}
+     */
+    GroupedSubmissionList(ObservableList<Submission> submissions) {
+        this.submissions = requireNonNull(submissions);
+
+        var changedStudents = new ChangedStudents();
+        submissions.forEach(submission -> add(submission, changedStudents));
+        updateRows(changedStudents);
+
+        submissions.addListener((ListChangeListener<Submission>) this::onChanged);
+    }
+
+    /**
+     * Returns the row of each student as an unmodifiable {@code ObservableList}
+     */
+    ObservableList<SubmissionInfo> getRows() {
+        return unmodifiableRows;
+    }
+
+    /**
+     * Students whose submissions changed, in the order they first changed
+     */
+    private static class ChangedStudents {
+        private final List<Student> students = new ArrayList<>();
+        private final Set<Student> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        void add(Student student) {
+            if (seen.add(student)) {
+                students.add(student);
+            }
+        }
+    }
+
+    private void onChanged(ListChangeListener.Change<? extends Submission> change) {
+        var changedStudents = new ChangedStudents();
+
+        while (change.next()) {
+            // The rows do not depend on the order of the list
+            if (change.wasPermutated()) {
+                continue;
+            }
+
+            if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    changedStudents.add(submissions.get(i).student());
+                }
+                continue;
+            }
+
+            // Submissions replaced with themselves, such as when their status is set,
+            // keep their place among the submissions of their student
+            var removed = change.getRemoved();
+            var added = change.getAddedSubList();
+            int replacedCount = change.wasReplaced() ? Math.min(removed.size(), added.size()) : 0;
+            for (int i = 0; i < replacedCount; i++) {
+                replace(removed.get(i), added.get(i), changedStudents);
+            }
+            for (int i = replacedCount; i < removed.size(); i++) {
+                remove(removed.get(i), changedStudents);
+            }
+            for (int i = replacedCount; i < added.size(); i++) {
+                add(added.get(i), changedStudents);
+            }
+        }
+
+        updateRows(changedStudents);
+    }
+
+    private void add(Submission submission, ChangedStudents changedStudents) {
+        submissionsByStudent.computeIfAbsent(submission.student(), student -> new ArrayList<>()).add(submission);
+        changedStudents.add(submission.student());
+    }
+
+    private void remove(Submission submission, ChangedStudents changedStudents) {
+        var studentSubmissions = submissionsByStudent.get(submission.student());
+        if (studentSubmissions == null) {
+            return;
+        }
+
+        int position = positionOf(studentSubmissions, submission);
+        if (position != -1) {
+            studentSubmissions.remove(position);
+        }
+        if (studentSubmissions.isEmpty()) {
+            submissionsByStudent.remove(submission.student());
+        }
+        changedStudents.add(submission.student());
+    }
+
+    private void replace(Submission oldSubmission, Submission newSubmission, ChangedStudents changedStudents) {
+        var studentSubmissions = submissionsByStudent.get(oldSubmission.student());
+        int position = studentSubmissions == null ? -1 : positionOf(studentSubmissions, oldSubmission);
+        if (oldSubmission.student() != newSubmission.student() || position == -1) {
+            remove(oldSubmission, changedStudents);
+            add(newSubmission, changedStudents);
+            return;
+        }
+
+        studentSubmissions.set(position, newSubmission);
+        changedStudents.add(newSubmission.student());
+    }
+
+    private static int positionOf(List<Submission> studentSubmissions, Submission submission) {
+        for (int i = 0; i < studentSubmissions.size(); i++) {
+            if (studentSubmissions.get(i) == submission) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Replaces the rows of {@code changedStudents}, adding rows for students that
+     * did not have one and removing those of students left without submissions
+     */
+    private void updateRows(ChangedStudents changedStudents) {
+        if (changedStudents.students.isEmpty()) {
+            return;
+        }
+
+        Map<Student, Integer> rowPositions = new IdentityHashMap<>();
+        for (int i = 0; i < rows.size(); i++) {
+            rowPositions.put(rows.get(i).student(), i);
+        }
+
+        var rowsToRemove = new TreeSet<Integer>(Collections.reverseOrder());
+        var rowsToAdd = new ArrayList<SubmissionInfo>();
+        for (var student : changedStudents.students) {
+            var position = rowPositions.get(student);
+            var studentSubmissions = submissionsByStudent.get(student);
+            if (studentSubmissions == null) {
+                if (position != null) {
+                    rowsToRemove.add(position);
+                }
+                continue;
+            }
+
+            var row = toRow(student, studentSubmissions);
+            if (position == null) {
+                rowsToAdd.add(row);
+            } else {
+                rows.set(position, row);
+            }
+        }
+
+        // From the last row, so that the positions of the other rows stay valid
+        rowsToRemove.forEach(position -> rows.remove((int) position));
+        rows.addAll(rowsToAdd);
+    }
+
+    private static SubmissionInfo toRow(Student student, List<Submission> studentSubmissions) {
+        Map<Tutorial, List<Submission>> tutorialSubmissions = new LinkedHashMap<>();
+        for (var submission : studentSubmissions) {
+            tutorialSubmissions.computeIfAbsent(submission.assignment().tutorial(), tutorial -> new ArrayList<>())
+                            .add(submission);
+        }
+        return new SubmissionInfo(student, tutorialSubmissions);
+    }
+}
@@ -1,5 +1,8 @@
 package seedu.address.ui.submission;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
@@ -8,6 +11,7 @@ import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
 import seedu.address.model.submission.Submission;
 import seedu.address.model.tutorial.Tutorial;
+import seedu.address.ui.LabelUtil;
 import seedu.address.ui.UiPart;
 
 /**
@@ -15,6 +19,8 @@ import seedu.address.ui.UiPart;
  */
 public class SubmissionCard extends UiPart<Region> {
     private static final String FXML = "SubmissionComponents/SubmissionCard.fxml";
+    private static final String SUBMISSION_STYLE_CLASS = "submission-status";
+    private static final List<String> STATUS_STYLE_CLASSES = List.of("submitted", "graded", "not-submitted");
 
     @FXML
     private HBox cardPane;
@@ -27,40 +33,84 @@ public class SubmissionCard extends UiPart<Region> {
     @FXML
     private VBox submissionTutorialsContainer;
 
+    /**
+     * Creates an empty {@code SubmissionCard}, to be shown with the submissions of
+     * a student through {@link #setSubmissionInfo}
+     */
+    public SubmissionCard() {
+        super(FXML);
+    }
+
     /**
      * Creates a {@code SubmissionCard} with the given
      * {@code SubmissionListPanel.SubmissionInfo} and index to display.
      */
     public SubmissionCard(SubmissionListPanel.SubmissionInfo submissionInfo, int displayedIndex) {
-        super(FXML);
+        this();
+        setSubmissionInfo(submissionInfo, displayedIndex);
+    }
 
+    /**
+     * Shows {@code submissionInfo} with the index {@code displayedIndex} in this
+     * card, reusing the section of each tutorial and the label of each submission
+     * already in the card rather than loading the card again
+     */
+    public void setSubmissionInfo(SubmissionListPanel.SubmissionInfo submissionInfo, int displayedIndex) {
         studentName.setText(submissionInfo.student().getName() + "");
         studentId.setText(submissionInfo.student().getStudentId() + "");
         id.setText(displayedIndex + "");
 
-        for (Tutorial tutorial : submissionInfo.getSortedTutorials()) {
-            Label tutorialLabel = new Label("Tutorial: " + tutorial.name());
-            tutorialLabel.getStyleClass().add("tutorial-header");
+        var tutorials = submissionInfo.getSortedTutorials();
+        var sections = submissionTutorialsContainer.getChildren();
+        if (sections.size() > tutorials.size()) {
+            sections.remove(tutorials.size(), sections.size());
+        }
+
+        var newSections = new ArrayList<VBox>();
+        for (int i = 0; i < tutorials.size(); i++) {
+            VBox tutorialBox;
+            if (i < sections.size()) {
+                tutorialBox = (VBox) sections.get(i);
+            } else {
+                tutorialBox = createTutorialBox();
+                newSections.add(tutorialBox);
+            }
+            showTutorial(tutorialBox, tutorials.get(i), submissionInfo.tutorialSubmissions().get(tutorials.get(i)));
+        }
+        sections.addAll(newSections);
+    }
 
-            FlowPane submissionsPane = new FlowPane();
-            submissionsPane.getStyleClass().add("submissions-container");
+    private static VBox createTutorialBox() {
+        Label tutorialLabel = new Label();
+        tutorialLabel.getStyleClass().add("tutorial-header");
 
-            for (Submission submission : submissionInfo.tutorialSubmissions().get(tutorial)) {
-                Label submissionLabel = new Label(submission.assignment().name());
-                submissionLabel.getStyleClass().add("submission-status");
+        FlowPane submissionsPane = new FlowPane();
+        submissionsPane.getStyleClass().add("submissions-container");
 
-                switch (submission.status()) {
-                case SUBMITTED -> submissionLabel.getStyleClass().add("submitted");
-                case GRADED -> submissionLabel.getStyleClass().add("graded");
-                case NOT_SUBMITTED -> submissionLabel.getStyleClass().add("not-submitted");
-                default -> submissionLabel.getStyleClass().add("not-submitted");
-                }
-                submissionsPane.getChildren().add(submissionLabel);
+        VBox tutorialBox = new VBox(tutorialLabel, submissionsPane);
+        tutorialBox.getStyleClass().add("tutorial-section");
+        return tutorialBox;
+    }
+
+    private static void showTutorial(VBox tutorialBox, Tutorial tutorial, List<Submission> submissions) {
+        ((Label) tutorialBox.getChildren().get(0)).setText("Tutorial: " + tutorial.name());
+
+        var submissionsPane = (FlowPane) tutorialBox.getChildren().get(1);
+        var submissionLabels = LabelUtil.setLabels(submissionsPane,
+                        submissions.stream().map(submission -> submission.assignment().name()).toList());
+        for (int i = 0; i < submissions.size(); i++) {
+            var styleClasses = submissionLabels.get(i).getStyleClass();
+            styleClasses.removeAll(STATUS_STYLE_CLASSES);
+            if (!styleClasses.contains(SUBMISSION_STYLE_CLASS)) {
+                styleClasses.add(SUBMISSION_STYLE_CLASS);
             }
 
-            VBox tutorialBox = new VBox(tutorialLabel, submissionsPane);
-            tutorialBox.getStyleClass().add("tutorial-section");
-            submissionTutorialsContainer.getChildren().add(tutorialBox);
+            switch (submissions.get(i).status()) {
+            case SUBMITTED -> styleClasses.add("submitted");
+            case GRADED -> styleClasses.add("graded");
+            case NOT_SUBMITTED -> styleClasses.add("not-submitted");
+            default -> styleClasses.add("not-submitted");
+            }
         }
     }
 }
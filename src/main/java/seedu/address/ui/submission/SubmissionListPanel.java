@@ -1,15 +1,11 @@
 package seedu.address.ui.submission;
 
-import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
@@ -40,50 +36,25 @@ public class SubmissionListPanel extends UiPart<Region> {
 
     /**
      * Creates an {@code SubmissionListPanel} with the given {@code ObservableList}.
+     * Submissions are grouped by student, then by tutorial, and only the rows of
+     * the students whose submissions change are replaced.
      */
     public SubmissionListPanel(ObservableList<Submission> submissionList) {
         super(FXML);
 
-        ObservableList<SubmissionInfo> submissionInfoList = FXCollections.observableArrayList();
-        updateGroupedList(submissionList, submissionInfoList);
-
-        submissionList.addListener((ListChangeListener<? super Submission>) change -> {
-            updateGroupedList(submissionList, submissionInfoList);
-        });
-
-        submissionListView.setItems(submissionInfoList);
+        var groupedList = new GroupedSubmissionList(submissionList);
+        submissionListView.setItems(groupedList.getRows());
         submissionListView.setCellFactory(listView -> new SubmissionListViewCell());
     }
 
-    /**
-     * Updates the grouped list by organizing submissions hierarchically first by
-     * student, then by tutorial.
-     */
-    private void updateGroupedList(ObservableList<Submission> submissionList,
-                    ObservableList<SubmissionInfo> groupedList) {
-        Map<Student, Map<Tutorial, List<Submission>>> studentMap = new HashMap<>();
-
-        for (Submission submission : submissionList) {
-            Student student = submission.student();
-            Tutorial tutorial = submission.assignment().tutorial();
-
-            studentMap.computeIfAbsent(student, k -> new HashMap<>()).computeIfAbsent(tutorial, k -> new ArrayList<>())
-                            .add(submission);
-        }
-
-        List<SubmissionInfo> newGroupedList = new ArrayList<>();
-        for (Map.Entry<Student, Map<Tutorial, List<Submission>>> entry : studentMap.entrySet()) {
-            newGroupedList.add(new SubmissionInfo(entry.getKey(), entry.getValue()));
-        }
-
-        groupedList.setAll(newGroupedList);
-    }
-
     /**
      * Custom {@code ListCell} that displays the graphics of an
      * {@code SubmissionInfo} using an {@code SubmissionListViewCell}.
      */
     class SubmissionListViewCell extends ListCell<SubmissionInfo> {
+        // Loaded once, and shown with each student the cell is reused for
+        private final SubmissionCard card = new SubmissionCard();
+
         @Override
         protected void updateItem(SubmissionInfo submissionInfo, boolean empty) {
             super.updateItem(submissionInfo, empty);
@@ -92,8 +63,8 @@ public class SubmissionListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                var card = new SubmissionCard(submissionInfo, getIndex() + 1).getRoot();
-                setGraphic(card);
+                card.setSubmissionInfo(submissionInfo, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
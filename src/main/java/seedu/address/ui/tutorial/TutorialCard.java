@@ -5,7 +5,9 @@ import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
+import seedu.address.model.tutorial.Assignment;
 import seedu.address.model.tutorial.Tutorial;
+import seedu.address.ui.LabelUtil;
 import seedu.address.ui.UiPart;
 
 /**
@@ -24,7 +26,7 @@ public class TutorialCard extends UiPart<Region> {
      *      issue on AddressBook level 4</a>
      */
 
-    public final Tutorial tutorial;
+    private Tutorial tutorial;
     @FXML
     private HBox cardPane;
     @FXML
@@ -34,20 +36,37 @@ public class TutorialCard extends UiPart<Region> {
     @FXML
     private FlowPane assignments;
 
+    /**
+     * Creates an empty {@code TutorialCard}, to be shown with a tutorial through
+     * {@link #setTutorial(Tutorial, int)}
+     */
+    public TutorialCard() {
+        super(FXML);
+    }
+
     /**
      * Creates a {@code TutorialCard} with the given {@code Tutorial} and index to
      * display.
      */
     public TutorialCard(Tutorial tutorial, int displayedIndex) {
-        super(FXML);
+        this();
+        setTutorial(tutorial, displayedIndex);
+    }
+
+    public Tutorial getTutorial() {
+        return tutorial;
+    }
+
+    /**
+     * Shows {@code tutorial} with the index {@code displayedIndex} in this card,
+     * reusing its nodes rather than loading the card again
+     */
+    public void setTutorial(Tutorial tutorial, int displayedIndex) {
         this.tutorial = tutorial;
         tutorialId.setText(displayedIndex + "");
         tutorialName.setText(tutorial.name());
 
-        assignments.getChildren().clear();
-
-        tutorial.assignments().stream()
-                        .forEach(assignment -> assignments.getChildren().add(new Label(assignment.toString())));
+        LabelUtil.setLabels(assignments, tutorial.assignments().stream().map(Assignment::toString).toList());
 
         assignments.setManaged(!tutorial.assignments().isEmpty());
         assignments.setVisible(!tutorial.assignments().isEmpty());
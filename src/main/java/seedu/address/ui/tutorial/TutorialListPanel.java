@@ -32,9 +32,12 @@ public class TutorialListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Tutorial}
-     * using a {@code TutorialCard}.
+     * using a {@code TutorialCard} that is reused.
      */
     class TutorialListViewCell extends ListCell<Tutorial> {
+        // Loaded once, and shown with each tutorial the cell is reused for
+        private final TutorialCard card = new TutorialCard();
+
         @Override
         protected void updateItem(Tutorial tutorial, boolean empty) {
             super.updateItem(tutorial, empty);
@@ -43,7 +46,8 @@ public class TutorialListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new TutorialCard(tutorial, getIndex() + 1).getRoot());
+                card.setTutorial(tutorial, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
@@ -0,0 +1,132 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.HANDLE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.ID_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ChangeTracker;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.json.JsonAddressBookStorage;
+import seedu.address.storage.json.JsonUserPrefsStorage;
+
+public class BatchRunnerTest {
+
+    private static final String ADD_AMY = AddCommand.COMMAND_WORD + NAME_DESC_AMY + ID_DESC_AMY + PHONE_DESC_AMY
+                    + EMAIL_DESC_AMY + HANDLE_DESC_AMY;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager();
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+    private Path filePath;
+    private StorageManager storage;
+    private LogicManager logic;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = temporaryFolder.resolve("addressBook.json");
+        storage = new StorageManager(new JsonAddressBookStorage(filePath),
+                        new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(model, storage);
+    }
+
+    private BatchRunner.Summary run(String commands) throws Exception {
+        var runner = new BatchRunner(logic, new PrintStream(out, true), new PrintStream(err, true));
+        return runner.run(new BufferedReader(new StringReader(commands)));
+    }
+
+    @Test
+    public void run_validAndInvalidCommands_failuresReported() throws Exception {
+        var summary = run("""
+                        # students of the first week
+
+                        %s
+                        %s
+                        unknown
+                        """.formatted(ADD_AMY, ListCommand.COMMAND_WORD));
+
+        assertEquals(2, summary.succeeded());
+        assertEquals(1, summary.failed());
+        assertEquals(BatchRunner.MESSAGE_COMMAND_FAILED.formatted(5, "unknown", MESSAGE_UNKNOWN_COMMAND),
+                        err.toString().strip());
+        assertTrue(out.toString().startsWith("Ran 3 commands in "), out.toString());
+        assertEquals(1, model.getAddressBook().getStudentList().size());
+    }
+
+    @Test
+    public void run_exitCommand_laterCommandsNotRun() throws Exception {
+        var summary = run(ExitCommand.COMMAND_WORD + "\n" + ADD_AMY + "\n");
+
+        assertEquals(1, summary.total());
+        assertTrue(model.getAddressBook().getStudentList().isEmpty());
+    }
+
+    @Test
+    public void run_saveDeferred_savedOnceAfterLastCommand() throws Exception {
+        logic.setSaveDeferred(true);
+        logic.execute(ADD_AMY);
+        assertFalse(Files.exists(filePath));
+
+        run(ListCommand.COMMAND_WORD + "\n");
+
+        assertTrue(model.getUnsavedChanges().isEmpty());
+        assertEquals(model.getAddressBook(), new AddressBook(storage.readAddressBook(filePath).get()));
+    }
+
+    @Test
+    public void run_deferredSaveFailed_failureAndSummaryReported() throws Exception {
+        var addressBookStorage = new JsonAddressBookStorage(filePath) {
+            @Override
+            public long saveAddressBook(ReadOnlyAddressBook addressBook, Set<ChangeTracker.Entity> changes)
+                            throws IOException {
+                throw new IOException("disk full");
+            }
+        };
+        logic = new LogicManager(model, new StorageManager(addressBookStorage,
+                        new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+        logic.setSaveDeferred(true);
+
+        var summary = run(ADD_AMY + "\n");
+
+        assertFalse(summary.isSaved());
+        assertEquals(1, summary.succeeded());
+        assertEquals(BatchRunner.MESSAGE_SAVE_FAILED.formatted(model.getAddressBookFilePath(), "disk full"),
+                        err.toString().strip());
+        assertTrue(out.toString().startsWith("Ran 1 commands in "), out.toString());
+    }
+
+    @Test
+    public void isBatch() {
+        assertTrue(BatchRunner.isBatch(new String[] {"--config=config.json", "--batch=commands.txt"}));
+        assertFalse(BatchRunner.isBatch(new String[] {"--config=config.json"}));
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
@@ -13,7 +15,13 @@ import static seedu.address.testutil.TypicalAddressBook.AMY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -24,11 +32,15 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ChangeTracker;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.student.Student;
+import seedu.address.storage.BackgroundSaver;
+import seedu.address.storage.PendingSave;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.json.JsonAddressBookStorage;
 import seedu.address.storage.json.JsonUserPrefsStorage;
@@ -71,6 +83,41 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_readOnlyCommand_addressBookNotSaved() throws Exception {
+        model.markAddressBookSaved();
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertFalse(Files.exists(temporaryFolder.resolve("addressBook.json")));
+    }
+
+    @Test
+    public void execute_commands_phasesAndSavesRecorded() throws Exception {
+        model.markAddressBookSaved();
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(ListCommand.COMMAND_WORD + " ");
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + ID_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                        + HANDLE_DESC_AMY);
+
+        var metrics = model.getCommandMetrics().toJsonMap();
+        var commands = mapOf(metrics, "commands");
+        assertEquals(Set.of("ListCommand", "AddCommand"), commands.keySet());
+
+        // Commands that only read the address book are not saved
+        var listPhases = mapOf(mapOf(commands, "ListCommand"), "latencyNanos");
+        assertEquals(Set.of("parse", "execute", "check", "total"), listPhases.keySet());
+        assertEquals(2L, mapOf(listPhases, "total").get("count"));
+
+        var addPhases = mapOf(mapOf(commands, "AddCommand"), "latencyNanos");
+        assertEquals(Set.of("parse", "execute", "check", "save", "total"), addPhases.keySet());
+        assertEquals(1L, mapOf(addPhases, "save").get("count"));
+        assertEquals(1L, mapOf(metrics, "saveBytes").get("count"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> mapOf(Map<String, Object> map, String key) {
+        return (Map<String, Object>) map.get(key);
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION,
@@ -83,6 +130,76 @@ public class LogicManagerTest {
                         String.format(LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_backgroundSaver_addressBookSavedOnFlush() throws Exception {
+        Path filePath = temporaryFolder.resolve("backgroundAddressBook.json");
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(filePath),
+                        new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        BackgroundSaver saver = new BackgroundSaver();
+        logic = new LogicManager(model, storage, saver);
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + ID_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                        + HANDLE_DESC_AMY);
+        saver.shutdown();
+
+        assertEquals(model.getAddressBook(), new AddressBook(storage.readAddressBook(filePath).get()));
+    }
+
+    @Test
+    public void execute_backgroundSaveFailed_failureReportedAndAddressBookSavedAgain() throws Exception {
+        Path filePath = temporaryFolder.resolve("backgroundAddressBook.json");
+        boolean[] isWriteFailing = {true};
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(filePath) {
+            @Override
+            public PendingSave prepareSave(ReadOnlyAddressBook addressBook, Set<ChangeTracker.Entity> changes) {
+                PendingSave save = super.prepareSave(addressBook, changes);
+                if (!isWriteFailing[0]) {
+                    return save;
+                }
+                return new PendingSave() {
+                    @Override
+                    public long write() throws IOException {
+                        throw DUMMY_IO_EXCEPTION;
+                    }
+
+                    @Override
+                    public boolean isComplete() {
+                        return save.isComplete();
+                    }
+                };
+            }
+        };
+        StorageManager storage = new StorageManager(addressBookStorage,
+                        new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        List<IOException> failures = new ArrayList<>();
+        BackgroundSaver saver = new BackgroundSaver((bytes, nanos) -> {
+        }, failures::add);
+        logic = new LogicManager(model, storage, saver);
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + ID_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                        + HANDLE_DESC_AMY);
+        saver.flush();
+        isWriteFailing[0] = false;
+        assertEquals(List.of(DUMMY_IO_EXCEPTION), failures);
+
+        // A command that only reads the address book still saves it again
+        CommandResult result = logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(ListCommand.MESSAGE_SUCCESS, result.getFeedbackToUser());
+        saver.shutdown();
+
+        assertEquals(model.getAddressBook(), new AddressBook(storage.readAddressBook(filePath).get()));
+    }
+
+    @Test
+    public void setSaveFailure_failureThenSuccess_failureShownThenCleared() {
+        logic.setSaveFailure(Optional.of(DUMMY_IO_EXCEPTION));
+        assertEquals(LogicManager.BACKGROUND_SAVE_FAILED_FORMAT.formatted(DUMMY_IO_EXCEPTION.getMessage()),
+                        logic.getSaveFailure().get());
+
+        logic.setSaveFailure(Optional.empty());
+        assertEquals("", logic.getSaveFailure().get());
+    }
+
     @Test
     public void getFilteredStudentList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, (
@@ -172,6 +289,12 @@ public class LogicManagerTest {
             public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
                 throw e;
             }
+
+            @Override
+            public long saveAddressBook(ReadOnlyAddressBook addressBook, Set<ChangeTracker.Entity> changes)
+                            throws IOException {
+                throw e;
+            }
         };
 
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(
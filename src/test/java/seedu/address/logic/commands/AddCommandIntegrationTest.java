@@ -12,6 +12,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentIdentityIndex;
 import seedu.address.testutil.StudentBuilder;
 
 /**
@@ -41,7 +42,16 @@ public class AddCommandIntegrationTest {
     @Test
     public void execute_duplicateStudent_throwsCommandException() {
         Student studentInList = model.getAddressBook().getStudentList().get(0);
-        assertCommandFailure(new AddCommand(studentInList), model, AddCommand.MESSAGE_DUPLICATE_STUDENT);
+        assertCommandFailure(new AddCommand(studentInList), model, AddCommand.MESSAGE_DUPLICATE_STUDENT_CONFLICT
+                        .formatted(new StudentIdentityIndex.Conflict(studentInList, StudentIdentityIndex.Field.NAME)));
+    }
+
+    @Test
+    public void execute_sameEmailAsExistingStudent_throwsCommandException() {
+        Student studentInList = model.getAddressBook().getStudentList().get(0);
+        Student sameEmail = new StudentBuilder().withEmail(studentInList.getEmail().toString()).build();
+        assertCommandFailure(new AddCommand(sameEmail), model, AddCommand.MESSAGE_DUPLICATE_STUDENT_CONFLICT
+                        .formatted(new StudentIdentityIndex.Conflict(studentInList, StudentIdentityIndex.Field.EMAIL)));
     }
 
 }
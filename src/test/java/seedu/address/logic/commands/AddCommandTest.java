@@ -8,9 +8,14 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalAddressBook.ALICE;
 
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -20,13 +25,16 @@ import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.metrics.CommandMetrics;
 import seedu.address.model.AddressBook;
+import seedu.address.model.ChangeTracker;
 import seedu.address.model.Model;
 import seedu.address.model.NavigationMode;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.attendance.Attendance;
 import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentIdentityIndex;
 import seedu.address.model.submission.Submission;
 import seedu.address.model.submission.SubmissionStatus;
 import seedu.address.model.tutorial.Assignment;
@@ -60,10 +68,22 @@ public class AddCommandTest {
     public void execute_duplicateStudent_throwsCommandException() {
         Student validStudent = new StudentBuilder().build();
         AddCommand addCommand = new AddCommand(validStudent);
-        ModelStub modelStub = new ModelStubWithStudent(validStudent);
+        ModelStub modelStub = new ModelStubWithStudent(validStudent, StudentIdentityIndex.Field.NAME);
 
-        assertThrows(CommandException.class, AddCommand.MESSAGE_DUPLICATE_STUDENT, (
-        ) -> addCommand.execute(modelStub));
+        assertThrows(CommandException.class, AddCommand.MESSAGE_DUPLICATE_STUDENT_CONFLICT.formatted(
+                        new StudentIdentityIndex.Conflict(validStudent, StudentIdentityIndex.Field.NAME)), (
+                        ) -> addCommand.execute(modelStub));
+    }
+
+    @Test
+    public void execute_conflictingEmail_throwsCommandExceptionNamingField() {
+        Student validStudent = new StudentBuilder().build();
+        AddCommand addCommand = new AddCommand(new StudentBuilder(validStudent).withName("Someone Else").build());
+        ModelStub modelStub = new ModelStubWithStudent(validStudent, StudentIdentityIndex.Field.EMAIL);
+
+        assertThrows(CommandException.class, AddCommand.MESSAGE_DUPLICATE_STUDENT_CONFLICT.formatted(
+                        new StudentIdentityIndex.Conflict(validStudent, StudentIdentityIndex.Field.EMAIL)), (
+                        ) -> addCommand.execute(modelStub));
     }
 
     @Test
@@ -146,6 +166,16 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addStudents(Collection<Student> students) throws DuplicateItemException, ItemNotFoundException {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<StudentIdentityIndex.Conflict> findStudentConflict(Student student) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setAddressBook(ReadOnlyAddressBook newData) {
             throw new AssertionError("This method should not be called.");
@@ -213,6 +243,17 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Map<String, String> setSubmissionStatuses(String tutorialName, String assignmentName,
+                        Collection<String> studentNames, SubmissionStatus status) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int setSubmissionStatuses(String tutorialName, String assignmentName, SubmissionStatus status) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void addAssignment(Assignment assignment) throws ItemNotFoundException, DuplicateItemException {
             throw new AssertionError("This method should not be called.");
@@ -233,6 +274,17 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void setAttendances(Collection<Attendance> attendances, int fromWeek, int toWeek, boolean isPresent)
+                        throws ItemNotFoundException {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Attendance> getAttendancesInTutorial(Tutorial tutorial) throws ItemNotFoundException {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasAttendance(Attendance attendance) {
             throw new AssertionError("This method should not be called.");
@@ -292,6 +344,21 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Set<Student> findStudentsByName(Collection<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Student> searchStudents(Collection<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredStudentListByRank(List<Student> rankedStudents) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredTutorialWithStudentsList(Predicate<Tutorial> predicate) {
             throw new AssertionError("This method should not be called.");
@@ -302,6 +369,31 @@ public class AddCommandTest {
             return true;
         }
 
+        @Override
+        public Duration verify() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public CommandMetrics getCommandMetrics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<ChangeTracker.Entity> getUnsavedChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void markAddressBookSaved() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void markAddressBookUnsaved() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void addStudentToTutorial(Tutorial tutorial, Student student) {
             throw new AssertionError("This method should not be called.");
@@ -324,16 +416,21 @@ public class AddCommandTest {
      */
     private class ModelStubWithStudent extends ModelStub {
         private final Student student;
+        private final StudentIdentityIndex.Field conflictField;
 
-        ModelStubWithStudent(Student student) {
+        ModelStubWithStudent(Student student, StudentIdentityIndex.Field conflictField) {
             requireNonNull(student);
+            requireNonNull(conflictField);
             this.student = student;
+            this.conflictField = conflictField;
         }
 
         @Override
-        public boolean hasStudent(Student student) {
+        public Optional<StudentIdentityIndex.Conflict> findStudentConflict(Student student) {
             requireNonNull(student);
-            return this.student.isSameStudent(student);
+            return this.student.isSameStudent(student)
+                            ? Optional.of(new StudentIdentityIndex.Conflict(this.student, conflictField))
+                            : Optional.empty();
         }
     }
 
@@ -344,9 +441,10 @@ public class AddCommandTest {
         final ArrayList<Student> studentsAdded = new ArrayList<>();
 
         @Override
-        public boolean hasStudent(Student student) {
+        public Optional<StudentIdentityIndex.Conflict> findStudentConflict(Student student) {
             requireNonNull(student);
-            return studentsAdded.stream().anyMatch(student::isSameStudent);
+            return studentsAdded.stream().filter(student::isSameStudent).findFirst()
+                            .map(s -> new StudentIdentityIndex.Conflict(s, StudentIdentityIndex.Field.NAME));
         }
 
         @Override
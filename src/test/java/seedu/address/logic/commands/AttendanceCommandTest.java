@@ -3,7 +3,9 @@ package seedu.address.logic.commands;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TestUtil.getWeeks;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -18,6 +20,7 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.NavigationMode;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.attendance.Attendance;
+import seedu.address.model.tutorial.Tutorial;
 import seedu.address.testutil.TypicalAddressBook;
 
 public class AttendanceCommandTest {
@@ -51,7 +54,7 @@ public class AttendanceCommandTest {
             assertEquals(UnmarkAttendanceCommand.MESSAGE_SUCCESS, commandResult.getFeedbackToUser());
         }
         Attendance attendance = modelStub.getAddressBook().getAttendanceList().get(0);
-        assertArrayEquals(testAttendances.toArray(), attendance.attendances().toArray());
+        assertArrayEquals(testAttendances.toArray(), getWeeks(attendance).toArray());
     }
 
     @Test
@@ -70,7 +73,7 @@ public class AttendanceCommandTest {
         assertEquals(MarkAttendanceCommand.MESSAGE_SUCCESS, commandResult.getFeedbackToUser());
 
         Attendance attendance = modelStub.getAddressBook().getAttendanceList().get(0);
-        assertArrayEquals(expectedAttendances.toArray(), attendance.attendances().toArray());
+        assertArrayEquals(expectedAttendances.toArray(), getWeeks(attendance).toArray());
     }
 
     @Test
@@ -98,7 +101,7 @@ public class AttendanceCommandTest {
         assertEquals(UnmarkAttendanceCommand.MESSAGE_SUCCESS, commandResult.getFeedbackToUser());
 
         Attendance attendance = modelStub.getAddressBook().getAttendanceList().get(0);
-        assertArrayEquals(expectedAttendances.toArray(), attendance.attendances().toArray());
+        assertArrayEquals(expectedAttendances.toArray(), getWeeks(attendance).toArray());
     }
 
     private void execute_setAttendance_successfulMultiple(boolean isMark) throws Exception {
@@ -123,8 +126,8 @@ public class AttendanceCommandTest {
         Attendance attendanceOne = modelStub.getAddressBook().getAttendanceList().get(0);
         Attendance attendanceTwo = modelStub.getAddressBook().getAttendanceList().get(1);
 
-        assertArrayEquals(firstTestAttendances.toArray(), attendanceOne.attendances().toArray());
-        assertArrayEquals(secondTestAttendances.toArray(), attendanceTwo.attendances().toArray());
+        assertArrayEquals(firstTestAttendances.toArray(), getWeeks(attendanceOne).toArray());
+        assertArrayEquals(secondTestAttendances.toArray(), getWeeks(attendanceTwo).toArray());
     }
 
     @Test
@@ -137,6 +140,35 @@ public class AttendanceCommandTest {
         execute_setAttendance_successfulMultiple(false);
     }
 
+    @Test
+    public void execute_markAttendanceTutorialAndWeeks_allMarked() throws Exception {
+        var tutorial = new Tutorial("CS2106-T37");
+        var command = new MarkAttendanceCommand(4, 6, List.of(), List.of(tutorial));
+        assertEquals(MarkAttendanceCommand.MESSAGE_SUCCESS, command.execute(modelStub).getFeedbackToUser());
+
+        var attendances = modelStub.getAttendancesInTutorial(tutorial);
+        assertEquals(2, attendances.size());
+        for (Attendance attendance : attendances) {
+            assertEquals(List.of(0, 1, 1, 1, 0, 0, 0, 0, 0, 0, 0), getWeeks(attendance));
+        }
+
+        command = new UnmarkAttendanceCommand(5, 13, List.of(), List.of(tutorial));
+        assertEquals(UnmarkAttendanceCommand.MESSAGE_SUCCESS, command.execute(modelStub).getFeedbackToUser());
+        for (Attendance attendance : attendances) {
+            assertEquals(List.of(0, 1, 0, 0, 0, 0, 0, 0, 0, 0, 0), getWeeks(attendance));
+        }
+    }
+
+    @Test
+    public void execute_markAttendanceUnknownTutorial_warning() throws Exception {
+        var command = new MarkAttendanceCommand(TEST_WEEK, TEST_WEEK, List.of(TEST_INDEX_ONE),
+                        List.of(new Tutorial("Unknown")));
+        assertEquals("Warning: %s: Unknown\n".formatted(MarkAttendanceCommand.MESSAGE_TUTORIAL_NOT_FOUND),
+                        command.execute(modelStub).getFeedbackToUser());
+
+        assertTrue(modelStub.getAddressBook().getAttendanceList().get(0).isPresent(TEST_WEEK));
+    }
+
     private void execute_setAttendance_invalidWeek(int week, boolean isMark) throws Exception {
         List<Index> indices = List.of(TEST_INDEX_ONE);
         if (isMark) {
@@ -191,7 +223,7 @@ public class AttendanceCommandTest {
 
         Attendance attendanceOne = modelStub.getAddressBook().getAttendanceList().get(0);
 
-        assertArrayEquals(testAttendances.toArray(), attendanceOne.attendances().toArray());
+        assertArrayEquals(testAttendances.toArray(), getWeeks(attendanceOne).toArray());
     }
 
     @Test
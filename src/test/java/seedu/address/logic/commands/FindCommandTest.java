@@ -9,6 +9,7 @@ import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -113,6 +114,32 @@ public class FindCommandTest {
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_searchKeywords_studentsRankedByMatch() {
+        String expectedMessage = String.format(MESSAGE_STUDENTS_LISTED_OVERVIEW, 4);
+        // "meier" is Benson's and Daniel's surname and a typo of Elle's, "dani" starts
+        // Daniel's name and "kunx" is a typo of Fiona's surname
+        List<String> keywords = List.of("kunx", "meier", "dani");
+        FindCommand command = new FindCommand(null, null, keywords);
+        expectedModel.updateFilteredStudentListByRank(expectedModel.searchStudents(keywords));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(List.of("Daniel Meier", "Benson Meier", "Elle Meyer", "Fiona Kunz"),
+                        model.getFilteredStudentList().stream().map(s -> s.getName().fullName).toList());
+    }
+
+    @Test
+    public void execute_searchKeywordsInTutorial_onlyStudentsInTutorialFound() {
+        String expectedMessage = String.format(MESSAGE_STUDENTS_LISTED_OVERVIEW, 1);
+        StudentContainsTutorialKeywordsPredicate tutorialPredicate = prepareTutorialPredicate("CS2106-T02");
+        List<String> keywords = List.of("meier");
+        FindCommand command = new FindCommand(null, tutorialPredicate, keywords);
+        expectedModel.updateFilteredStudentListByRank(expectedModel.searchStudents(keywords).stream()
+                        .filter(student -> student.getTutorials().stream().anyMatch(tutorialPredicate)).toList());
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(List.of("Benson Meier"),
+                        model.getFilteredStudentList().stream().map(s -> s.getName().fullName).toList());
+    }
+
     @Test
     public void toStringMethod() {
         NameContainsKeywordsPredicate namePredicate = new NameContainsKeywordsPredicate(Arrays.asList("keyword"));
@@ -120,7 +147,7 @@ public class FindCommandTest {
                         Arrays.asList("tutorial1"));
         FindCommand findCommand = new FindCommand(namePredicate, tutorialPredicate);
         String expected = FindCommand.class.getCanonicalName() + "{namePredicate=" + namePredicate
-                        + ", tutorialPredicate=" + tutorialPredicate + "}";
+                        + ", tutorialPredicate=" + tutorialPredicate + ", searchKeywords=null}";
         assertEquals(expected, findCommand.toString());
     }
 
@@ -0,0 +1,98 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAddressBook.ALICE;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.student.Name;
+import seedu.address.model.student.StudentID;
+import seedu.address.model.tutorial.Tutorial;
+
+public class ImportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    private Path writeCsv(String content) throws IOException {
+        var csvFile = testFolder.resolve("students.csv");
+        Files.writeString(csvFile, content);
+        return csvFile;
+    }
+
+    @Test
+    public void execute_validAndInvalidRows_validRowsImported() throws Exception {
+        var csvFile = writeCsv("""
+                        name,id,phone,email,handle,tutorials
+                        John Doe,A0123456Z,81110002,john@example.com,@john_doe,CS2103-T1;CS9999-T01
+                        Jane Doe,not an id,81110003,jane@example.com,@jane_doe,
+                        Alice Twin,A0123457Z,81110004,%s,@alice_twin,
+                        John Twin,A0123458Z,81110002,twin@example.com,@john_twin,
+                        Mary Lee,A0123459Z,81110005,mary@example.com,@mary_lee,
+                        """.formatted(ALICE.getEmail().value));
+        int studentCount = model.getAddressBook().getStudentList().size();
+
+        var result = new ImportCommand(csvFile).execute(model);
+
+        assertEquals(String.join("\n", ImportCommand.MESSAGE_SUCCESS.formatted(2, 5, csvFile),
+                        ImportCommand.MESSAGE_TUTORIALS_CREATED.formatted("CS9999-T01"),
+                        ImportCommand.MESSAGE_ROW_ERROR.formatted(3, StudentID.MESSAGE_CONSTRAINTS),
+                        ImportCommand.MESSAGE_ROW_ERROR.formatted(4,
+                                        "'%s' has the same email".formatted(ALICE.getName())),
+                        ImportCommand.MESSAGE_ROW_ERROR.formatted(5,
+                                        ImportCommand.MESSAGE_DUPLICATE_ROW.formatted("John Doe", 2, "phone number"))),
+                        result.getFeedbackToUser());
+
+        assertEquals(studentCount + 2, model.getAddressBook().getStudentList().size());
+        assertTrue(model.hasTutorial(new Tutorial("CS9999-T01")));
+
+        var john = model.getAddressBook().getStudentList().stream()
+                        .filter(s -> s.getName().equals(new Name("John Doe"))).findFirst().orElseThrow();
+        assertEquals(2, john.getTutorials().size());
+        assertEquals(2, john.getAttendances().size());
+        assertTrue(model.getStudentsInTutorial(new Tutorial("CS2103-T1")).contains(john));
+        assertTrue(model.check());
+    }
+
+    @Test
+    public void execute_fileNotFound_throwsCommandException() {
+        var command = new ImportCommand(testFolder.resolve("missing.csv"));
+        assertThrows(CommandException.class, (
+        ) -> command.execute(model));
+    }
+
+    @Test
+    public void execute_missingColumns_throwsCommandException() throws Exception {
+        var csvFile = writeCsv("name,phone\nJohn Doe,81110002\n");
+        int studentCount = model.getAddressBook().getStudentList().size();
+
+        assertThrows(CommandException.class, (
+        ) -> new ImportCommand(csvFile).execute(model));
+        assertEquals(studentCount, model.getAddressBook().getStudentList().size());
+    }
+
+    @Test
+    public void equals() {
+        var importCommand = new ImportCommand(Path.of("a.csv"));
+
+        assertTrue(importCommand.equals(importCommand));
+        assertTrue(importCommand.equals(new ImportCommand(Path.of("a.csv"))));
+        assertFalse(importCommand.equals(new ImportCommand(Path.of("b.csv"))));
+        assertFalse(importCommand.equals(null));
+    }
+}
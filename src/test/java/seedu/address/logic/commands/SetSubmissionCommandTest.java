@@ -2,7 +2,10 @@ package seedu.address.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.TypicalAddressBook.ALICE;
+import static seedu.address.testutil.TypicalAddressBook.BENSON;
 import static seedu.address.testutil.TypicalAddressBook.T1;
 import static seedu.address.testutil.TypicalAddressBook.T1_ASSIGN1;
 
@@ -11,6 +14,8 @@ import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
@@ -36,4 +41,31 @@ public class SetSubmissionCommandTest {
         assertEquals(result.getFeedbackToUser(),
                         "Successfully set submission status for '%s'".formatted(ALICE.getName()));
     }
+
+    @Test
+    public void execute_allStudents_everyStudentInTutorialSet() {
+        var cmd = new SetSubmissionCommand(T1.name(), T1_ASSIGN1.name(), List.of(SetSubmissionCommand.ALL_STUDENTS),
+                        SubmissionStatus.GRADED);
+        var result = assertDoesNotThrow((
+        ) -> cmd.execute(modelStub));
+
+        assertEquals(SetSubmissionCommand.MESSAGE_SUCCESS_ALL.formatted(2, T1.name()), result.getFeedbackToUser());
+        assertTrue(modelStub.getFilteredSubmissionList().stream()
+                        .filter(s -> s.assignment().hasSameIdentity(T1_ASSIGN1))
+                        .allMatch(s -> s.status() == SubmissionStatus.GRADED));
+    }
+
+    @Test
+    public void execute_someStudentsNotFound_othersSet() {
+        var cmd = new SetSubmissionCommand(T1.name(), T1_ASSIGN1.name(),
+                        List.of(BENSON.getName().toString(), "No Such Student"), SubmissionStatus.GRADED);
+
+        var exception = assertThrows(CommandException.class, (
+        ) -> cmd.execute(modelStub));
+        assertEquals("Successfully set submission status for '%s'\n%s".formatted(BENSON.getName(),
+                        Messages.MESSAGE_STUDENT_NOT_FOUND.formatted("No Such Student")), exception.getMessage());
+        assertTrue(modelStub.getFilteredSubmissionList().stream()
+                        .anyMatch(s -> s.assignment().hasSameIdentity(T1_ASSIGN1) && s.student().isSameStudent(BENSON)
+                                        && s.status() == SubmissionStatus.GRADED));
+    }
 }
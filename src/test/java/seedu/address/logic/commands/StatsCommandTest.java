@@ -0,0 +1,77 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.logic.metrics.CommandMetrics.Phase;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class StatsCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager();
+
+    @Test
+    public void execute_noCommands_noCommandsReported() throws Exception {
+        assertEquals(CommandMetrics.MESSAGE_NO_COMMANDS, new StatsCommand().execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_commandsRecorded_commandWordsReported() throws Exception {
+        var metrics = model.getCommandMetrics();
+        for (int i = 0; i < 3; i++) {
+            var sample = metrics.start();
+            sample.lap(Phase.PARSE);
+            sample.lap(Phase.EXECUTE);
+            metrics.record("add", sample);
+        }
+        metrics.recordSave(2048);
+        metrics.recordWrite(1024, 3_000_000);
+
+        var lines = new StatsCommand().execute(model).getFeedbackToUser().lines().toList();
+
+        assertEquals(CommandMetrics.MESSAGE_HEADER.formatted(3), lines.get(0));
+        assertTrue(lines.get(1).startsWith("add (3): parse "), lines.get(1));
+        assertFalse(lines.get(1).contains(Phase.SAVE.toString()));
+        assertTrue(lines.get(2).startsWith("Bytes written per save (2 saves)"), lines.get(2));
+        assertTrue(lines.get(2).contains("max 2.0 KB"), lines.get(2));
+        assertEquals(CommandMetrics.MESSAGE_WRITES.formatted(1, "3.00", "3.00", "3.00"), lines.get(3));
+    }
+
+    @Test
+    public void execute_withFile_metricsWrittenAsJson() throws Exception {
+        model.setAddressBookFilePath(testFolder.resolve("addressbook.json"));
+        var sample = model.getCommandMetrics().start();
+        model.getCommandMetrics().record("list", sample);
+
+        var result = new StatsCommand(Optional.of(Path.of("metrics.json"))).execute(model);
+
+        assertTrue(result.getFeedbackToUser().endsWith(StatsCommand.MESSAGE_EXPORTED.formatted("metrics.json")));
+        var json = Files.readString(testFolder.resolve("metrics.json"));
+        assertTrue(json.contains("\"list\""), json);
+        assertTrue(json.contains("\"latencyNanos\""), json);
+        assertTrue(json.contains("\"saveBytes\""), json);
+    }
+
+    @Test
+    public void equals() {
+        var statsCommand = new StatsCommand();
+
+        assertTrue(statsCommand.equals(statsCommand));
+        assertTrue(statsCommand.equals(new StatsCommand(Optional.empty())));
+        assertFalse(statsCommand.equals(new StatsCommand(Optional.of(Path.of("metrics.json")))));
+        assertFalse(statsCommand.equals(null));
+    }
+}
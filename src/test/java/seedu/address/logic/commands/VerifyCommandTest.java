@@ -0,0 +1,33 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class VerifyCommandTest {
+
+    @Test
+    public void execute_consistentAddressBook_success() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+        var result = new VerifyCommand().execute(model);
+        assertTrue(result.getFeedbackToUser().startsWith("Address book is consistent"));
+    }
+
+    @Test
+    public void execute_inconsistentAddressBook_throwsCommandException() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        // An attendance that the address book does not hold
+        model.getAddressBook().getStudentList().get(0).getAttendances().clear();
+
+        assertThrows(CommandException.class, (
+        ) -> new VerifyCommand().execute(model));
+    }
+}
@@ -0,0 +1,93 @@
+package seedu.address.logic.commands.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalAddressBook.ALICE;
+import static seedu.address.testutil.TypicalAddressBook.BENSON;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class ExportAllCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @BeforeEach
+    public void setUp() {
+        model.setAddressBookFilePath(testFolder.resolve("addressbook.json"));
+    }
+
+    /**
+     * Returns the line of a CSV file holding {@code values}, each quoted
+     */
+    private static String row(Object... values) {
+        return Arrays.stream(values).map(value -> "\"" + value + "\"").collect(Collectors.joining(","));
+    }
+
+    @Test
+    public void execute_everyTutorial_allFilesWritten() throws Exception {
+        int fileCount = model.getAddressBook().getTutorialList().size() * 3;
+
+        var result = new ExportAllCommand(Path.of("out")).execute(model);
+
+        assertEquals(ExportAllCommand.MESSAGE_SUCCESS.formatted(fileCount, fileCount, Path.of("out")),
+                        result.getFeedbackToUser().lines().findFirst().orElseThrow());
+
+        var out = testFolder.resolve("out");
+        var roster = Files.readAllLines(out.resolve("students-CS2103-T1.csv"));
+        assertEquals(3, roster.size());
+
+        var attendance = Files.readAllLines(out.resolve("attendance-CS2103-T1.csv"));
+        assertEquals(row("NAME", "ID", "W3", "W4", "W5", "W6", "W7", "W8", "W9", "W10", "W11", "W12", "W13",
+                        "PRESENT"), attendance.get(0));
+        assertTrue(attendance.contains(row(ALICE.getName(), ALICE.getStudentId(), 0, 1, 0, 0, 0, 0, 0, 0, 0, 0, 0,
+                        1)));
+
+        var submissions = Files.readAllLines(out.resolve("submissions-CS2103-T1.csv"));
+        assertEquals(row("NAME", "ID", "Week 10 Tasks"), submissions.get(0));
+        assertTrue(submissions.contains(row(ALICE.getName(), ALICE.getStudentId(), "submitted")));
+        assertTrue(submissions.contains(row(BENSON.getName(), BENSON.getStudentId(), "not-submitted")));
+    }
+
+    @Test
+    public void execute_oneFileCannotBeWritten_otherFilesWritten() throws Exception {
+        int fileCount = model.getAddressBook().getTutorialList().size() * 3;
+        var out = testFolder.resolve("out");
+        Files.createDirectories(out.resolve("attendance-CS2103-T1.csv"));
+
+        var result = new ExportAllCommand(Path.of("out")).execute(model);
+
+        var lines = result.getFeedbackToUser().lines().toList();
+        assertEquals(ExportAllCommand.MESSAGE_SUCCESS.formatted(fileCount - 1, fileCount, Path.of("out")),
+                        lines.get(0));
+        assertTrue(lines.get(lines.size() - 1).startsWith(
+                        ExportAllCommand.MESSAGE_FILE_FAILED.formatted("attendance-CS2103-T1.csv", "")));
+        assertTrue(Files.isRegularFile(out.resolve("students-CS2103-T1.csv")));
+        assertTrue(Files.isRegularFile(out.resolve("submissions-CS2103-T1.csv")));
+    }
+
+    @Test
+    public void equals() {
+        var exportAllCommand = new ExportAllCommand();
+
+        assertTrue(exportAllCommand.equals(exportAllCommand));
+        assertTrue(exportAllCommand.equals(new ExportAllCommand(ExportAllCommand.DEFAULT_FOLDER)));
+        assertFalse(exportAllCommand.equals(new ExportAllCommand(Path.of("other"))));
+        assertFalse(exportAllCommand.equals(null));
+    }
+}
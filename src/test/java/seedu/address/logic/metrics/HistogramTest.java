@@ -0,0 +1,55 @@
+package seedu.address.logic.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class HistogramTest {
+
+    private final Histogram histogram = new Histogram();
+
+    @Test
+    public void getPercentile_noValues_returnsZero() {
+        assertEquals(0, histogram.getPercentile(50));
+        assertEquals(0, histogram.getMean());
+    }
+
+    @Test
+    public void getPercentile_smallValues_exact() {
+        for (int i = 1; i <= 50; i++) {
+            histogram.record(i);
+        }
+
+        assertEquals(25, histogram.getPercentile(50));
+        assertEquals(50, histogram.getPercentile(99));
+        assertEquals(50, histogram.getCount());
+        assertEquals(25.5, histogram.getMean());
+    }
+
+    @Test
+    public void getPercentile_largeValues_withinPrecision() {
+        for (long i = 1; i <= 1000; i++) {
+            histogram.record(i * 1_000_000);
+        }
+
+        long median = histogram.getPercentile(50);
+        assertTrue(median >= 500_000_000 && median <= 500_000_000 * 1.04, "median was " + median);
+        assertEquals(1_000_000_000, histogram.getPercentile(100));
+        assertEquals(1_000_000_000, histogram.getMax());
+    }
+
+    @Test
+    public void record_valueAboveMax_countedAsMax() {
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(Histogram.MAX_VALUE, histogram.getMax());
+        assertEquals(Histogram.MAX_VALUE, histogram.getPercentile(50));
+    }
+
+    @Test
+    public void record_negativeValue_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, (
+        ) -> histogram.record(-1));
+    }
+}
@@ -7,8 +7,10 @@ import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_STUDENT;
 
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
@@ -23,9 +25,12 @@ import seedu.address.logic.commands.EditCommand.EditStudentDescriptor;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.ListTutorialCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.TutorialCommand;
+import seedu.address.logic.commands.VerifyCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.student.NameContainsKeywordsPredicate;
 import seedu.address.model.student.Student;
@@ -51,6 +56,24 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ClearCommand.COMMAND_WORD + " 3") instanceof ClearCommand);
     }
 
+    @Test
+    public void parseCommand_import() throws Exception {
+        ImportCommand command = (ImportCommand) parser.parseCommand(ImportCommand.COMMAND_WORD + " f/cohort.csv");
+        assertEquals(new ImportCommand(Path.of("cohort.csv")), command);
+    }
+
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertEquals(new StatsCommand(), parser.parseCommand(StatsCommand.COMMAND_WORD));
+        assertEquals(new StatsCommand(Optional.of(Path.of("metrics.json"))),
+                        parser.parseCommand(StatsCommand.COMMAND_WORD + " f/metrics.json"));
+    }
+
+    @Test
+    public void parseCommand_verify() throws Exception {
+        assertTrue(parser.parseCommand(VerifyCommand.COMMAND_WORD) instanceof VerifyCommand);
+    }
+
     @Test
     public void parseCommand_delete() throws Exception {
         DeleteCommand command = (DeleteCommand) parser
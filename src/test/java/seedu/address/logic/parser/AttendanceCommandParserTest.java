@@ -15,6 +15,7 @@ import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.ListAttendanceCommand;
 import seedu.address.logic.commands.MarkAttendanceCommand;
 import seedu.address.logic.commands.UnmarkAttendanceCommand;
+import seedu.address.model.tutorial.Tutorial;
 
 public class AttendanceCommandParserTest {
     private static final int DUMMY_INDEX_ONE = 1;
@@ -44,6 +45,20 @@ public class AttendanceCommandParserTest {
                         new UnmarkAttendanceCommand(START_WEEK, List.of(Index.fromOneBased(DUMMY_INDEX_ONE))));
     }
 
+    @Test
+    public void parseCommand_rangesAndTutorials_success() {
+        List<Index> indices = List.of(Index.fromOneBased(1), Index.fromOneBased(2), Index.fromOneBased(4),
+                        Index.fromOneBased(6));
+        assertParseSuccess(attendanceParser, "mark w/3-5 i/1-2,4 i/6 t/CS2103-T1", new MarkAttendanceCommand(3, 5,
+                        indices, List.of(new Tutorial("CS2103-T1"))));
+        assertParseSuccess(attendanceParser, "unmark w/4 t/CS2103-T1",
+                        new UnmarkAttendanceCommand(4, 4, List.of(), List.of(new Tutorial("CS2103-T1"))));
+
+        assertParseFailure(markAttendanceParser, "w/5-3 i/1", ParserUtil.MESSAGE_INVALID_RANGE.formatted("5-3"));
+        assertParseFailure(markAttendanceParser, "w/3 i/4-2", ParserUtil.MESSAGE_INVALID_RANGE.formatted("4-2"));
+        assertParseFailure(markAttendanceParser, "w/3-14 i/1", MESSAGE_INVALID_WEEK);
+    }
+
     private void parseCommand_attendanceCommand_success(Parser<? extends Command> parser, boolean isSingleIndex) {
         var cmd = "w/%d i/%d".formatted(START_WEEK, DUMMY_INDEX_ONE);
         List<Index> indices;
@@ -5,6 +5,7 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailur
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -38,4 +39,13 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, "Alice Bob t/t1 t/t2", expectedMixedFindCommand);
     }
 
+    @Test
+    public void parse_searchKeywords_returnsSearchingFindCommand() {
+        FindCommand expectedFindCommand = new FindCommand(null,
+                        new StudentContainsTutorialKeywordsPredicate(List.of("t1")), List.of("ali", "a07", "bob"));
+        assertParseSuccess(parser, "bob q/ali  a07 t/t1", expectedFindCommand);
+
+        assertParseFailure(parser, " q/ ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
 }
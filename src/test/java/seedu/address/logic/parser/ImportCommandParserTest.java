@@ -0,0 +1,34 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ImportCommand;
+
+public class ImportCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT = String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    ImportCommand.MESSAGE_USAGE);
+
+    private final ImportCommandParser parser = new ImportCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsImportCommand() {
+        assertParseSuccess(parser, " f/cohort.csv", new ImportCommand(Path.of("cohort.csv")));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        // no file
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " f/", MESSAGE_INVALID_FORMAT);
+
+        // file without prefix
+        assertParseFailure(parser, " cohort.csv", MESSAGE_INVALID_FORMAT);
+    }
+}
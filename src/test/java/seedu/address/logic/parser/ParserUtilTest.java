@@ -2,17 +2,21 @@ package seedu.address.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.parser.ParserUtil.MAX_INDICES;
 import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_TOO_MANY_INDICES;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_STUDENT;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.index.Index;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.student.Email;
 import seedu.address.model.student.Name;
@@ -57,6 +61,23 @@ public class ParserUtilTest {
         assertEquals(INDEX_FIRST_STUDENT, ParserUtil.parseIndex("  1  "));
     }
 
+    @Test
+    public void parseIndices_indicesAndRanges_returnsEveryIndex() throws Exception {
+        assertEquals(List.of(Index.fromOneBased(1), Index.fromOneBased(3), Index.fromOneBased(4),
+                        Index.fromOneBased(5)), ParserUtil.parseIndices(" 1,3-5 "));
+    }
+
+    @Test
+    public void parseIndices_tooManyIndices_throwsParseException() {
+        String message = MESSAGE_TOO_MANY_INDICES.formatted(MAX_INDICES);
+        assertThrows(ParseException.class, message, (
+        ) -> ParserUtil.parseIndices("1-" + (MAX_INDICES + 1)));
+
+        // range as wide as the largest index after an earlier index
+        assertThrows(ParseException.class, message, (
+        ) -> ParserUtil.parseIndices("1,1-" + Integer.MAX_VALUE));
+    }
+
     @Test
     public void parseName_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, (
@@ -7,21 +7,33 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_HANDLE_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TUTORIAL_2;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalAddressBook.ALICE;
+import static seedu.address.testutil.TypicalAddressBook.AMY;
+import static seedu.address.testutil.TypicalAddressBook.BOB;
+import static seedu.address.testutil.TypicalAddressBook.CARL;
+import static seedu.address.testutil.TypicalAddressBook.T1;
+import static seedu.address.testutil.TypicalAddressBook.T1_ASSIGN1;
+import static seedu.address.testutil.TypicalAddressBook.T3;
 import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.model.attendance.Attendance;
 import seedu.address.model.student.Student;
 import seedu.address.model.submission.Submission;
+import seedu.address.model.submission.SubmissionStatus;
+import seedu.address.model.tutorial.Assignment;
 import seedu.address.model.tutorial.Tutorial;
+import seedu.address.model.uniquelist.exceptions.DuplicateItemException;
+import seedu.address.model.uniquelist.exceptions.ItemNotFoundException;
 import seedu.address.testutil.StudentBuilder;
 
 public class AddressBookTest {
@@ -83,6 +95,204 @@ public class AddressBookTest {
         assertTrue(addressBook.hasStudent(editedAlice));
     }
 
+    @Test
+    public void markAttendance_studentInTutorial_attendanceMarked() throws Exception {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        Attendance attendance = typicalAddressBook.getAttendanceList().get(0);
+        Student student = new StudentBuilder(attendance.student()).build();
+
+        typicalAddressBook.markAttendance(new Tutorial(attendance.tutorial().name()), 3, student);
+        assertTrue(attendance.isPresent(3));
+
+        typicalAddressBook.unmarkAttendance(attendance.tutorial(), 3, attendance.student());
+        assertFalse(attendance.isPresent(3));
+    }
+
+    @Test
+    public void setAttendances_severalRecords_singleChange() throws Exception {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        List<Attendance> attendances = List.copyOf(typicalAddressBook.getAttendanceList());
+        int[] changes = {0};
+        typicalAddressBook.getAttendanceList().addListener((ListChangeListener<Attendance>) c -> changes[0]++);
+
+        typicalAddressBook.setAttendances(attendances, 6, 8, true);
+        assertEquals(1, changes[0]);
+        assertTrue(attendances.stream().allMatch(a -> a.isPresentInAll(6, 8)));
+        assertTrue(typicalAddressBook.check());
+    }
+
+    @Test
+    public void check_onlyChangedEntitiesChecked() throws Exception {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        assertTrue(typicalAddressBook.check());
+
+        // Left inconsistent without going through the lists of the address book
+        Attendance attendance = typicalAddressBook.getAttendanceList().get(0);
+        attendance.student().getAttendances().remove(attendance);
+        assertTrue(typicalAddressBook.check());
+        assertThrows(IllegalStateException.class, typicalAddressBook::verify);
+
+        // Found once the attendance changes
+        typicalAddressBook.markAttendance(attendance.tutorial(), 3, attendance.student());
+        assertThrows(IllegalStateException.class, typicalAddressBook::check);
+    }
+
+    @Test
+    public void getStudentsInTutorial_enrolmentsChanged_studentsUpdated() throws Exception {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        Tutorial tutorial = new Tutorial("CS2106-T37");
+        assertEquals(List.of("Daniel Meier", "Fiona Kunz"), namesInTutorial(typicalAddressBook, tutorial));
+
+        Student carl = typicalAddressBook.getStudentList().get(2);
+        typicalAddressBook.addStudentToTutorial(tutorial, carl);
+        Student daniel = typicalAddressBook.getStudentList().get(3);
+        typicalAddressBook.removeStudentFromTutorial(tutorial, daniel);
+        // In the order of the list of students, not the order of enrolment
+        assertEquals(List.of("Carl Kurz", "Fiona Kunz"), namesInTutorial(typicalAddressBook, tutorial));
+
+        typicalAddressBook.removeStudent(carl);
+        assertEquals(List.of("Fiona Kunz"), namesInTutorial(typicalAddressBook, tutorial));
+
+        typicalAddressBook.removeTutorial(tutorial);
+        assertEquals(List.of(), namesInTutorial(typicalAddressBook, tutorial));
+    }
+
+    @Test
+    public void removeStudent_studentInTutorials_singleChangePerList() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        Student student = typicalAddressBook.getStudentList().get(0);
+        int[] changes = new int[4];
+        typicalAddressBook.getStudentList().addListener((ListChangeListener<Student>) c -> changes[0]++);
+        typicalAddressBook.getTutorialList().addListener((ListChangeListener<Tutorial>) c -> changes[1]++);
+        typicalAddressBook.getAttendanceList().addListener((ListChangeListener<Attendance>) c -> changes[2]++);
+        typicalAddressBook.getSubmissionList().addListener((ListChangeListener<Submission>) c -> changes[3]++);
+
+        typicalAddressBook.removeStudent(student);
+        assertEquals(List.of(1, 1, 1, 1), Arrays.stream(changes).boxed().toList());
+        assertFalse(typicalAddressBook.hasStudent(student));
+        assertTrue(typicalAddressBook.check());
+    }
+
+    @Test
+    public void addStudents_newStudents_addedWithAttendances() throws Exception {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        typicalAddressBook.addStudents(List.of(AMY, BOB));
+
+        assertTrue(typicalAddressBook.hasStudent(AMY));
+        assertTrue(typicalAddressBook.hasAttendance(new Attendance(T3, AMY)));
+        assertTrue(typicalAddressBook.check());
+    }
+
+    @Test
+    public void addStudents_duplicateStudent_nothingAdded() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        int attendanceCount = typicalAddressBook.getAttendanceList().size();
+
+        assertThrows(DuplicateItemException.class, (
+        ) -> typicalAddressBook.addStudents(List.of(AMY, ALICE)));
+        assertFalse(typicalAddressBook.hasStudent(AMY));
+        assertEquals(attendanceCount, typicalAddressBook.getAttendanceList().size());
+        assertEquals(attendanceCount, typicalAddressBook.getTutorialList().stream()
+                        .mapToInt(tutorial -> tutorial.attendances().size()).sum());
+        typicalAddressBook.verify();
+    }
+
+    @Test
+    public void addStudents_tutorialNotFound_nothingAdded() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        Student student = new StudentBuilder(BOB).withTutorials("Unknown").build();
+
+        assertThrows(ItemNotFoundException.class, (
+        ) -> typicalAddressBook.addStudents(List.of(AMY, student)));
+        assertFalse(typicalAddressBook.hasStudent(AMY));
+    }
+
+    private static List<String> namesInTutorial(AddressBook addressBook, Tutorial tutorial) {
+        return addressBook.getStudentsInTutorial(tutorial).stream().map(s -> s.getName().fullName).toList();
+    }
+
+    @Test
+    public void hasAttendance_attendanceInAddressBook_returnsTrue() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        Attendance attendance = typicalAddressBook.getAttendanceList().get(0);
+        assertTrue(typicalAddressBook.hasAttendance(new Attendance(attendance)));
+    }
+
+    @Test
+    public void hasAttendance_attendanceNotInAddressBook_returnsFalse() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        Attendance attendance = typicalAddressBook.getAttendanceList().get(0);
+        assertFalse(typicalAddressBook.hasAttendance(new Attendance(new Tutorial("Unknown"), attendance.student())));
+        assertFalse(typicalAddressBook.hasAttendance(new Attendance(attendance.tutorial(), AMY)));
+        assertFalse(addressBook.hasAttendance(attendance));
+    }
+
+    @Test
+    public void setSubmissionStatus_byStudentName_statusUpdated() throws Exception {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        Submission submission = typicalAddressBook.getSubmissionList().get(0);
+        var newStatus = submission.status() == SubmissionStatus.SUBMITTED ? SubmissionStatus.NOT_SUBMITTED
+                        : SubmissionStatus.SUBMITTED;
+
+        typicalAddressBook.setSubmissionStatus(submission.assignment().tutorial().name(),
+                        submission.assignment().name(), submission.student().getName().toString(), newStatus);
+        assertEquals(newStatus, submission.status());
+
+        assertThrows(ItemNotFoundException.class, (
+        ) -> typicalAddressBook.setSubmissionStatus(submission.assignment().tutorial().name(),
+                        submission.assignment().name(), "No Such Student", newStatus));
+    }
+
+    @Test
+    public void setSubmissionStatuses_severalStudents_singleChange() throws Exception {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        int[] changes = {0};
+        typicalAddressBook.getSubmissionList().addListener((ListChangeListener<Submission>) c -> changes[0]++);
+
+        var errors = typicalAddressBook.setSubmissionStatuses(T1.name(), T1_ASSIGN1.name(),
+                        List.of(ALICE.getName().fullName, CARL.getName().fullName, BENSON.getName().fullName),
+                        SubmissionStatus.GRADED);
+        assertEquals(1, changes[0]);
+        assertEquals(Set.of(CARL.getName().fullName), errors.keySet());
+        assertEquals(List.of(SubmissionStatus.GRADED, SubmissionStatus.GRADED),
+                        statusesOf(typicalAddressBook, T1_ASSIGN1));
+
+        assertEquals(2, typicalAddressBook.setSubmissionStatuses(T1.name(), T1_ASSIGN1.name(),
+                        SubmissionStatus.NOT_SUBMITTED));
+        assertEquals(2, changes[0]);
+        assertEquals(List.of(SubmissionStatus.NOT_SUBMITTED, SubmissionStatus.NOT_SUBMITTED),
+                        statusesOf(typicalAddressBook, T1_ASSIGN1));
+        assertTrue(typicalAddressBook.check());
+
+        assertThrows(ItemNotFoundException.class, (
+        ) -> typicalAddressBook.setSubmissionStatuses(T1.name(), "No Such Assignment", SubmissionStatus.GRADED));
+    }
+
+    private static List<SubmissionStatus> statusesOf(AddressBook addressBook, Assignment assignment) {
+        return addressBook.getSubmissionList().stream().filter(s -> s.assignment().hasSameIdentity(assignment))
+                        .map(Submission::status).toList();
+    }
+
+    @Test
+    public void populateSubmissions_calledAgain_noSubmissionsAdded() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        int submissionCount = typicalAddressBook.getSubmissionList().size();
+
+        typicalAddressBook.populateSubmissions();
+        assertEquals(submissionCount, typicalAddressBook.getSubmissionList().size());
+    }
+
+    @Test
+    public void getUnsavedChanges_afterMarkAttendance_onlyAttendancesChanged() throws Exception {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        typicalAddressBook.markSaved();
+        assertTrue(typicalAddressBook.getUnsavedChanges().isEmpty());
+
+        Attendance attendance = typicalAddressBook.getAttendanceList().get(0);
+        typicalAddressBook.markAttendance(attendance.tutorial(), 5, attendance.student());
+        assertEquals(Set.of(ChangeTracker.Entity.ATTENDANCE), typicalAddressBook.getUnsavedChanges());
+    }
+
     @Test
     public void getStudentList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, (
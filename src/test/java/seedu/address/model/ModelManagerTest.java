@@ -13,12 +13,16 @@ import static seedu.address.testutil.TypicalAddressBook.BENSON;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.student.NameContainsKeywordsPredicate;
+import seedu.address.model.student.Student;
+import seedu.address.model.tutorial.Tutorial;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.StudentBuilder;
 
 public class ModelManagerTest {
 
@@ -119,6 +123,31 @@ public class ModelManagerTest {
         ) -> modelManager.getFilteredStudentList().remove(0));
     }
 
+    @Test
+    public void updateFilteredStudentsByTutorialList_matchingTutorialAddedLater_studentsInItShown() throws Exception {
+        modelManager.addTutorial(new Tutorial("CS2103-T1"));
+        modelManager.addStudent(new StudentBuilder(ALICE).withTutorials("CS2103-T1").build());
+        modelManager.addStudent(new StudentBuilder(BENSON).withTutorials().build());
+        modelManager.updateFilteredStudentsByTutorialList(tutorial -> tutorial.name().startsWith("CS2106"));
+        assertEquals(List.of(), modelManager.getFilteredStudentList());
+
+        Student benson = modelManager.getAddressBook().getStudentList().get(1);
+        modelManager.addTutorial(new Tutorial("CS2106-T1"));
+        modelManager.addStudentToTutorial(new Tutorial("CS2106-T1"), benson);
+        assertEquals(List.of(benson), modelManager.getFilteredStudentList());
+    }
+
+    @Test
+    public void updateFilteredStudentList_afterFilteringByTutorial_tutorialChangesIgnored() {
+        modelManager.addTutorial(new Tutorial("CS2103-T1"));
+        modelManager.addStudent(new StudentBuilder(ALICE).withTutorials("CS2103-T1").build());
+        modelManager.updateFilteredStudentsByTutorialList(tutorial -> false);
+        modelManager.updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
+
+        modelManager.addTutorial(new Tutorial("CS2106-T1"));
+        assertEquals(1, modelManager.getFilteredStudentList().size());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withStudent(ALICE).withStudent(BENSON).build();
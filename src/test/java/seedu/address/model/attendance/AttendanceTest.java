@@ -0,0 +1,78 @@
+package seedu.address.model.attendance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TestUtil.getWeeks;
+import static seedu.address.testutil.TypicalAddressBook.ALICE;
+import static seedu.address.testutil.TypicalAddressBook.T1;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class AttendanceTest {
+    @Test
+    public void setAttendance_week_onlyThatWeekChanged() {
+        var attendance = new Attendance(T1, ALICE);
+        attendance.setAttendance(4, true);
+        attendance.setAttendance(13, true);
+
+        assertTrue(attendance.isPresent(4));
+        assertTrue(attendance.isPresent(13));
+        assertFalse(attendance.isPresent(3));
+        assertEquals(2, attendance.countPresent());
+        assertEquals(List.of(0, 1, 0, 0, 0, 0, 0, 0, 0, 0, 1), getWeeks(attendance));
+
+        attendance.setAttendance(4, false);
+        assertFalse(attendance.isPresent(4));
+        assertEquals(1, attendance.countPresent());
+    }
+
+    @Test
+    public void setAttendance_rangeOfWeeks_onlyThoseWeeksChanged() {
+        var attendance = new Attendance(T1, ALICE);
+        attendance.setAttendance(5, 8, true);
+        assertEquals(List.of(0, 0, 1, 1, 1, 1, 0, 0, 0, 0, 0), getWeeks(attendance));
+
+        attendance.setAttendance(3, 6, false);
+        assertEquals(List.of(0, 0, 0, 0, 1, 1, 0, 0, 0, 0, 0), getWeeks(attendance));
+    }
+
+    @Test
+    public void setAttendance_weekOutOfRange_throwsIndexOutOfBoundsException() {
+        var attendance = new Attendance(T1, ALICE);
+        assertThrows(IndexOutOfBoundsException.class, (
+        ) -> attendance.setAttendance(Attendance.FIRST_WEEK - 1, true));
+        assertThrows(IndexOutOfBoundsException.class, (
+        ) -> attendance.setAttendance(Attendance.LAST_WEEK + 1, true));
+    }
+
+    @Test
+    public void isPresentInAllAndAny_rangeOfWeeks() {
+        // Present in weeks 5 to 7
+        var attendance = new Attendance(T1, ALICE, 0b11100);
+
+        assertTrue(attendance.isPresentInAll(5, 7));
+        assertFalse(attendance.isPresentInAll(4, 7));
+        assertTrue(attendance.isPresentInAny(3, 5));
+        assertFalse(attendance.isPresentInAny(8, 13));
+        assertFalse(attendance.isPresentInAll(Attendance.FIRST_WEEK, Attendance.LAST_WEEK));
+    }
+
+    @Test
+    public void constructor_weeksPastLastWeek_ignored() {
+        var attendance = new Attendance(T1, ALICE, -1);
+        assertEquals(Attendance.NUMBER_OF_WEEKS, attendance.countPresent());
+        assertTrue(attendance.isPresentInAll(Attendance.FIRST_WEEK, Attendance.LAST_WEEK));
+    }
+
+    @Test
+    public void toStringMethod() {
+        var attendance = new Attendance(T1, ALICE);
+        attendance.setAttendance(4, true);
+        attendance.setAttendance(13, true);
+        assertEquals("%s %s [0, 1, 0, 0, 0, 0, 0, 0, 0, 0, 1]".formatted(T1, ALICE), attendance.toString());
+    }
+}
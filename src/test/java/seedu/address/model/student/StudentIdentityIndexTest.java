@@ -0,0 +1,85 @@
+package seedu.address.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_HANDLE_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_ID_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
+import static seedu.address.testutil.TypicalAddressBook.ALICE;
+import static seedu.address.testutil.TypicalAddressBook.BENSON;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.student.StudentIdentityIndex.Conflict;
+import seedu.address.model.student.StudentIdentityIndex.Field;
+import seedu.address.model.uniquelist.UniqueList;
+import seedu.address.testutil.StudentBuilder;
+
+public class StudentIdentityIndexTest {
+
+    @Test
+    public void findConflict_differentStudent_returnsEmpty() {
+        var index = new StudentIdentityIndex(new UniqueList<>(List.of(ALICE)));
+        var bob = new StudentBuilder().withName(VALID_NAME_BOB).withStudentId(VALID_ID_BOB).withPhone(VALID_PHONE_BOB)
+                        .withEmail(VALID_EMAIL_BOB).withHandle(VALID_HANDLE_BOB).build();
+        assertTrue(index.findConflict(bob).isEmpty());
+    }
+
+    @Test
+    public void findConflict_sameField_returnsCollidingField() {
+        var index = new StudentIdentityIndex(new UniqueList<>(List.of(ALICE, BENSON)));
+
+        assertEquals(Optional.of(new Conflict(ALICE, Field.NAME)), index.findConflict(new StudentBuilder(ALICE)
+                        .build()));
+
+        var sameEmail = new StudentBuilder(ALICE).withName(VALID_NAME_BOB).withStudentId(VALID_ID_BOB)
+                        .withPhone(VALID_PHONE_BOB).build();
+        assertEquals(Optional.of(new Conflict(ALICE, Field.EMAIL)), index.findConflict(sameEmail));
+    }
+
+    @Test
+    public void findConflict_ignoredStudent_returnsEmpty() {
+        var index = new StudentIdentityIndex(new UniqueList<>(List.of(ALICE, BENSON)));
+        assertTrue(index.findConflict(new StudentBuilder(ALICE).build(), ALICE).isEmpty());
+    }
+
+    @Test
+    public void findConflict_ignoredStudentNotInList_returnsConflict() {
+        var index = new StudentIdentityIndex(new UniqueList<>(List.of(ALICE, BENSON)));
+        var sameAsAlice = new StudentBuilder(ALICE).build();
+        assertEquals(Optional.of(new Conflict(ALICE, Field.NAME)), index.findConflict(sameAsAlice,
+                        new StudentBuilder(ALICE).build()));
+    }
+
+    @Test
+    public void findConflict_listModified_conflictsOfListReturned() {
+        var students = new UniqueList<Student>();
+        var index = new StudentIdentityIndex(students);
+
+        students.add(ALICE);
+        assertTrue(index.findConflict(new StudentBuilder(ALICE).build()).isPresent());
+
+        students.remove(ALICE);
+        assertTrue(index.findConflict(new StudentBuilder(ALICE).build()).isEmpty());
+    }
+
+    @Test
+    public void field_keyPosition_matchesIdentityKeys() {
+        var keys = ALICE.identityKeys();
+        assertEquals(keys.size(), Field.values().length);
+        for (var field : Field.values()) {
+            assertEquals(keys.get(field.keyPosition()), field.valueOf(ALICE));
+        }
+    }
+
+    @Test
+    public void toString_conflict_describesStudentAndField() {
+        assertEquals("'%s' has the same phone number".formatted(ALICE.getName()),
+                        new Conflict(ALICE, Field.PHONE).toString());
+    }
+}
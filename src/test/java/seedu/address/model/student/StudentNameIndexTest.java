@@ -0,0 +1,48 @@
+package seedu.address.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalAddressBook.ALICE;
+import static seedu.address.testutil.TypicalAddressBook.BENSON;
+import static seedu.address.testutil.TypicalAddressBook.DANIEL;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import seedu.address.testutil.StudentBuilder;
+
+public class StudentNameIndexTest {
+
+    @Test
+    public void findAny_wordsOfNames_returnsStudentsWithAnyWord() {
+        var index = new StudentNameIndex(List.of(ALICE, BENSON, DANIEL));
+
+        assertEquals(Set.of(BENSON, DANIEL), index.findAny(List.of("mEIER")));
+        assertEquals(Set.of(ALICE, DANIEL), index.findAny(List.of("alice", "Daniel")));
+
+        // Only whole words match
+        assertTrue(index.findAny(List.of("Mei")).isEmpty());
+        assertTrue(index.findAny(List.of()).isEmpty());
+    }
+
+    @Test
+    public void onChanged_listModified_indexUpdated() {
+        var students = FXCollections.<Student>observableArrayList();
+        var index = new StudentNameIndex();
+        students.addListener(index);
+
+        students.addAll(ALICE, BENSON);
+        assertEquals(Set.of(ALICE), index.findAny(List.of("Pauline")));
+
+        var renamedAlice = new StudentBuilder(ALICE).withName("Alice Tan").build();
+        students.set(0, renamedAlice);
+        assertTrue(index.findAny(List.of("Pauline")).isEmpty());
+        assertEquals(Set.of(renamedAlice), index.findAny(List.of("tan")));
+
+        students.remove(BENSON);
+        assertTrue(index.findAny(List.of("Benson")).isEmpty());
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.address.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalAddressBook.ALICE;
+import static seedu.address.testutil.TypicalAddressBook.BENSON;
+import static seedu.address.testutil.TypicalAddressBook.CARL;
+import static seedu.address.testutil.TypicalAddressBook.DANIEL;
+import static seedu.address.testutil.TypicalAddressBook.ELLE;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import seedu.address.testutil.StudentBuilder;
+
+public class StudentSearchIndexTest {
+
+    private final StudentSearchIndex index = new StudentSearchIndex(List.of(ALICE, BENSON, CARL, DANIEL, ELLE));
+
+    @Test
+    public void search_prefixOfAnyField_studentsFound() {
+        assertEquals(List.of(ALICE), index.search(List.of("pau")));
+        assertEquals(List.of(ALICE), index.search(List.of("A0743")));
+        assertEquals(List.of(BENSON), index.search(List.of("johnd@")));
+        assertEquals(List.of(CARL), index.search(List.of("@carl_k")));
+        assertEquals(List.of(DANIEL), index.search(List.of("dannn")));
+    }
+
+    @Test
+    public void search_typo_studentsFound() {
+        assertEquals(List.of(ALICE), index.search(List.of("alcie")));
+        assertEquals(List.of(ALICE), index.search(List.of("Puline")));
+
+        // Too many mistakes for a short keyword
+        assertTrue(index.search(List.of("axxe")).isEmpty());
+    }
+
+    @Test
+    public void search_severalMatches_rankedByMatch() {
+        // Exact matches before prefixes before typos, with ties in the order indexed
+        assertEquals(List.of(BENSON, DANIEL, ELLE), index.search(List.of("meier")));
+        assertEquals(List.of(DANIEL, BENSON, ELLE), index.search(List.of("meier", "daniel")));
+    }
+
+    @Test
+    public void search_editDistance() {
+        assertEquals(0, StudentSearchIndex.editDistance("kunz", "kunz", 2));
+        assertEquals(1, StudentSearchIndex.editDistance("kunx", "kunz", 2));
+        assertEquals(2, StudentSearchIndex.editDistance("alcie", "alice", 2));
+        assertEquals(3, StudentSearchIndex.editDistance("alice", "bob", 2));
+    }
+
+    @Test
+    public void onChanged_listModified_indexUpdated() {
+        var students = FXCollections.<Student>observableArrayList();
+        var searchIndex = new StudentSearchIndex();
+        students.addListener(searchIndex);
+
+        students.addAll(ALICE, BENSON);
+        var renamedAlice = new StudentBuilder(ALICE).withName("Alicia Tan").build();
+        students.set(0, renamedAlice);
+        assertTrue(searchIndex.search(List.of("pauline")).isEmpty());
+        assertEquals(List.of(renamedAlice), searchIndex.search(List.of("tan")));
+
+        students.remove(BENSON);
+        assertTrue(searchIndex.search(List.of("benson")).isEmpty());
+    }
+}
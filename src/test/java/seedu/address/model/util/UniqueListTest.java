@@ -8,13 +8,16 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TUTORIAL_2;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalAddressBook.ALICE;
 import static seedu.address.testutil.TypicalAddressBook.BOB;
+import static seedu.address.testutil.TypicalAddressBook.CARL;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.student.Student;
 import seedu.address.model.uniquelist.UniqueList;
 import seedu.address.model.uniquelist.exceptions.DuplicateItemException;
@@ -50,6 +53,24 @@ public class UniqueListTest {
         assertTrue(uniqueStudentList.containsIdentity(editedAlice));
     }
 
+    @Test
+    public void findByKey_keyOfItemInList_returnsItem() {
+        uniqueStudentList.add(ALICE);
+        assertEquals(Optional.of(ALICE), uniqueStudentList.findByKey(1, ALICE.getStudentId()));
+        assertTrue(uniqueStudentList.findByKey(0, ALICE.getStudentId()).isEmpty());
+        assertTrue(uniqueStudentList.findByKey(ALICE.identityKeys().size(), ALICE.getName()).isEmpty());
+    }
+
+    @Test
+    public void findByKey_keyChangedInPlace_returnsEmpty() {
+        Student alice = new StudentBuilder(ALICE).build();
+        uniqueStudentList.add(alice);
+
+        alice.setName(BOB.getName());
+
+        assertTrue(uniqueStudentList.findByKey(0, ALICE.getName()).isEmpty());
+    }
+
     @Test
     public void add_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, (
@@ -184,6 +205,87 @@ public class UniqueListTest {
         ) -> uniqueStudentList.setAll(listWithDuplicateStudents));
     }
 
+    @Test
+    public void addAll_newEntities_addedInSingleChange() throws Exception {
+        uniqueStudentList.add(ALICE);
+        var changeCount = new int[1];
+        ListChangeListener<Student> countChanges = c -> changeCount[0]++;
+        uniqueStudentList.asUnmodifiableObservableList().addListener(countChanges);
+
+        uniqueStudentList.addAll(List.of(BOB, CARL));
+        assertEquals(List.of(ALICE, BOB, CARL), uniqueStudentList.asUnmodifiableObservableList());
+        assertEquals(1, changeCount[0]);
+        assertTrue(uniqueStudentList.containsIdentity(CARL));
+    }
+
+    @Test
+    public void addAll_entityAlreadyInList_throwsDuplicateItemException() {
+        uniqueStudentList.add(ALICE);
+        assertThrows(DuplicateItemException.class, (
+        ) -> uniqueStudentList.addAll(List.of(BOB, ALICE)));
+        assertEquals(List.of(ALICE), uniqueStudentList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void addAll_duplicateEntities_throwsDuplicateItemException() {
+        assertThrows(DuplicateItemException.class, (
+        ) -> uniqueStudentList.addAll(List.of(BOB, BOB)));
+        assertTrue(uniqueStudentList.isEmpty());
+    }
+
+    @Test
+    public void commit_severalModificationsInBatch_singleChange() throws Exception {
+        var changeCount = new int[1];
+        ListChangeListener<Student> countChanges = c -> changeCount[0]++;
+        uniqueStudentList.asUnmodifiableObservableList().addListener(countChanges);
+
+        uniqueStudentList.beginBatch();
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.add(BOB);
+        uniqueStudentList.remove(ALICE);
+        // Lookups see the modifications made earlier in the batch
+        assertFalse(uniqueStudentList.containsIdentity(ALICE));
+        assertTrue(uniqueStudentList.add(ALICE));
+        uniqueStudentList.set(BOB, BOB);
+        assertEquals(0, changeCount[0]);
+
+        uniqueStudentList.commit();
+        assertEquals(1, changeCount[0]);
+        assertEquals(List.of(BOB, ALICE), uniqueStudentList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void removeIf_existingEntity_identityNoLongerContained() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.removeIf(s -> s.hasSameIdentity(ALICE));
+        assertFalse(uniqueStudentList.containsIdentity(ALICE));
+        assertTrue(uniqueStudentList.add(ALICE));
+    }
+
+    @Test
+    public void refresh_identityChangedInPlace_indexedByNewIdentity() {
+        Student alice = new StudentBuilder(ALICE).build();
+        uniqueStudentList.add(alice);
+
+        alice.setName(BOB.getName());
+        uniqueStudentList.refresh(alice);
+
+        assertTrue(uniqueStudentList.containsIdentity(new StudentBuilder(BOB).build()));
+        assertEquals(alice, uniqueStudentList.find(BOB).orElseThrow());
+    }
+
+    @Test
+    public void set_afterEarlierItemRemoved_replacesItem() throws DuplicateItemException, ItemNotFoundException {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.add(BOB);
+        uniqueStudentList.set(BOB, BOB);
+        uniqueStudentList.remove(ALICE);
+
+        Student editedBob = new StudentBuilder(BOB).withHandle(VALID_HANDLE_BOB).build();
+        uniqueStudentList.set(BOB, editedBob);
+        assertEquals(List.of(editedBob), uniqueStudentList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, (
@@ -0,0 +1,129 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+public class BackgroundSaverTest {
+
+    @Test
+    public void submit_saves_writtenInOrder() throws Exception {
+        var saver = new BackgroundSaver();
+        var written = new CopyOnWriteArrayList<String>();
+
+        saver.submit(new SaveStub("a", false, written));
+        saver.submit(new SaveStub("b", false, written));
+        saver.flush();
+
+        assertEquals(List.of("a", "b"), written);
+    }
+
+    @Test
+    public void submit_saves_bytesWrittenReported() throws Exception {
+        var bytesWritten = new CopyOnWriteArrayList<Long>();
+        var saver = new BackgroundSaver((bytes, nanos) -> bytesWritten.add(bytes));
+
+        saver.submit(new SaveStub("a", false, new CopyOnWriteArrayList<>()));
+        saver.submit(new SaveStub("abc", false, new CopyOnWriteArrayList<>()));
+        saver.flush();
+
+        assertEquals(List.of(1L, 3L), bytesWritten);
+    }
+
+    @Test
+    public void submit_completeSaveWhileWriting_waitingSavesDropped() throws Exception {
+        var saver = new BackgroundSaver();
+        var written = new CopyOnWriteArrayList<String>();
+        var isWriting = new CountDownLatch(1);
+        var canFinish = new CountDownLatch(1);
+
+        saver.submit(new SaveStub("first", true, written) {
+            @Override
+            public long write() throws IOException {
+                isWriting.countDown();
+                try {
+                    canFinish.await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+                return super.write();
+            }
+        });
+        isWriting.await();
+
+        saver.submit(new SaveStub("dropped", false, written));
+        saver.submit(new SaveStub("dropped too", true, written));
+        saver.submit(new SaveStub("latest", true, written));
+        canFinish.countDown();
+        saver.flush();
+
+        assertEquals(List.of("first", "latest"), written);
+    }
+
+    @Test
+    public void takeFailure_writeFailed_failureTakenOnce() throws Exception {
+        var saver = new BackgroundSaver();
+        var failure = new IOException("dummy");
+
+        saver.submit(new SaveStub("failing", true, List.of()) {
+            @Override
+            public long write() throws IOException {
+                throw failure;
+            }
+        });
+
+        assertThrows(IOException.class, "dummy", saver::flush);
+        assertTrue(saver.takeFailure().isEmpty());
+    }
+
+    @Test
+    public void submit_writeFailed_failurePassedToListener() throws Exception {
+        var failures = new CopyOnWriteArrayList<IOException>();
+        var saver = new BackgroundSaver((bytes, nanos) -> {
+        }, failures::add);
+        var failure = new IOException("dummy");
+
+        saver.submit(new SaveStub("failing", true, List.of()) {
+            @Override
+            public long write() throws IOException {
+                throw failure;
+            }
+        });
+
+        assertThrows(IOException.class, "dummy", saver::flush);
+        assertEquals(List.of(failure), failures);
+    }
+
+    /**
+     * A save that records its name when written.
+     */
+    private static class SaveStub implements PendingSave {
+        private final String name;
+        private final boolean isComplete;
+        private final List<String> written;
+
+        SaveStub(String name, boolean isComplete, List<String> written) {
+            this.name = name;
+            this.isComplete = isComplete;
+            this.written = written;
+        }
+
+        @Override
+        public long write() throws IOException {
+            written.add(name);
+            return name.length();
+        }
+
+        @Override
+        public boolean isComplete() {
+            return isComplete;
+        }
+    }
+}
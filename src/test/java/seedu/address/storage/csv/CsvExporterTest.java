@@ -0,0 +1,70 @@
+package seedu.address.storage.csv;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalAddressBook.ALICE;
+import static seedu.address.testutil.TypicalAddressBook.BENSON;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.student.Student;
+
+public class CsvExporterTest {
+
+    @Test
+    public void write_values_allQuotedWithQuotesDoubled() throws Exception {
+        var exporter = new CsvExporter<String>(List.of(new CsvExporter.Column<>("VALUE", value -> value),
+                        new CsvExporter.Column<>("LENGTH", value -> String.valueOf(value.length()))));
+        var writer = new StringWriter();
+
+        long rowCount = exporter.write(List.of("plain", "a,b", "say \"hi\"", " padded", ""), writer);
+
+        assertEquals(5, rowCount);
+        assertEquals("""
+                        "VALUE","LENGTH"
+                        "plain","5"
+                        "a,b","3"
+                        "say ""hi""\"","8"
+                        " padded","7"
+                        "","0"
+                        """, writer.toString());
+    }
+
+    @Test
+    public void write_students_headerAndRowsInExportFormat() throws Exception {
+        var writer = new StringWriter();
+        CsvExporter.STUDENTS.write(List.of(ALICE, BENSON), writer);
+
+        assertEquals("""
+                        "EMAIL","HANDLE","ID","NAME","PHONE","TUTORIALS"
+                        "alice@example.com","@alice_pauline","A0743062E","Alice Pauline","94351253","CS2103-T1"
+                        "johnd@example.com","@benson_meier","A0179034R","Benson Meier","98765432","CS2103-T1;CS2106-T02"
+                        """, writer.toString());
+    }
+
+    @Test
+    public void write_students_readBackByCsvStudentReader() throws Exception {
+        var writer = new StringWriter();
+        assertEquals(2, CsvExporter.STUDENTS.write(List.of(ALICE, BENSON), writer));
+
+        List<Student> students;
+        try (var reader = new CsvStudentReader(new StringReader(writer.toString()))) {
+            students = reader.rows().map(row -> {
+                try {
+                    return row.student().toModelType();
+                } catch (Exception e) {
+                    throw new AssertionError(e);
+                }
+            }).toList();
+        }
+
+        assertEquals(List.of(ALICE.getName(), BENSON.getName()), students.stream().map(Student::getName).toList());
+        assertEquals(BENSON.getStudentId(), students.get(1).getStudentId());
+        assertEquals(BENSON.getHandle(), students.get(1).getHandle());
+        assertEquals(ALICE.getTutorials(), students.get(0).getTutorials());
+        assertEquals(BENSON.getTutorials(), students.get(1).getTutorials());
+    }
+}
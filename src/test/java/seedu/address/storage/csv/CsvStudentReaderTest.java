@@ -0,0 +1,64 @@
+package seedu.address.storage.csv;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.student.Student;
+import seedu.address.model.tutorial.Tutorial;
+
+public class CsvStudentReaderTest {
+
+    @Test
+    public void rows_columnsInAnyOrderAndCase_studentsRead() throws Exception {
+        var csv = """
+                        \uFEFFTUTORIALS,Email,HANDLE,ID,NAME,PHONE
+                        CS2103-T1;CS2106-T02,john@example.com,@john_doe,A0123456Z,John Doe,98765432
+
+                        ,jane@example.com,@jane_doe,A0123457Z,Jane Doe,98765433
+                        """;
+
+        List<CsvStudentReader.Row> rows;
+        try (var reader = new CsvStudentReader(new StringReader(csv))) {
+            rows = reader.rows().toList();
+        }
+
+        assertEquals(List.of(2L, 4L), rows.stream().map(CsvStudentReader.Row::number).toList());
+
+        Student john = rows.get(0).student().toModelType();
+        assertEquals("John Doe", john.getName().fullName);
+        assertEquals("A0123456Z", john.getStudentId().id);
+        assertEquals(Set.of(new Tutorial("CS2103-T1"), new Tutorial("CS2106-T02")), john.getTutorials());
+        assertEquals(Set.of(), rows.get(1).student().toModelType().getTutorials());
+    }
+
+    @Test
+    public void rows_missingOrInvalidValues_throwsIllegalValueException() throws Exception {
+        var csv = """
+                        name,id,phone,email,handle
+                        John Doe,A0123456Z,98765432
+                        John Doe,not an id,98765432,john@example.com,@john_doe
+                        """;
+
+        try (var reader = new CsvStudentReader(new StringReader(csv))) {
+            var rows = reader.rows().toList();
+            assertThrows(IllegalValueException.class, rows.get(0).student()::toModelType);
+            assertThrows(IllegalValueException.class, rows.get(1).student()::toModelType);
+        }
+    }
+
+    @Test
+    public void constructor_missingColumns_throwsIOException() {
+        assertThrows(IOException.class, CsvStudentReader.MESSAGE_MISSING_COLUMNS.formatted("id, handle"), (
+        ) -> new CsvStudentReader(new StringReader("name,phone,email\n")));
+        assertThrows(IOException.class, CsvStudentReader.MESSAGE_EMPTY_FILE, (
+        ) -> new CsvStudentReader(new StringReader("")));
+    }
+}
@@ -0,0 +1,59 @@
+package seedu.address.storage.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.StudentBuilder;
+
+public class JsonAddressBookAdapterTest {
+
+    @Test
+    public void adapt_studentEdited_onlyEditedEntitiesConvertedAgain() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        var adapter = new JsonAddressBookAdapter(addressBook);
+        var before = adapter.adapt();
+
+        var student = addressBook.getStudentList().get(0);
+        addressBook.setStudent(student, new StudentBuilder(student).withName("Someone Else").build());
+        var after = adapter.adapt();
+
+        assertNotSame(before.getStudents().get(0), after.getStudents().get(0));
+        assertSame(before.getStudents().get(1), after.getStudents().get(1));
+        assertSame(before.getTutorials(), after.getTutorials());
+        assertEquals(addressBook, after.toModelType());
+
+        // The earlier conversion is not changed by the edit
+        assertEquals(getTypicalAddressBook(), before.toModelType());
+    }
+
+    @Test
+    public void adapt_tutorialRemoved_tutorialsConvertedAgain() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        var adapter = new JsonAddressBookAdapter(addressBook);
+        var before = adapter.adapt();
+
+        addressBook.removeTutorial(addressBook.getTutorialList().get(0));
+        var after = adapter.adapt();
+
+        assertNotSame(before.getTutorials(), after.getTutorials());
+        assertEquals(addressBook, after.toModelType());
+    }
+
+    @Test
+    public void close_addressBookChanged_changesIgnored() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        var adapter = new JsonAddressBookAdapter(addressBook);
+        var before = adapter.adapt();
+        adapter.close();
+
+        var student = addressBook.getStudentList().get(0);
+        addressBook.setStudent(student, new StudentBuilder(student).withName("Someone Else").build());
+
+        assertSame(before.getStudents().get(0), adapter.adapt().getStudents().get(0));
+    }
+}
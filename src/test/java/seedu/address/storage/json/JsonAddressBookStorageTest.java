@@ -3,6 +3,7 @@ package seedu.address.storage.json;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalAddressBook.ALICE;
 import static seedu.address.testutil.TypicalAddressBook.HOON;
@@ -10,6 +11,7 @@ import static seedu.address.testutil.TypicalAddressBook.IDA;
 import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -19,6 +21,7 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.StudentBuilder;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -63,6 +66,43 @@ public class JsonAddressBookStorageTest {
         ) -> readAddressBook("invalidAndValidStudentAddressBook.json"));
     }
 
+    @Test
+    public void readAddressBook_sectionsBeforeTheirDependencies_success() throws Exception {
+        // Written before sections were ordered by their dependencies
+        Path filePath = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest", "typicalAddressBook.json");
+        assertEquals(getTypicalAddressBook(), new AddressBook(readAddressBookAt(filePath)));
+    }
+
+    @Test
+    public void saveAddressBook_sectionsOrderedByDependencies() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        String content = Files.readString(filePath);
+        assertTrue(content.indexOf("\"tutorials\"") < content.indexOf("\"students\""));
+        assertTrue(content.indexOf("\"assignments\" : [") < content.indexOf("\"submissions\" : ["));
+        assertEquals(getTypicalAddressBook(), new AddressBook(readAddressBookAt(filePath)));
+    }
+
+    @Test
+    public void saveAddressBook_readFromVersion1_savedAsVersion2() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Files.copy(Paths.get("src", "test", "data", "JsonSerializableAddressBookTest", "typicalAddressBook.json"),
+                        filePath);
+        var storage = new JsonAddressBookStorage(filePath);
+        storage.saveAddressBook(storage.readAddressBook().get());
+
+        String content = Files.readString(filePath);
+        assertTrue(content.contains("\"version\" : 2"));
+        assertTrue(content.contains("\"weeks\" : 2"));
+        assertFalse(content.contains("\"attendances\" : [ 0"));
+        assertEquals(getTypicalAddressBook(), new AddressBook(readAddressBookAt(filePath)));
+    }
+
+    private static ReadOnlyAddressBook readAddressBookAt(Path filePath) throws Exception {
+        return new JsonAddressBookStorage(filePath).readAddressBook().get();
+    }
+
     @Test
     public void readAndSaveAddressBook_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempAddressBook.json");
@@ -96,6 +136,28 @@ public class JsonAddressBookStorageTest {
         ) -> new AddressBook(jsonAddressBookStorage.readAddressBook(filePath).get()).check());
     }
 
+    @Test
+    public void saveAddressBook_onlyChangedEntities_savedDataUpToDate() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(original);
+        original.markSaved();
+
+        // Attendances changed
+        var attendance = original.getAttendanceList().get(0);
+        original.markAttendance(attendance.tutorial(), 5, attendance.student());
+        jsonAddressBookStorage.saveAddressBook(original, original.getUnsavedChanges());
+        original.markSaved();
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+
+        // Students changed, which are also held by attendances and submissions
+        var student = original.getStudentList().get(0);
+        original.setStudent(student, new StudentBuilder(student).withName("Someone Else").build());
+        jsonAddressBookStorage.saveAddressBook(original, original.getUnsavedChanges());
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, (
@@ -0,0 +1,165 @@
+package seedu.address.storage.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAddressBook.ALICE;
+import static seedu.address.testutil.TypicalAddressBook.HOON;
+import static seedu.address.testutil.TypicalAddressBook.T1;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.tutorial.Assignment;
+import seedu.address.testutil.StudentBuilder;
+
+public class JsonJournalAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        var storage = new JsonJournalAddressBookStorage(testFolder.resolve("NonExistentFile.json"));
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_changesJournaled_readBackWithChanges() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        var storage = new JsonJournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        var snapshot = Files.readString(filePath);
+
+        modify(original);
+        storage.saveAddressBook(original, original.getUnsavedChanges());
+
+        // Changes are only appended to the journal
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(original, new AddressBook(new JsonJournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_snapshotIntervalReached_journalCompacted() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        var storage = new JsonJournalAddressBookStorage(filePath, 1);
+        storage.saveAddressBook(original);
+
+        modify(original);
+        storage.saveAddressBook(original, original.getUnsavedChanges());
+
+        // Only the snapshot marker is left in the journal
+        var journalPath = JsonJournalAddressBookStorage.getJournalPath(filePath);
+        assertEquals(1, Files.readAllLines(journalPath).size());
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void flushAddressBook_changesJournaled_snapshotWritten() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        var storage = new JsonJournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+
+        modify(original);
+        storage.saveAddressBook(original, original.getUnsavedChanges());
+        storage.flushAddressBook(original);
+
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_journalForOtherSnapshot_journalIgnored() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        var storage = new JsonJournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        modify(original);
+        storage.saveAddressBook(original, original.getUnsavedChanges());
+
+        // Data file replaced without going through the journal
+        AddressBook replacement = getTypicalAddressBook();
+        replacement.addStudent(HOON);
+        new JsonAddressBookStorage(filePath).saveAddressBook(replacement);
+
+        assertEquals(replacement, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastEntry_earlierEntriesApplied() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        var storage = new JsonJournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        modify(original);
+        storage.saveAddressBook(original, original.getUnsavedChanges());
+
+        Files.writeString(JsonJournalAddressBookStorage.getJournalPath(filePath), "{\"operation\":\"PU",
+                        StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void prepareSave_writtenLater_changesUpToPreparationSaved() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        var storage = new JsonJournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+
+        modify(original);
+        var pendingSave = storage.prepareSave(original, original.getUnsavedChanges());
+        var expected = new AddressBook(original);
+        original.removeStudent(original.getStudentList().get(0));
+        pendingSave.write();
+
+        assertEquals(expected, new AddressBook(new JsonJournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void prepareSave_snapshotWriteFailed_snapshotWrittenUntilOneSucceeds() throws Exception {
+        Path blockingFile = testFolder.resolve("blocked");
+        Files.createFile(blockingFile);
+        Path filePath = blockingFile.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        var storage = new JsonJournalAddressBookStorage(filePath);
+        assertThrows(IOException.class, (
+        ) -> storage.saveAddressBook(original));
+
+        Files.delete(blockingFile);
+        modify(original);
+        var pendingSave = storage.prepareSave(original, original.getUnsavedChanges());
+        assertTrue(pendingSave.isComplete());
+        pendingSave.write();
+
+        original.removeStudent(original.getStudentList().get(0));
+        assertFalse(storage.prepareSave(original, original.getUnsavedChanges()).isComplete());
+    }
+
+    /**
+     * Makes a change to each kind of entity in {@code addressBook}
+     */
+    private static void modify(AddressBook addressBook) throws Exception {
+        var attendance = addressBook.getAttendanceList().get(0);
+        addressBook.markAttendance(attendance.tutorial(), 7, attendance.student());
+
+        var student = addressBook.getStudentList().get(1);
+        addressBook.setStudent(student, new StudentBuilder(student).withName("Someone Else").build());
+
+        addressBook.addAssignment(new Assignment("Journal Tasks", T1));
+        addressBook.addStudent(HOON);
+        addressBook.removeStudent(addressBook.getStudentList().stream().filter(s -> s.hasSameIdentity(ALICE))
+                        .findFirst().orElseThrow());
+    }
+}
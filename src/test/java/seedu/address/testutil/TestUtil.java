@@ -4,9 +4,12 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.IntStream;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.model.Model;
+import seedu.address.model.attendance.Attendance;
 import seedu.address.model.student.Student;
 
 /**
@@ -52,4 +55,14 @@ public class TestUtil {
     public static Student getStudent(Model model, Index index) {
         return model.getFilteredStudentList().get(index.getZeroBased());
     }
+
+    /**
+     * Returns the attendance of each week of {@code attendance} from
+     * {@link Attendance#FIRST_WEEK}, as 1 if the student was present and 0
+     * otherwise.
+     */
+    public static List<Integer> getWeeks(Attendance attendance) {
+        return IntStream.rangeClosed(Attendance.FIRST_WEEK, Attendance.LAST_WEEK)
+                        .mapToObj(week -> attendance.isPresent(week) ? 1 : 0).toList();
+    }
 }
@@ -0,0 +1,75 @@
+package seedu.address.ui.submission;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalAddressBook.ALICE;
+import static seedu.address.testutil.TypicalAddressBook.T1;
+import static seedu.address.testutil.TypicalAddressBook.T1_ASSIGN1;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.AddressBook;
+import seedu.address.model.student.Student;
+import seedu.address.model.submission.Submission;
+import seedu.address.model.submission.SubmissionStatus;
+import seedu.address.ui.submission.SubmissionListPanel.SubmissionInfo;
+
+public class GroupedSubmissionListTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+    private final GroupedSubmissionList groupedList = new GroupedSubmissionList(addressBook.getSubmissionList());
+
+    private List<String> rowNames() {
+        return groupedList.getRows().stream().map(row -> row.student().getName().fullName).toList();
+    }
+
+    private Student studentNamed(String name) {
+        return addressBook.getStudentList().stream().filter(s -> s.getName().fullName.equals(name)).findFirst()
+                        .orElseThrow();
+    }
+
+    @Test
+    public void constructor_submissionsGroupedByStudentAndTutorial() {
+        assertEquals(List.of("Alice Pauline", "Benson Meier", "Daniel Meier", "Fiona Kunz"), rowNames());
+
+        SubmissionInfo benson = groupedList.getRows().get(1);
+        assertEquals(2, benson.tutorialSubmissions().size());
+        assertEquals(1, benson.tutorialSubmissions().get(T1).size());
+    }
+
+    @Test
+    public void setSubmissionStatus_onlyRowOfStudentReplaced() throws Exception {
+        var rowsBefore = new ArrayList<>(groupedList.getRows());
+        int[] changes = {0};
+        groupedList.getRows().addListener((ListChangeListener<SubmissionInfo>) c -> changes[0]++);
+
+        addressBook.setSubmissionStatus(T1.name(), T1_ASSIGN1.name(), ALICE.getName().fullName,
+                        SubmissionStatus.GRADED);
+
+        assertEquals(1, changes[0]);
+        var alice = groupedList.getRows().get(0);
+        assertEquals(SubmissionStatus.GRADED, alice.tutorialSubmissions().get(T1).get(0).status());
+        for (int i = 1; i < rowsBefore.size(); i++) {
+            assertSame(rowsBefore.get(i), groupedList.getRows().get(i));
+        }
+    }
+
+    @Test
+    public void enrolmentsChanged_rowsAddedAndRemoved() throws Exception {
+        addressBook.addStudentToTutorial(T1, studentNamed("Carl Kurz"));
+        assertEquals(List.of("Alice Pauline", "Benson Meier", "Daniel Meier", "Fiona Kunz", "Carl Kurz"), rowNames());
+
+        addressBook.removeStudent(studentNamed("Alice Pauline"));
+        assertEquals(List.of("Benson Meier", "Daniel Meier", "Fiona Kunz", "Carl Kurz"), rowNames());
+        assertFalse(groupedList.getRows().stream().flatMap(row -> row.tutorialSubmissions().values().stream())
+                        .flatMap(List::stream).map(Submission::student).anyMatch(s -> s.isSameStudent(ALICE)));
+        assertTrue(groupedList.getRows().stream().allMatch(row -> !row.tutorialSubmissions().isEmpty()));
+    }
+}